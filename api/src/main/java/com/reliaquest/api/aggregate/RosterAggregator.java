@@ -0,0 +1,84 @@
+package com.reliaquest.api.aggregate;
+
+import com.reliaquest.api.dto.EmployeeResponse;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Single-pass aggregation over a stream of employees, used when the roster is streamed instead of held in memory.
+ * Memory stays bounded by the top-N size plus the name matches; the rest of the roster is discarded as it goes.
+ */
+public class RosterAggregator implements Consumer<EmployeeResponse> {
+
+    private static final Comparator<Ranked> WORST_FIRST = Comparator
+            .comparingInt((Ranked ranked) -> ranked.employee().getEmployee_salary())
+            .thenComparing(Comparator.comparingLong(Ranked::order).reversed());
+
+    private final int topLimit;
+    private final Predicate<EmployeeResponse> nameFilter;
+
+    private final PriorityQueue<Ranked> topEarners;
+    private final List<EmployeeResponse> nameMatches = new ArrayList<>();
+    private long count;
+    private int maxSalary;
+
+    /**
+     * @param topLimit - number of top earners to keep, 0 to skip top-N tracking
+     * @param nameFilter - employees to collect, or null to skip name filtering
+     */
+    public RosterAggregator(int topLimit, Predicate<EmployeeResponse> nameFilter) {
+        this.topLimit = topLimit;
+        this.nameFilter = nameFilter;
+        this.topEarners = new PriorityQueue<>(Math.max(topLimit, 1), WORST_FIRST);
+    }
+
+    @Override
+    public void accept(EmployeeResponse employee) {
+        long order = count++;
+        maxSalary = count == 1 ? employee.getEmployee_salary() : Math.max(maxSalary, employee.getEmployee_salary());
+        if (topLimit > 0) {
+            if (topEarners.size() < topLimit) {
+                topEarners.add(new Ranked(order, employee));
+            } else if (employee.getEmployee_salary() > topEarners.peek().employee().getEmployee_salary()) {
+                // Ties keep the earlier employee, matching a stable sort of the whole roster.
+                topEarners.poll();
+                topEarners.add(new Ranked(order, employee));
+            }
+        }
+        if (nameFilter != null && nameFilter.test(employee)) {
+            nameMatches.add(employee);
+        }
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the highest salary seen, or 0 if no employees were seen
+     */
+    public int getMaxSalary() {
+        return maxSalary;
+    }
+
+    /**
+     * @return the top earners, highest salary first
+     */
+    public List<EmployeeResponse> getTopEarners() {
+        List<Ranked> ranked = new ArrayList<>(topEarners);
+        ranked.sort(WORST_FIRST.reversed());
+        return ranked.stream().map(Ranked::employee).toList();
+    }
+
+    public List<EmployeeResponse> getNameMatches() {
+        return nameMatches;
+    }
+
+    private record Ranked(long order, EmployeeResponse employee) {
+    }
+}
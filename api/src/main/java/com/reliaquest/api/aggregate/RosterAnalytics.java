@@ -0,0 +1,209 @@
+package com.reliaquest.api.aggregate;
+
+import com.reliaquest.api.cache.EmployeeColumns;
+import com.reliaquest.api.dto.SalaryHistogram;
+import com.reliaquest.api.dto.TitleStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Analytical aggregates over a roster held as {@link EmployeeColumns}, computed as partial results over ranges of
+ * rows that are then merged. Rosters of at least employee.analytics.parallel-threshold rows are split into ranges
+ * aggregated as fork-join tasks on the common pool, so a large roster is scanned by every core; smaller rosters are
+ * aggregated as a single range on the calling thread, where forking would cost more than it saves.
+ */
+@Component
+public class RosterAnalytics {
+
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 50_000;
+
+    // Ranges are not split below this many rows
+    private static final int MIN_RANGE_SIZE = 4096;
+
+    private final int parallelThreshold;
+
+    public RosterAnalytics(@Value("${employee.analytics.parallel-threshold:" + DEFAULT_PARALLEL_THRESHOLD + "}")
+                           int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * @param buckets - maximum number of salary ranges; fewer are returned when the salaries span fewer values
+     * @return the salary distribution, from the lowest salary to the highest
+     */
+    public SalaryHistogram salaryHistogram(EmployeeColumns columns, int buckets) {
+        if (buckets < 1) {
+            throw new IllegalArgumentException("Bucket count must be positive: " + buckets);
+        }
+        if (columns.size() == 0) {
+            return new SalaryHistogram(0, List.of());
+        }
+        int[] minMax = aggregate(columns.size(), () -> new int[] {Integer.MAX_VALUE, Integer.MIN_VALUE},
+                (partial, from, to) -> {
+                    for (int row = from; row < to; row++) {
+                        partial[0] = Math.min(partial[0], columns.salary(row));
+                        partial[1] = Math.max(partial[1], columns.salary(row));
+                    }
+                },
+                (left, right) -> new int[] {Math.min(left[0], right[0]), Math.max(left[1], right[1])});
+        long min = minMax[0];
+        long span = minMax[1] - min + 1;
+        long width = (span + buckets - 1) / buckets;
+        int used = (int) ((span + width - 1) / width);
+
+        long[] counts = aggregate(columns.size(), () -> new long[used],
+                (partial, from, to) -> {
+                    for (int row = from; row < to; row++) {
+                        partial[(int) ((columns.salary(row) - min) / width)]++;
+                    }
+                },
+                RosterAnalytics::add);
+        List<SalaryHistogram.Bucket> histogram = new ArrayList<>(used);
+        for (int i = 0; i < used; i++) {
+            long from = min + i * width;
+            histogram.add(new SalaryHistogram.Bucket((int) from, (int) Math.min(from + width - 1, minMax[1]),
+                    counts[i]));
+        }
+        return new SalaryHistogram(columns.size(), histogram);
+    }
+
+    /**
+     * Titles are dictionary-encoded in the columns, so each partial result is a set of arrays indexed by title code.
+     * @return salary and age statistics per title, most common title first
+     */
+    public List<TitleStats> statsByTitle(EmployeeColumns columns) {
+        List<String> titles = columns.titleDictionary();
+        // The last slot collects the employees without a title
+        int slots = titles.size() + 1;
+        TitlePartial totals = aggregate(columns.size(), () -> new TitlePartial(slots),
+                (partial, from, to) -> {
+                    for (int row = from; row < to; row++) {
+                        int code = columns.titleCode(row);
+                        partial.add(code < 0 ? slots - 1 : code, columns.salary(row), columns.age(row));
+                    }
+                },
+                TitlePartial::merge);
+
+        List<TitleStats> stats = new ArrayList<>();
+        for (int slot = 0; slot < slots; slot++) {
+            long count = totals.counts[slot];
+            if (count > 0) {
+                stats.add(new TitleStats(slot < titles.size() ? titles.get(slot) : null, count,
+                        totals.minSalaries[slot], totals.maxSalaries[slot],
+                        (double) totals.salarySums[slot] / count, (double) totals.ageSums[slot] / count));
+            }
+        }
+        stats.sort(Comparator.comparingLong(TitleStats::getCount).reversed()
+                .thenComparing(TitleStats::getTitle, Comparator.nullsLast(Comparator.naturalOrder())));
+        return stats;
+    }
+
+    /**
+     * Aggregates rows 0 to {@code size} into partial results over ranges, merged left to right.
+     * @param partial - creates an empty partial result
+     * @param accumulator - adds a range of rows to a partial result
+     * @param merge - combines two partial results; may reuse either
+     */
+    <P> P aggregate(int size, Supplier<P> partial, RangeAccumulator<P> accumulator, BinaryOperator<P> merge) {
+        if (size < parallelThreshold) {
+            P result = partial.get();
+            accumulator.accumulate(result, 0, size);
+            return result;
+        }
+        int rangeSize = Math.max(MIN_RANGE_SIZE, size / (4 * ForkJoinPool.getCommonPoolParallelism()));
+        return ForkJoinPool.commonPool().invoke(new RangeTask<>(partial, accumulator, merge, 0, size, rangeSize));
+    }
+
+    @FunctionalInterface
+    interface RangeAccumulator<P> {
+        void accumulate(P partial, int from, int to);
+    }
+
+    private static long[] add(long[] left, long[] right) {
+        for (int i = 0; i < left.length; i++) {
+            left[i] += right[i];
+        }
+        return left;
+    }
+
+    private static final class RangeTask<P> extends RecursiveTask<P> {
+
+        private final Supplier<P> partial;
+        private final RangeAccumulator<P> accumulator;
+        private final BinaryOperator<P> merge;
+        private final int from;
+        private final int to;
+        private final int rangeSize;
+
+        private RangeTask(Supplier<P> partial, RangeAccumulator<P> accumulator, BinaryOperator<P> merge,
+                          int from, int to, int rangeSize) {
+            this.partial = partial;
+            this.accumulator = accumulator;
+            this.merge = merge;
+            this.from = from;
+            this.to = to;
+            this.rangeSize = rangeSize;
+        }
+
+        @Override
+        protected P compute() {
+            if (to - from <= rangeSize) {
+                P result = partial.get();
+                accumulator.accumulate(result, from, to);
+                return result;
+            }
+            int middle = (from + to) >>> 1;
+            RangeTask<P> left = new RangeTask<>(partial, accumulator, merge, from, middle, rangeSize);
+            left.fork();
+            P right = new RangeTask<>(partial, accumulator, merge, middle, to, rangeSize).compute();
+            return merge.apply(left.join(), right);
+        }
+    }
+
+    private static final class TitlePartial {
+
+        private final long[] counts;
+        private final long[] salarySums;
+        private final long[] ageSums;
+        private final int[] minSalaries;
+        private final int[] maxSalaries;
+
+        private TitlePartial(int slots) {
+            counts = new long[slots];
+            salarySums = new long[slots];
+            ageSums = new long[slots];
+            minSalaries = new int[slots];
+            maxSalaries = new int[slots];
+            Arrays.fill(minSalaries, Integer.MAX_VALUE);
+            Arrays.fill(maxSalaries, Integer.MIN_VALUE);
+        }
+
+        void add(int slot, int salary, int age) {
+            counts[slot]++;
+            salarySums[slot] += salary;
+            ageSums[slot] += age;
+            minSalaries[slot] = Math.min(minSalaries[slot], salary);
+            maxSalaries[slot] = Math.max(maxSalaries[slot], salary);
+        }
+
+        TitlePartial merge(TitlePartial other) {
+            RosterAnalytics.add(counts, other.counts);
+            RosterAnalytics.add(salarySums, other.salarySums);
+            RosterAnalytics.add(ageSums, other.ageSums);
+            for (int slot = 0; slot < counts.length; slot++) {
+                minSalaries[slot] = Math.min(minSalaries[slot], other.minSalaries[slot]);
+                maxSalaries[slot] = Math.max(maxSalaries[slot], other.maxSalaries[slot]);
+            }
+            return this;
+        }
+    }
+}
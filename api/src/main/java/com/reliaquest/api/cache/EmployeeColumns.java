@@ -0,0 +1,345 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.EmployeeResponse;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.UUID;
+
+/**
+ * Immutable, column-oriented copy of a roster. Ids are held as two long columns, salaries and ages as int columns and
+ * titles dictionary-encoded, so a large roster is a handful of arrays instead of millions of small objects, and
+ * aggregates scan primitives laid out next to each other. Employees are only materialized when a row is read, through
+ * {@link #get(int)} or the {@link #rows()} view; each read returns a new, equal {@link EmployeeResponse}.
+ */
+public final class EmployeeColumns {
+
+    private final int size;
+    private final long[] idHigh;
+    private final long[] idLow;
+    // Rows whose id was null; almost always empty
+    private final BitSet missingIds;
+    private final int[] salaries;
+    private final int[] ages;
+    private final String[] names;
+    private final String[] emails;
+    private final int[] titles;
+    private final String[] titleDictionary;
+    private final Rows rows = new Rows();
+
+    private EmployeeColumns(int size, long[] idHigh, long[] idLow, BitSet missingIds, int[] salaries, int[] ages,
+                            String[] names, String[] emails, int[] titles, String[] titleDictionary) {
+        this.size = size;
+        this.idHigh = idHigh;
+        this.idLow = idLow;
+        this.missingIds = missingIds;
+        this.salaries = salaries;
+        this.ages = ages;
+        this.names = names;
+        this.emails = emails;
+        this.titles = titles;
+        this.titleDictionary = titleDictionary;
+    }
+
+    public static EmployeeColumns of(List<EmployeeResponse> employees) {
+        Builder builder = new Builder(employees.size());
+        for (EmployeeResponse employee : employees) {
+            builder.add(employee);
+        }
+        return builder.build();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return a new employee holding the given row
+     */
+    public EmployeeResponse get(int row) {
+        EmployeeResponse employee = new EmployeeResponse();
+        employee.setId(id(row));
+        employee.setEmployee_name(names[row]);
+        employee.setEmployee_salary(salaries[row]);
+        employee.setEmployee_age(ages[row]);
+        employee.setEmployee_title(title(row));
+        employee.setEmployee_email(emails[row]);
+        return employee;
+    }
+
+    /**
+     * @return an unmodifiable view of the rows in roster order, materializing each employee as it is read
+     */
+    public List<EmployeeResponse> rows() {
+        return rows;
+    }
+
+    /**
+     * @return an unmodifiable view of the given rows, in the order given
+     */
+    public List<EmployeeResponse> rows(int[] rowNumbers) {
+        return new Selection(rowNumbers);
+    }
+
+    public UUID id(int row) {
+        return missingIds.get(row) ? null : new UUID(idHigh[row], idLow[row]);
+    }
+
+    public String name(int row) {
+        return names[row];
+    }
+
+    public int salary(int row) {
+        return salaries[row];
+    }
+
+    public int age(int row) {
+        return ages[row];
+    }
+
+    public String title(int row) {
+        return titles[row] < 0 ? null : titleDictionary[titles[row]];
+    }
+
+    /**
+     * @return the dictionary code of the row's title, or -1 if it has none; codes index {@link #titleDictionary()}
+     */
+    public int titleCode(int row) {
+        return titles[row];
+    }
+
+    /**
+     * @return the distinct titles, indexed by their code
+     */
+    public List<String> titleDictionary() {
+        return List.of(titleDictionary);
+    }
+
+    /**
+     * @return the first row holding the given id, or -1 if there is none
+     */
+    public int indexOf(UUID id) {
+        if (id == null) {
+            return missingIds.nextSetBit(0);
+        }
+        long high = id.getMostSignificantBits();
+        long low = id.getLeastSignificantBits();
+        for (int row = 0; row < size; row++) {
+            if (idLow[row] == low && idHigh[row] == high && !missingIds.get(row)) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return these rows followed by the given employee; the columns are copied, not rebuilt
+     */
+    public EmployeeColumns withAppended(EmployeeResponse employee) {
+        Builder builder = new Builder(this, size + 1);
+        builder.addAll(this);
+        builder.add(employee);
+        return builder.build();
+    }
+
+    /**
+     * @param rows - distinct rows in ascending order
+     * @return these rows without the given ones; the columns are copied, not rebuilt
+     */
+    public EmployeeColumns without(int... rows) {
+        Builder builder = new Builder(this, size - rows.length);
+        int from = 0;
+        for (int row : rows) {
+            builder.addRange(this, from, row);
+            from = row + 1;
+        }
+        builder.addRange(this, from, size);
+        return builder.build();
+    }
+
+    /**
+     * Accumulates rows into growable columns. Rows copied from the columns the builder was started from keep their
+     * title codes; any other title is looked up in, or added to, the dictionary.
+     */
+    public static final class Builder {
+
+        private final EmployeeColumns base;
+        private final Map<String, Integer> titleCodes = new HashMap<>();
+        private String[] titleDictionary;
+        private int size;
+        private long[] idHigh;
+        private long[] idLow;
+        private final BitSet missingIds = new BitSet();
+        private int[] salaries;
+        private int[] ages;
+        private String[] names;
+        private String[] emails;
+        private int[] titles;
+
+        public Builder(int expectedSize) {
+            this(null, expectedSize);
+        }
+
+        /**
+         * @param base - columns whose title dictionary the new columns extend
+         */
+        public Builder(EmployeeColumns base, int expectedSize) {
+            this.base = base;
+            this.titleDictionary = base == null ? new String[8] : Arrays.copyOf(base.titleDictionary,
+                    Math.max(base.titleDictionary.length, 8));
+            if (base != null) {
+                for (int code = 0; code < base.titleDictionary.length; code++) {
+                    titleCodes.put(base.titleDictionary[code], code);
+                }
+            }
+            int capacity = Math.max(expectedSize, 0);
+            idHigh = new long[capacity];
+            idLow = new long[capacity];
+            salaries = new int[capacity];
+            ages = new int[capacity];
+            names = new String[capacity];
+            emails = new String[capacity];
+            titles = new int[capacity];
+        }
+
+        public Builder add(EmployeeResponse employee) {
+            int row = nextRow();
+            if (employee.getId() == null) {
+                missingIds.set(row);
+            } else {
+                idHigh[row] = employee.getId().getMostSignificantBits();
+                idLow[row] = employee.getId().getLeastSignificantBits();
+            }
+            salaries[row] = employee.getEmployee_salary();
+            ages[row] = employee.getEmployee_age();
+            names[row] = employee.getEmployee_name();
+            emails[row] = employee.getEmployee_email();
+            titles[row] = titleCode(employee.getEmployee_title());
+            return this;
+        }
+
+        /**
+         * Copies a row of other columns without materializing it.
+         */
+        public Builder add(EmployeeColumns from, int row) {
+            return addRange(from, row, row + 1);
+        }
+
+        public Builder addAll(EmployeeColumns from) {
+            return addRange(from, 0, from.size);
+        }
+
+        private Builder addRange(EmployeeColumns from, int fromRow, int toRow) {
+            int count = toRow - fromRow;
+            if (count <= 0) {
+                return this;
+            }
+            ensureCapacity(size + count);
+            System.arraycopy(from.idHigh, fromRow, idHigh, size, count);
+            System.arraycopy(from.idLow, fromRow, idLow, size, count);
+            System.arraycopy(from.salaries, fromRow, salaries, size, count);
+            System.arraycopy(from.ages, fromRow, ages, size, count);
+            System.arraycopy(from.names, fromRow, names, size, count);
+            System.arraycopy(from.emails, fromRow, emails, size, count);
+            for (int row = from.missingIds.nextSetBit(fromRow); row >= 0 && row < toRow;
+                 row = from.missingIds.nextSetBit(row + 1)) {
+                missingIds.set(size + row - fromRow);
+            }
+            if (from == base) {
+                System.arraycopy(from.titles, fromRow, titles, size, count);
+            } else {
+                for (int i = 0; i < count; i++) {
+                    titles[size + i] = titleCode(from.title(fromRow + i));
+                }
+            }
+            size += count;
+            return this;
+        }
+
+        public EmployeeColumns build() {
+            return new EmployeeColumns(size, Arrays.copyOf(idHigh, size), Arrays.copyOf(idLow, size),
+                    (BitSet) missingIds.clone(), Arrays.copyOf(salaries, size), Arrays.copyOf(ages, size),
+                    Arrays.copyOf(names, size), Arrays.copyOf(emails, size), Arrays.copyOf(titles, size),
+                    Arrays.copyOf(titleDictionary, titleCodes.size()));
+        }
+
+        private int titleCode(String title) {
+            if (title == null) {
+                return -1;
+            }
+            Integer code = titleCodes.get(title);
+            if (code == null) {
+                code = titleCodes.size();
+                if (code == titleDictionary.length) {
+                    titleDictionary = Arrays.copyOf(titleDictionary, code * 2);
+                }
+                titleDictionary[code] = title;
+                titleCodes.put(title, code);
+            }
+            return code;
+        }
+
+        private int nextRow() {
+            ensureCapacity(size + 1);
+            return size++;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity <= salaries.length) {
+                return;
+            }
+            int grown = Math.max(capacity, salaries.length + (salaries.length >> 1) + 1);
+            idHigh = Arrays.copyOf(idHigh, grown);
+            idLow = Arrays.copyOf(idLow, grown);
+            salaries = Arrays.copyOf(salaries, grown);
+            ages = Arrays.copyOf(ages, grown);
+            names = Arrays.copyOf(names, grown);
+            emails = Arrays.copyOf(emails, grown);
+            titles = Arrays.copyOf(titles, grown);
+        }
+    }
+
+    private final class Rows extends AbstractList<EmployeeResponse> implements RandomAccess {
+
+        @Override
+        public EmployeeResponse get(int index) {
+            return EmployeeColumns.this.get(checkRow(index, size));
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private final class Selection extends AbstractList<EmployeeResponse> implements RandomAccess {
+
+        private final int[] rowNumbers;
+
+        private Selection(int[] rowNumbers) {
+            this.rowNumbers = rowNumbers;
+        }
+
+        @Override
+        public EmployeeResponse get(int index) {
+            return EmployeeColumns.this.get(rowNumbers[checkRow(index, rowNumbers.length)]);
+        }
+
+        @Override
+        public int size() {
+            return rowNumbers.length;
+        }
+    }
+
+    private static int checkRow(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        return index;
+    }
+}
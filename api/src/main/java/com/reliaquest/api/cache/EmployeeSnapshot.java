@@ -0,0 +1,235 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.EmployeeChange;
+import com.reliaquest.api.dto.EmployeePage;
+import com.reliaquest.api.dto.EmployeeResponse;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Immutable, versioned view of the employee roster as last seen from the remote API.
+ * A new instance is built for every refresh and swapped in atomically by {@link EmployeeSnapshotCache}, or by the
+ * reactive service on the reactive stack. The roster is held as {@link EmployeeColumns}; employees are materialized
+ * only as they are read. The salary and name indexes are built on first use, so a snapshot that is replaced by the
+ * next local write or refresh before anyone queries it never pays for sorting its roster.
+ */
+public final class EmployeeSnapshot {
+
+    static final EmployeeSnapshot EMPTY = new EmployeeSnapshot(0L, Instant.EPOCH, List.of());
+
+    private final long version;
+    private final Instant fetchedAt;
+    private final EmployeeColumns columns;
+    private final ReentrantLock indexLock = new ReentrantLock();
+    private volatile SalaryIndex salaryIndex;
+    private volatile NameIndex nameIndex;
+
+    public EmployeeSnapshot(long version, Instant fetchedAt, List<EmployeeResponse> employees) {
+        this(version, fetchedAt, EmployeeColumns.of(employees));
+    }
+
+    EmployeeSnapshot(long version, Instant fetchedAt, EmployeeColumns columns) {
+        this.version = version;
+        this.fetchedAt = fetchedAt;
+        this.columns = columns;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getFetchedAt() {
+        return fetchedAt;
+    }
+
+    /**
+     * @return a read-only view of the roster in roster order; each read materializes a new employee
+     */
+    public List<EmployeeResponse> getEmployees() {
+        return columns.rows();
+    }
+
+    public EmployeeColumns getColumns() {
+        return columns;
+    }
+
+    /**
+     * @return the salary index, built on the first call
+     */
+    public SalaryIndex getSalaryIndex() {
+        SalaryIndex index = salaryIndex;
+        if (index == null) {
+            // A lock rather than a monitor, so virtual threads waiting for the build do not pin their carriers.
+            indexLock.lock();
+            try {
+                index = salaryIndex;
+                if (index == null) {
+                    index = new SalaryIndex(columns);
+                    salaryIndex = index;
+                }
+            } finally {
+                indexLock.unlock();
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Builds both indexes now, so later reads only look them up.
+     * @return this snapshot
+     */
+    public EmployeeSnapshot indexed() {
+        getSalaryIndex();
+        getNameIndex();
+        return this;
+    }
+
+    /**
+     * @return the name index, built on the first call
+     */
+    public NameIndex getNameIndex() {
+        NameIndex index = nameIndex;
+        if (index == null) {
+            indexLock.lock();
+            try {
+                index = nameIndex;
+                if (index == null) {
+                    index = new NameIndex(columns);
+                    nameIndex = index;
+                }
+            } finally {
+                indexLock.unlock();
+            }
+        }
+        return index;
+    }
+
+    public int size() {
+        return columns.size();
+    }
+
+    /**
+     * Reads one page of the roster. A cursor holds the version of the snapshot it was issued for and a position in
+     * it. Positions only mean something within one version, so a cursor from a replaced snapshot is rejected rather
+     * than skipping or repeating rows.
+     * @param cursor - nextCursor of the previous page, or null for the first page
+     * @param limit - maximum number of employees in the page
+     * @return the page, with a cursor for the next one unless it is the last
+     * @throws IllegalArgumentException if the cursor was not issued by this API, or was issued for another version
+     */
+    public EmployeePage page(String cursor, int limit) {
+        int from = 0;
+        if (cursor != null && !cursor.isBlank()) {
+            int separator = cursor.indexOf('.');
+            long cursorVersion;
+            try {
+                cursorVersion = Long.parseLong(cursor.substring(0, Math.max(separator, 0)));
+                from = Integer.parseInt(cursor.substring(separator + 1));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+            }
+            if (from < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            if (cursorVersion != version) {
+                throw new IllegalArgumentException("Cursor " + cursor + " belongs to a previous version of the roster, "
+                        + "start again from the first page");
+            }
+        }
+        List<EmployeeResponse> employees = getEmployees();
+        int start = Math.min(from, employees.size());
+        int end = (int) Math.min((long) start + limit, employees.size());
+        String nextCursor = end < employees.size() ? version + "." + end : null;
+        return new EmployeePage(employees.subList(start, end), nextCursor);
+    }
+
+    /**
+     * @return a snapshot with the employee appended, keeping this snapshot's fetch time
+     */
+    public EmployeeSnapshot withAdded(long newVersion, EmployeeResponse employee) {
+        return new EmployeeSnapshot(newVersion, fetchedAt, columns.withAppended(employee));
+    }
+
+    /**
+     * @return a snapshot with the employees appended in order, keeping this snapshot's fetch time
+     */
+    public EmployeeSnapshot withAddedAll(long newVersion, List<EmployeeResponse> employees) {
+        EmployeeColumns.Builder builder = new EmployeeColumns.Builder(columns, columns.size() + employees.size());
+        builder.addAll(columns);
+        for (EmployeeResponse employee : employees) {
+            builder.add(employee);
+        }
+        return new EmployeeSnapshot(newVersion, fetchedAt, builder.build());
+    }
+
+    /**
+     * @return a snapshot without the employee with the given id, or this snapshot if there is no such employee
+     */
+    public EmployeeSnapshot withRemoved(long newVersion, UUID id) {
+        int row = columns.indexOf(id);
+        if (row < 0) {
+            return this;
+        }
+        return new EmployeeSnapshot(newVersion, fetchedAt, columns.without(row));
+    }
+
+    /**
+     * Removes the employees with the given ids in a single copy of the columns; ids not held are ignored.
+     * @return a snapshot without those employees, or this snapshot if it holds none of them
+     */
+    public EmployeeSnapshot withRemovedAll(long newVersion, Collection<UUID> ids) {
+        Set<UUID> remaining = new HashSet<>(ids);
+        int[] rows = new int[remaining.size()];
+        int count = 0;
+        for (int row = 0; row < columns.size() && !remaining.isEmpty(); row++) {
+            if (remaining.remove(columns.id(row))) {
+                rows[count++] = row;
+            }
+        }
+        if (count == 0) {
+            return this;
+        }
+        return new EmployeeSnapshot(newVersion, fetchedAt, columns.without(Arrays.copyOf(rows, count)));
+    }
+
+    /**
+     * Applies changes read from the remote API's change log in a single pass. Creations of employees already held
+     * replace them in place and deletions of employees not held are ignored, so replaying changes the snapshot
+     * already reflects is harmless. Rows left untouched are copied column by column, without being materialized.
+     * @param fetchedAt - when the changes were read; becomes the new snapshot's fetch time
+     * @param changes - changes in log order
+     * @return a snapshot with the changes applied
+     */
+    public EmployeeSnapshot withChanges(long newVersion, Instant fetchedAt, List<EmployeeChange> changes) {
+        // Values are either the row of a held employee or a created EmployeeResponse
+        Map<UUID, Object> byId = new LinkedHashMap<>(2 * (columns.size() + changes.size()));
+        for (int row = 0; row < columns.size(); row++) {
+            byId.put(columns.id(row), row);
+        }
+        for (EmployeeChange change : changes) {
+            if (change.getType() == EmployeeChange.Type.CREATED && change.getEmployee() != null) {
+                byId.put(change.getId(), change.getEmployee());
+            } else if (change.getType() == EmployeeChange.Type.DELETED) {
+                byId.remove(change.getId());
+            }
+        }
+        EmployeeColumns.Builder builder = new EmployeeColumns.Builder(columns, byId.size());
+        for (Object value : byId.values()) {
+            if (value instanceof Integer row) {
+                builder.add(columns, row);
+            } else {
+                builder.add((EmployeeResponse) value);
+            }
+        }
+        return new EmployeeSnapshot(newVersion, fetchedAt, builder.build());
+    }
+}
@@ -0,0 +1,364 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.client.IEmployeeApiClient;
+import com.reliaquest.api.client.resilience.UpstreamThrottledException;
+import com.reliaquest.api.dto.EmployeeChange;
+import com.reliaquest.api.dto.EmployeeChanges;
+import com.reliaquest.api.dto.EmployeePage;
+import com.reliaquest.api.dto.EmployeeResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+
+/**
+ * Keeps an in-memory {@link EmployeeSnapshot} of the remote roster so that reads never go to the network.
+ * The snapshot is refreshed in the background on a fixed delay and replaced atomically; when the cache is
+ * disabled every read builds a throw-away snapshot straight from the remote API.
+ * With a positive page size the roster is pulled in pages, so no single upstream response holds the whole roster.
+ * A refresh that finds the upstream roster unchanged, because the client answered a conditional request with the
+ * roster or first page it returned last time, keeps the current snapshot and the indexes already built for it.
+ * With delta sync, refreshes after the first read only the remote API's change log from the position the snapshot was
+ * last synced to and apply it to the current snapshot, so their cost follows the rate of change rather than the
+ * roster size; the full roster is pulled again only when the log no longer holds every change since that position.
+ * Local writes and refreshes swap snapshots under one lock, and the writes made while a full roster load is in flight
+ * are replayed onto the snapshot it builds, so a refresh never discards a write it did not see.
+ */
+@Slf4j
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class EmployeeSnapshotCache {
+
+    public static final String ROSTER_SIZE = "employee.roster.size";
+    public static final String SNAPSHOT_AGE = "employee.snapshot.age";
+    public static final String SNAPSHOT_BUILD = "employee.snapshot.build";
+
+    private static final int DEFAULT_CHANGE_BATCH = 1000;
+
+    private final IEmployeeApiClient apiClient;
+    private final boolean enabled;
+    private final int pageSize;
+    private final boolean deltaSync;
+
+    private final AtomicReference<EmployeeSnapshot> current = new AtomicReference<>(EmployeeSnapshot.EMPTY);
+    private final AtomicLong versions = new AtomicLong();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final ReentrantLock swapLock = new ReentrantLock();
+    private final Timer snapshotBuild;
+
+    // Guarded by refreshLock
+    private List<EmployeeResponse> lastFetched;
+    private EmployeePage lastFirstPage;
+    private String syncedLog;
+    private long syncedSequence;
+    // Guarded by swapLock: local writes made since the full roster load in flight started, or null if there is none
+    private List<EmployeeChange> localWrites;
+
+    public EmployeeSnapshotCache(IEmployeeApiClient apiClient, boolean enabled, int pageSize) {
+        this(apiClient, enabled, pageSize, new SimpleMeterRegistry());
+    }
+
+    public EmployeeSnapshotCache(IEmployeeApiClient apiClient, boolean enabled, int pageSize,
+                                 MeterRegistry meterRegistry) {
+        this(apiClient, enabled, pageSize, false, meterRegistry);
+    }
+
+    /**
+     * @param deltaSync - whether refreshes apply the remote API's change log instead of pulling the full roster
+     * @param meterRegistry - receives the roster size gauges and the snapshot build timer
+     */
+    @Autowired
+    public EmployeeSnapshotCache(IEmployeeApiClient apiClient,
+                                 @Value("${employee.cache.enabled:true}") boolean enabled,
+                                 @Value("${employee.cache.page-size:0}") int pageSize,
+                                 @Value("${employee.cache.delta-sync.enabled:true}") boolean deltaSync,
+                                 MeterRegistry meterRegistry) {
+        this.apiClient = apiClient;
+        this.enabled = enabled;
+        this.pageSize = pageSize;
+        this.deltaSync = deltaSync;
+        this.snapshotBuild = Timer.builder(SNAPSHOT_BUILD)
+                .description("Time to build a roster snapshot; its indexes are built on first use")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder(ROSTER_SIZE, current, snapshot -> snapshot.get().size())
+                .description("Employees in the current roster snapshot")
+                .register(meterRegistry);
+        Gauge.builder(SNAPSHOT_AGE, current, snapshot -> snapshot.get() == EmployeeSnapshot.EMPTY ? 0
+                        : Duration.between(snapshot.get().getFetchedAt(), Instant.now()).toMillis() / 1000.0)
+                .description("Age of the current roster snapshot")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the current roster snapshot. Only the very first read after startup can block on the remote API,
+     * and only if it arrives before the first background refresh has completed.
+     * @return the latest snapshot
+     * @throws UpstreamThrottledException if no snapshot has been loaded yet and the remote API is throttling
+     */
+    public EmployeeSnapshot current() {
+        if (!enabled) {
+            List<EmployeeResponse> employees = apiClient.fetchAllEmployees();
+            return snapshotBuild.record(() -> new EmployeeSnapshot(versions.incrementAndGet(), Instant.now(), employees));
+        }
+        EmployeeSnapshot snapshot = current.get();
+        if (snapshot != EmployeeSnapshot.EMPTY) {
+            return snapshot;
+        }
+        refreshLock.lock();
+        try {
+            if (current.get() == EmployeeSnapshot.EMPTY) {
+                load();
+            }
+            return current.get();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Pulls the full roster from the remote API, or with delta sync the changes made to it since the last refresh,
+     * and swaps it in as a new snapshot version. An empty result is treated as a failed fetch while a non-empty snapshot is held, since the client
+     * reports upstream errors as an empty list; a throttled upstream keeps the current snapshot as well.
+     */
+    @Scheduled(initialDelayString = "${employee.cache.initial-delay:PT0S}",
+            fixedDelayString = "${employee.cache.refresh-interval:PT30S}")
+    public void refresh() {
+        if (!enabled || !refreshLock.tryLock()) {
+            return;
+        }
+        try {
+            load();
+        } catch (UpstreamThrottledException e) {
+            log.warn("Roster refresh throttled, keeping snapshot v{} (retry after {})",
+                    current.get().getVersion(), e.getRetryAfter());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void load() {
+        if (syncedLog != null && current.get() != EmployeeSnapshot.EMPTY && applyChanges()) {
+            return;
+        }
+        recordLocalWrites(new ArrayList<>());
+        try {
+            loadRoster();
+        } finally {
+            recordLocalWrites(null);
+        }
+    }
+
+    private void loadRoster() {
+        // Taken before the roster, so changes racing the fetch are replayed by the next refresh rather than missed
+        Optional<EmployeeChanges> head = deltaSync ? apiClient.fetchChanges(null, 1) : Optional.empty();
+        syncedLog = null;
+        List<EmployeeResponse> employees = pageSize > 0 ? fetchAllPages() : apiClient.fetchAllEmployees();
+        if (employees == lastFetched && current.get() != EmployeeSnapshot.EMPTY) {
+            log.debug("Roster unchanged upstream, keeping snapshot v{}", current.get().getVersion());
+            syncTo(head);
+            return;
+        }
+        if (employees.isEmpty() && current.get().size() > 0) {
+            log.warn("Roster refresh returned no employees, keeping snapshot v{}", current.get().getVersion());
+            return;
+        }
+        EmployeeSnapshot fetched =
+                snapshotBuild.record(() -> new EmployeeSnapshot(versions.incrementAndGet(), Instant.now(), employees));
+        EmployeeSnapshot snapshot;
+        swapLock.lock();
+        try {
+            snapshot = localWrites.isEmpty() ? fetched
+                    : fetched.withChanges(versions.incrementAndGet(), fetched.getFetchedAt(), localWrites);
+            current.set(snapshot);
+        } finally {
+            swapLock.unlock();
+        }
+        lastFetched = employees;
+        if (pageSize > 0) {
+            // Full roster fetches record their own fallback in the client; a roster read in pages is only whole here
+            apiClient.rememberRoster(employees);
+        }
+        syncTo(head);
+        log.debug("Swapped in roster snapshot v{} with {} employees", snapshot.getVersion(), snapshot.size());
+    }
+
+    private void syncTo(Optional<EmployeeChanges> head) {
+        head.filter(changes -> changes.getLog() != null).ifPresent(changes -> {
+            syncedLog = changes.getLog();
+            syncedSequence = changes.getSequence();
+        });
+    }
+
+    /**
+     * Reads the change log from the synced position to its end and applies it to the current snapshot.
+     * @return false if the roster has to be pulled in full instead: the log could not be read, was replaced, or no
+     * longer holds every change since the synced position
+     */
+    private boolean applyChanges() {
+        int batchSize = pageSize > 0 ? pageSize : DEFAULT_CHANGE_BATCH;
+        List<EmployeeChange> changes = new ArrayList<>();
+        long sequence = syncedSequence;
+        EmployeeChanges batch;
+        do {
+            Optional<EmployeeChanges> fetched = apiClient.fetchChanges(sequence, batchSize);
+            if (fetched.isEmpty()) {
+                log.warn("Roster changes since {} could not be fetched, pulling the full roster", sequence);
+                return false;
+            }
+            batch = fetched.get();
+            if (batch.isTruncated() || !syncedLog.equals(batch.getLog())) {
+                log.info("Change log {} no longer holds every change since {}, pulling the full roster",
+                        syncedLog, sequence);
+                return false;
+            }
+            if (batch.getChanges() == null || batch.getChanges().isEmpty()) {
+                break;
+            }
+            changes.addAll(batch.getChanges());
+            sequence = batch.getSequence();
+        } while (sequence < batch.getLatestSequence());
+
+        if (changes.isEmpty()) {
+            log.debug("No roster changes since {}, keeping snapshot v{}", sequence, current.get().getVersion());
+            return true;
+        }
+        EmployeeSnapshot snapshot;
+        swapLock.lock();
+        try {
+            snapshot = snapshotBuild.record(
+                    () -> current.get().withChanges(versions.incrementAndGet(), Instant.now(), changes));
+            current.set(snapshot);
+        } finally {
+            swapLock.unlock();
+        }
+        syncedSequence = sequence;
+        log.debug("Applied {} roster changes up to {}, swapped in snapshot v{} with {} employees",
+                changes.size(), sequence, snapshot.getVersion(), snapshot.size());
+        return true;
+    }
+
+    private List<EmployeeResponse> fetchAllPages() {
+        List<EmployeeResponse> employees = new ArrayList<>();
+        EmployeePage firstPage = null;
+        String cursor = null;
+        do {
+            Optional<EmployeePage> page = apiClient.fetchEmployeesPage(cursor, pageSize);
+            if (page.isEmpty()) {
+                log.warn("Roster page after cursor {} could not be fetched, abandoning refresh", cursor);
+                return List.of();
+            }
+            if (firstPage == null) {
+                firstPage = page.get();
+                if (firstPage == lastFirstPage && lastFetched != null) {
+                    return lastFetched;
+                }
+            }
+            if (page.get().getEmployees() != null) {
+                employees.addAll(page.get().getEmployees());
+            }
+            cursor = page.get().getNextCursor();
+        } while (cursor != null);
+        lastFirstPage = firstPage;
+        return employees;
+    }
+
+    /**
+     * Applies a locally created employee to the snapshot so callers can read their own writes before the next refresh.
+     * Nothing is applied before the first load, which will pick the employee up from the remote API anyway.
+     * @param employee - employee returned by the remote API after creation
+     */
+    public void onCreated(EmployeeResponse employee) {
+        applyLocally(List.of(created(employee)), (snapshot, version) -> snapshot.withAdded(version, employee));
+    }
+
+    /**
+     * Applies employees created locally in one batch as a single new snapshot version.
+     * @param employees - employees returned by the remote API after creation
+     */
+    public void onCreatedAll(List<EmployeeResponse> employees) {
+        if (employees.isEmpty()) {
+            return;
+        }
+        applyLocally(employees.stream().map(EmployeeSnapshotCache::created).toList(),
+                (snapshot, version) -> snapshot.withAddedAll(version, employees));
+    }
+
+    /**
+     * Removes a locally deleted employee from the snapshot.
+     * @param id - id of the employee deleted on the remote API
+     */
+    public void onDeleted(UUID id) {
+        applyLocally(List.of(deleted(id)), (snapshot, version) -> snapshot.withRemoved(version, id));
+    }
+
+    /**
+     * Removes employees deleted locally in one batch as a single new snapshot version.
+     * @param ids - ids of the employees deleted on the remote API
+     */
+    public void onDeletedAll(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        applyLocally(ids.stream().map(EmployeeSnapshotCache::deleted).toList(),
+                (snapshot, version) -> snapshot.withRemovedAll(version, ids));
+    }
+
+    private void applyLocally(List<EmployeeChange> changes,
+                              BiFunction<EmployeeSnapshot, Long, EmployeeSnapshot> update) {
+        if (!enabled) {
+            return;
+        }
+        swapLock.lock();
+        try {
+            if (localWrites != null) {
+                localWrites.addAll(changes);
+            }
+            EmployeeSnapshot snapshot = current.get();
+            if (snapshot != EmployeeSnapshot.EMPTY) {
+                current.set(update.apply(snapshot, versions.incrementAndGet()));
+            }
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    private static EmployeeChange created(EmployeeResponse employee) {
+        return new EmployeeChange(0, EmployeeChange.Type.CREATED, employee.getId(), employee);
+    }
+
+    private static EmployeeChange deleted(UUID id) {
+        return new EmployeeChange(0, EmployeeChange.Type.DELETED, id, null);
+    }
+
+    private void recordLocalWrites(List<EmployeeChange> writes) {
+        swapLock.lock();
+        try {
+            localWrites = writes;
+        } finally {
+            swapLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.EmployeeResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Case-insensitive name lookups for one roster version.
+ * Exact matches are a single hash lookup. Prefix matches binary search a sorted array of the distinct names,
+ * and substring matches intersect trigram posting lists before checking the few candidates left.
+ * The trigram postings are only built on the first substring search. Names map to rows of the roster's
+ * {@link EmployeeColumns}, and only the matches are materialized.
+ */
+public final class NameIndex {
+
+    private static final int GRAM = 3;
+
+    private final EmployeeColumns columns;
+    private final Map<String, int[]> byName;
+    private final String[] sortedNames;
+    private final ReentrantLock trigramLock = new ReentrantLock();
+    private volatile Map<String, int[]> trigrams;
+
+    NameIndex(List<EmployeeResponse> employees) {
+        this(EmployeeColumns.of(employees));
+    }
+
+    NameIndex(EmployeeColumns columns) {
+        this.columns = columns;
+        // Two passes over the name column: count the rows of each name, then fill exactly sized row arrays.
+        String[] keys = new String[columns.size()];
+        Map<String, int[]> counts = new LinkedHashMap<>();
+        for (int row = 0; row < keys.length; row++) {
+            if (columns.name(row) != null) {
+                keys[row] = NameSearchMode.normalize(columns.name(row));
+                counts.computeIfAbsent(keys[row], key -> new int[1])[0]++;
+            }
+        }
+        Map<String, int[]> names = new HashMap<>(counts.size() * 2);
+        counts.forEach((name, count) -> names.put(name, new int[count[0]]));
+        for (int row = 0; row < keys.length; row++) {
+            if (keys[row] != null) {
+                int[] rows = names.get(keys[row]);
+                rows[rows.length - counts.get(keys[row])[0]--] = row;
+            }
+        }
+        byName = names;
+        sortedNames = counts.keySet().toArray(new String[0]);
+        Arrays.sort(sortedNames);
+    }
+
+    /**
+     * @param name - name or name fragment to search for
+     * @param mode - how the name is matched
+     * @return matching employees; exact matches keep roster order, other modes are ordered by name
+     */
+    public List<EmployeeResponse> search(String name, NameSearchMode mode) {
+        if (name == null) {
+            return List.of();
+        }
+        String query = NameSearchMode.normalize(name);
+        return switch (mode) {
+            case EXACT -> {
+                int[] rows = byName.get(query);
+                yield rows == null ? List.of() : columns.rows(rows);
+            }
+            case PREFIX -> collect(prefixRange(query));
+            case CONTAINS -> collect(containing(query));
+        };
+    }
+
+    private int[] prefixRange(String prefix) {
+        int from = lowerBound(prefix);
+        int to = from;
+        while (to < sortedNames.length && sortedNames[to].startsWith(prefix)) {
+            to++;
+        }
+        int[] range = new int[to - from];
+        for (int i = 0; i < range.length; i++) {
+            range[i] = from + i;
+        }
+        return range;
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = sortedNames.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedNames[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int[] containing(String fragment) {
+        if (fragment.length() < GRAM) {
+            return filter(allPositions(), fragment);
+        }
+        Map<String, int[]> postings = trigrams();
+        int[] candidates = null;
+        for (String gram : grams(fragment)) {
+            int[] positions = postings.get(gram);
+            if (positions == null) {
+                return new int[0];
+            }
+            candidates = candidates == null ? positions : intersect(candidates, positions);
+        }
+        return filter(candidates, fragment);
+    }
+
+    private int[] filter(int[] positions, String fragment) {
+        return Arrays.stream(positions).filter(i -> sortedNames[i].contains(fragment)).toArray();
+    }
+
+    private int[] allPositions() {
+        int[] positions = new int[sortedNames.length];
+        Arrays.setAll(positions, i -> i);
+        return positions;
+    }
+
+    private Map<String, int[]> trigrams() {
+        Map<String, int[]> postings = trigrams;
+        if (postings == null) {
+            // A lock rather than a monitor, so virtual threads waiting for the build do not pin their carriers.
+            trigramLock.lock();
+            try {
+                postings = trigrams;
+                if (postings == null) {
+                    postings = buildTrigrams();
+                    trigrams = postings;
+                }
+            } finally {
+                trigramLock.unlock();
+            }
+        }
+        return postings;
+    }
+
+    private Map<String, int[]> buildTrigrams() {
+        Map<String, List<Integer>> positions = new HashMap<>();
+        for (int i = 0; i < sortedNames.length; i++) {
+            for (String gram : grams(sortedNames[i])) {
+                List<Integer> list = positions.computeIfAbsent(gram, key -> new ArrayList<>());
+                // Names are visited in order, so postings stay sorted and free of duplicates.
+                if (list.isEmpty() || list.get(list.size() - 1) != i) {
+                    list.add(i);
+                }
+            }
+        }
+        Map<String, int[]> postings = new HashMap<>(positions.size() * 2);
+        positions.forEach((gram, list) -> postings.put(gram, list.stream().mapToInt(Integer::intValue).toArray()));
+        return postings;
+    }
+
+    private static List<String> grams(String value) {
+        List<String> grams = new ArrayList<>(Math.max(value.length() - GRAM + 1, 0));
+        for (int i = 0; i + GRAM <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+        int[] result = new int[Math.min(left.length, right.length)];
+        int size = 0;
+        for (int i = 0, j = 0; i < left.length && j < right.length; ) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[size++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private List<EmployeeResponse> collect(int[] positions) {
+        List<EmployeeResponse> matches = new ArrayList<>();
+        for (int position : positions) {
+            for (int row : byName.get(sortedNames[position])) {
+                matches.add(columns.get(row));
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,36 @@
+package com.reliaquest.api.cache;
+
+import java.util.Locale;
+
+/**
+ * How a name search is matched against employee names. All modes ignore case.
+ */
+public enum NameSearchMode {
+    EXACT,
+    PREFIX,
+    CONTAINS;
+
+    /**
+     * @param name - employee name, may be null
+     * @param query - search input, already passed through {@link #normalize(String)}
+     * @return whether the name matches the query in this mode
+     */
+    public boolean matches(String name, String query) {
+        if (name == null) {
+            return false;
+        }
+        String candidate = normalize(name);
+        return switch (this) {
+            case EXACT -> candidate.equals(query);
+            case PREFIX -> candidate.startsWith(query);
+            case CONTAINS -> candidate.contains(query);
+        };
+    }
+
+    /**
+     * @return the trimmed, lower-cased form names are compared in
+     */
+    public static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,101 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.EmployeeResponse;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Salary aggregates for one roster version. The index is built lazily, on first use, by
+ * {@link EmployeeSnapshot#getSalaryIndex()} behind the snapshot's lock, so the roster is sorted at most once;
+ * after that max and percentile lookups are O(1), range counts are O(log n) and top-N costs only the N rows returned.
+ * The sort runs over the salary column alone: each row is packed with its salary into one long, so sorting
+ * is a primitive sort with no comparator and no employee objects.
+ */
+public final class SalaryIndex {
+
+    private final EmployeeColumns columns;
+    private final int[] ascendingSalaries;
+    private final int[] rowsByDescendingSalary;
+
+    SalaryIndex(List<EmployeeResponse> employees) {
+        this(EmployeeColumns.of(employees));
+    }
+
+    SalaryIndex(EmployeeColumns columns) {
+        this.columns = columns;
+        int size = columns.size();
+        // The complemented salary in the high half sorts highest salaries first, and the row in the low half
+        // keeps roster order between employees on the same salary.
+        long[] keys = new long[size];
+        for (int row = 0; row < size; row++) {
+            keys[row] = ((long) ~columns.salary(row) << 32) | row;
+        }
+        Arrays.sort(keys);
+
+        rowsByDescendingSalary = new int[size];
+        ascendingSalaries = new int[size];
+        for (int i = 0; i < size; i++) {
+            rowsByDescendingSalary[i] = (int) keys[i];
+            ascendingSalaries[size - 1 - i] = ~(int) (keys[i] >> 32);
+        }
+    }
+
+    /**
+     * @return the highest salary, or 0 for an empty roster
+     */
+    public int max() {
+        return ascendingSalaries.length == 0 ? 0 : ascendingSalaries[ascendingSalaries.length - 1];
+    }
+
+    /**
+     * @param limit - maximum number of employees to return
+     * @return up to {@code limit} employees ordered by salary, highest first
+     */
+    public List<EmployeeResponse> topEarners(int limit) {
+        int count = Math.min(Math.max(limit, 0), rowsByDescendingSalary.length);
+        return List.copyOf(columns.rows(Arrays.copyOf(rowsByDescendingSalary, count)));
+    }
+
+    /**
+     * Nearest-rank percentile of the salary distribution.
+     * @param percentile - value between 0 and 100
+     * @return the salary at the given percentile, or 0 for an empty roster
+     */
+    public int percentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        if (ascendingSalaries.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * ascendingSalaries.length);
+        return ascendingSalaries[Math.max(rank, 1) - 1];
+    }
+
+    /**
+     * @param minSalary - lower bound, inclusive
+     * @param maxSalary - upper bound, inclusive
+     * @return number of employees earning within the range
+     */
+    public int countBetween(int minSalary, int maxSalary) {
+        if (minSalary > maxSalary) {
+            return 0;
+        }
+        return firstIndexAbove(maxSalary) - firstIndexAbove(minSalary - 1L);
+    }
+
+    private int firstIndexAbove(long salary) {
+        int low = 0;
+        int high = ascendingSalaries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ascendingSalaries[mid] <= salary) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -1,10 +1,14 @@
 package com.reliaquest.api.client;
 
+import com.reliaquest.api.dto.BatchResult;
 import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.EmployeeChanges;
+import com.reliaquest.api.dto.EmployeePage;
 import com.reliaquest.api.dto.EmployeeResponse;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Interface for talking to the Employee API to get, add, or delete employee details.
@@ -12,9 +16,29 @@ import java.util.Optional;
  */
 public interface IEmployeeApiClient {
     List<EmployeeResponse> fetchAllEmployees();
+
+    boolean streamAllEmployees(Consumer<EmployeeResponse> consumer);
+
+    Optional<EmployeePage> fetchEmployeesPage(String cursor, int limit);
+
+    /**
+     * Records a roster assembled from pages as the last one fetched successfully, so reads can fall back to it while
+     * the remote API is throttling, as they do after a full roster fetch.
+     * @param employees - every page of the roster, in order
+     */
+    void rememberRoster(List<EmployeeResponse> employees);
+
+    Optional<EmployeeChanges> fetchChanges(Long since, int limit);
+
     Optional<EmployeeResponse> fetchEmployeeById(String id);
 
     Optional<EmployeeResponse> postEmployee(Employee employeeInput);
 
     Optional<String> deleteEmployee(String employeeName);
+
+    Optional<EmployeeResponse> deleteEmployeeById(String id);
+
+    List<BatchResult<EmployeeResponse>> postEmployees(List<Employee> employeeInputs);
+
+    List<BatchResult<EmployeeResponse>> deleteEmployees(List<String> employeeNames);
 }
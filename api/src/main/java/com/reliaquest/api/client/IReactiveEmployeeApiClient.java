@@ -0,0 +1,30 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.dto.BatchResult;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.EmployeePage;
+import com.reliaquest.api.dto.EmployeeResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Non-blocking counterpart of {@link IEmployeeApiClient}. Errors follow the blocking client: reads and writes that
+ * fail complete empty, except that upstream throttling is signalled as an error.
+ */
+public interface IReactiveEmployeeApiClient {
+    Flux<EmployeeResponse> fetchAllEmployees();
+
+    Mono<EmployeePage> fetchEmployeesPage(String cursor, int limit);
+
+    Mono<EmployeeResponse> fetchEmployeeById(String id);
+
+    Mono<EmployeeResponse> postEmployee(Employee employeeInput);
+
+    Mono<EmployeeResponse> deleteEmployeeById(String id);
+
+    Flux<BatchResult<EmployeeResponse>> postEmployees(List<Employee> employeeInputs);
+
+    Flux<BatchResult<EmployeeResponse>> deleteEmployees(List<String> employeeNames);
+}
@@ -0,0 +1,86 @@
+package com.reliaquest.api.client.balancing;
+
+import com.reliaquest.api.client.resilience.ThrottleRetryInterceptor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Reactive counterpart of {@link LoadBalancingRequestFactory} for WebClient: the same endpoint choice, failover and
+ * ejection, applied as the innermost filter. A call counts as outstanding on its endpoint until its response arrives.
+ */
+public class LoadBalancingFilter implements ExchangeFilterFunction {
+
+    private final UpstreamPool pool;
+    private final String baseUrl;
+
+    /**
+     * @param baseUrl - base URL the client addresses its calls to; other URLs are passed through untouched
+     */
+    public LoadBalancingFilter(UpstreamPool pool, String baseUrl) {
+        this.pool = pool;
+        this.baseUrl = UpstreamEndpoint.stripTrailingSlash(baseUrl);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        String suffix = LoadBalancingRequestFactory.suffixOf(request.url().toString(), baseUrl);
+        if (suffix == null) {
+            return next.exchange(request);
+        }
+        return Mono.defer(() -> attempt(request, suffix, next, new ArrayList<>(2), null, null));
+    }
+
+    private Mono<ClientResponse> attempt(ClientRequest request, String suffix, ExchangeFunction next,
+                                         List<UpstreamEndpoint> tried, ClientResponse throttled, Throwable failure) {
+        UpstreamEndpoint endpoint = pool.choose(tried);
+        if (endpoint == null) {
+            return throttled != null ? Mono.just(throttled) : Mono.error(failure);
+        }
+        tried.add(endpoint);
+        ClientRequest routed = ClientRequest.from(request).url(endpoint.resolve(suffix)).build();
+        Mono<Void> release = throttled == null ? Mono.empty() : throttled.releaseBody();
+        return release
+                .then(Mono.defer(() -> {
+                    endpoint.begin();
+                    return next.exchange(routed).doFinally(signal -> endpoint.end());
+                }))
+                .map(response -> onResponse(request, suffix, next, tried, endpoint, response))
+                .onErrorResume(e -> Mono.just(onError(request, suffix, next, tried, endpoint, e)))
+                .flatMap(Function.identity());
+    }
+
+    private Mono<ClientResponse> onResponse(ClientRequest request, String suffix, ExchangeFunction next,
+                                            List<UpstreamEndpoint> tried, UpstreamEndpoint endpoint,
+                                            ClientResponse response) {
+        int status = response.statusCode().value();
+        if (status == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            pool.onThrottled(endpoint, ThrottleRetryInterceptor.parseRetryAfter(
+                    response.headers().asHttpHeaders().getFirst(HttpHeaders.RETRY_AFTER)));
+            return attempt(request, suffix, next, tried, response, null);
+        }
+        if (status >= 500) {
+            pool.onFailure(endpoint);
+        } else {
+            pool.onSuccess(endpoint);
+        }
+        return Mono.just(response);
+    }
+
+    private Mono<ClientResponse> onError(ClientRequest request, String suffix, ExchangeFunction next,
+                                         List<UpstreamEndpoint> tried, UpstreamEndpoint endpoint, Throwable e) {
+        pool.onFailure(endpoint);
+        if (!LoadBalancingRequestFactory.isIdempotent(request.method())) {
+            return Mono.error(e);
+        }
+        return attempt(request, suffix, next, tried, null, e);
+    }
+}
@@ -0,0 +1,201 @@
+package com.reliaquest.api.client.balancing;
+
+import com.reliaquest.api.client.resilience.ThrottleRetryInterceptor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.AbstractClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Sends calls addressed to the configured employee API base URL to one of the endpoints of an {@link UpstreamPool}.
+ * A call an endpoint throttles is sent on to the next healthy endpoint straight away, and so is a read that fails
+ * with an I/O error; only when every endpoint has throttled the call does the 429 reach the interceptors above.
+ * Sits beneath the RestTemplate's interceptors, so each of their attempts is balanced on its own.
+ */
+public class LoadBalancingRequestFactory implements ClientHttpRequestFactory {
+
+    private final ClientHttpRequestFactory delegate;
+    private final UpstreamPool pool;
+    private final String baseUrl;
+
+    /**
+     * @param baseUrl - base URL the client addresses its calls to; other URLs are passed through untouched
+     */
+    public LoadBalancingRequestFactory(ClientHttpRequestFactory delegate, UpstreamPool pool, String baseUrl) {
+        this.delegate = delegate;
+        this.pool = pool;
+        this.baseUrl = UpstreamEndpoint.stripTrailingSlash(baseUrl);
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        String suffix = suffixOf(uri.toString(), baseUrl);
+        if (suffix == null) {
+            return delegate.createRequest(uri, httpMethod);
+        }
+        return new BalancedRequest(uri, httpMethod, suffix);
+    }
+
+    /**
+     * @return the path and query following the base URL, or null if the URL is not under it
+     */
+    static String suffixOf(String url, String baseUrl) {
+        if (!url.startsWith(baseUrl)) {
+            return null;
+        }
+        String suffix = url.substring(baseUrl.length());
+        return suffix.isEmpty() || suffix.startsWith("/") || suffix.startsWith("?") ? suffix : null;
+    }
+
+    static boolean isIdempotent(HttpMethod method) {
+        return method == HttpMethod.GET || method == HttpMethod.HEAD || method == HttpMethod.OPTIONS;
+    }
+
+    private final class BalancedRequest extends AbstractClientHttpRequest {
+
+        private final URI uri;
+        private final HttpMethod method;
+        private final String suffix;
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(1024);
+
+        private BalancedRequest(URI uri, HttpMethod method, String suffix) {
+            this.uri = uri;
+            this.method = method;
+            this.suffix = suffix;
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return method;
+        }
+
+        @Override
+        public URI getURI() {
+            return uri;
+        }
+
+        @Override
+        protected OutputStream getBodyInternal(HttpHeaders headers) {
+            return body;
+        }
+
+        @Override
+        protected ClientHttpResponse executeInternal(HttpHeaders headers) throws IOException {
+            byte[] content = body.toByteArray();
+            List<UpstreamEndpoint> tried = new ArrayList<>(2);
+            ClientHttpResponse throttled = null;
+            IOException failure = null;
+            for (UpstreamEndpoint endpoint = pool.choose(tried); endpoint != null; endpoint = pool.choose(tried)) {
+                tried.add(endpoint);
+                if (throttled != null) {
+                    throttled.close();
+                    throttled = null;
+                }
+                ClientHttpResponse response = null;
+                int status;
+                endpoint.begin();
+                try {
+                    ClientHttpRequest request = delegate.createRequest(endpoint.resolve(suffix), method);
+                    request.getHeaders().putAll(headers);
+                    if (content.length > 0) {
+                        request.getBody().write(content);
+                    }
+                    response = new TrackedResponse(request.execute(), endpoint);
+                    status = response.getStatusCode().value();
+                } catch (IOException e) {
+                    release(response, endpoint);
+                    pool.onFailure(endpoint);
+                    if (!isIdempotent(method)) {
+                        throw e;
+                    }
+                    failure = e;
+                    continue;
+                } catch (RuntimeException e) {
+                    release(response, endpoint);
+                    throw e;
+                }
+
+                if (status == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                    pool.onThrottled(endpoint, ThrottleRetryInterceptor.parseRetryAfter(
+                            response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)));
+                    throttled = response;
+                    continue;
+                }
+                if (status >= 500) {
+                    pool.onFailure(endpoint);
+                } else {
+                    pool.onSuccess(endpoint);
+                }
+                return response;
+            }
+            if (throttled != null) {
+                return throttled;
+            }
+            throw failure != null ? failure : new IOException("No employee API endpoint available for " + uri);
+        }
+
+        private static void release(ClientHttpResponse response, UpstreamEndpoint endpoint) {
+            if (response != null) {
+                response.close();
+            } else {
+                endpoint.end();
+            }
+        }
+    }
+
+    /**
+     * Counts the call as outstanding on its endpoint until the response is closed.
+     */
+    private static final class TrackedResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final UpstreamEndpoint endpoint;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private TrackedResponse(ClientHttpResponse delegate, UpstreamEndpoint endpoint) {
+            this.delegate = delegate;
+            this.endpoint = endpoint;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                endpoint.end();
+            }
+            delegate.close();
+        }
+    }
+}
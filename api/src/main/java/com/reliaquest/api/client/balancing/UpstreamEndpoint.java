@@ -0,0 +1,63 @@
+package com.reliaquest.api.client.balancing;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One node of the remote employee API. Its health is tracked by the {@link UpstreamPool} it belongs to; the endpoint
+ * itself only counts the calls that are currently in flight to it.
+ */
+public class UpstreamEndpoint {
+
+    private final String baseUrl;
+    private final AtomicInteger outstanding = new AtomicInteger();
+
+    final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    // Written under the pool's lock; read without it only to decide whether to take the lock
+    volatile boolean ejected;
+
+    // Guarded by the pool's lock
+    long probeAt;
+    long lastEjectNanos;
+
+    UpstreamEndpoint(String baseUrl) {
+        this.baseUrl = stripTrailingSlash(baseUrl.trim());
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * @return calls sent to this endpoint whose response has not been closed yet
+     */
+    public int getOutstanding() {
+        return outstanding.get();
+    }
+
+    /**
+     * @param suffix - path and query following the base URL the client was configured with
+     * @return the address of the same resource on this endpoint
+     */
+    public URI resolve(String suffix) {
+        return URI.create(baseUrl + suffix);
+    }
+
+    void begin() {
+        outstanding.incrementAndGet();
+    }
+
+    void end() {
+        outstanding.decrementAndGet();
+    }
+
+    static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    @Override
+    public String toString() {
+        return baseUrl;
+    }
+}
@@ -0,0 +1,221 @@
+package com.reliaquest.api.client.balancing;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * The nodes of the remote employee API that calls are spread over, each with its own request limit.
+ * An endpoint that throttles a call is ejected straight away, and one that fails several calls in a row is ejected
+ * too. Ejected endpoints get no calls until a health probe succeeds; probes start once the ejection period has passed,
+ * and every failed probe doubles the period, up to the maximum. While every endpoint is ejected, calls go to the one
+ * due to be probed first rather than failing outright.
+ * Choosing an endpoint and recording a success take no lock: calls are spread over an immutable array of the healthy
+ * endpoints, which is replaced whenever one is ejected or taken back.
+ */
+@Slf4j
+public class UpstreamPool {
+
+    public enum Strategy {
+        ROUND_ROBIN,
+        LEAST_OUTSTANDING
+    }
+
+    private final List<UpstreamEndpoint> endpoints;
+    private final Strategy strategy;
+    private final int failureThreshold;
+    private final long baseEjectNanos;
+    private final long maxEjectNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile UpstreamEndpoint[] healthy;
+
+    /**
+     * @param baseUrls - base URL of every node, each serving the same roster
+     * @param failureThreshold - consecutive failed calls after which an endpoint is ejected
+     * @param ejectDuration - how long an endpoint first stays ejected before it is probed
+     * @param maxEjectDuration - longest an endpoint stays ejected between probes after repeated failures
+     */
+    public UpstreamPool(List<String> baseUrls, Strategy strategy, int failureThreshold, Duration ejectDuration,
+                        Duration maxEjectDuration) {
+        this(baseUrls, strategy, failureThreshold, ejectDuration, maxEjectDuration, System::nanoTime);
+    }
+
+    UpstreamPool(List<String> baseUrls, Strategy strategy, int failureThreshold, Duration ejectDuration,
+                 Duration maxEjectDuration, LongSupplier nanoClock) {
+        if (baseUrls.isEmpty()) {
+            throw new IllegalArgumentException("At least one employee API base URL is required");
+        }
+        this.endpoints = baseUrls.stream().map(UpstreamEndpoint::new).toList();
+        this.strategy = strategy;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.baseEjectNanos = ejectDuration.toNanos();
+        this.maxEjectNanos = Math.max(baseEjectNanos, maxEjectDuration.toNanos());
+        this.nanoClock = nanoClock;
+        this.healthy = endpoints.toArray(UpstreamEndpoint[]::new);
+    }
+
+    public List<UpstreamEndpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    /**
+     * Picks the endpoint for the next attempt of a call.
+     * @param tried - endpoints this call was already sent to
+     * @return a healthy endpoint not tried yet; the ejected endpoint due to be probed first if none is healthy and
+     * this is the first attempt; otherwise null
+     */
+    public UpstreamEndpoint choose(Collection<UpstreamEndpoint> tried) {
+        UpstreamEndpoint[] candidates = healthy;
+        int size = candidates.length;
+        UpstreamEndpoint chosen = null;
+        if (size > 0) {
+            int start = Math.floorMod(next.getAndIncrement(), size);
+            for (int i = 0; i < size; i++) {
+                UpstreamEndpoint endpoint = candidates[(start + i) % size];
+                if (tried.contains(endpoint)) {
+                    continue;
+                }
+                if (strategy == Strategy.ROUND_ROBIN) {
+                    return endpoint;
+                }
+                if (chosen == null || endpoint.getOutstanding() < chosen.getOutstanding()) {
+                    chosen = endpoint;
+                }
+            }
+        }
+        if (chosen != null) {
+            return chosen;
+        }
+        return tried.isEmpty() ? dueForProbeFirst() : null;
+    }
+
+    /**
+     * Records that an endpoint answered without throttling or failing.
+     */
+    public void onSuccess(UpstreamEndpoint endpoint) {
+        endpoint.consecutiveFailures.set(0);
+    }
+
+    /**
+     * Records that an endpoint timed out, could not be reached or answered with a server error, ejecting it once
+     * this has happened too many times in a row.
+     */
+    public void onFailure(UpstreamEndpoint endpoint) {
+        int failures = endpoint.consecutiveFailures.incrementAndGet();
+        if (failures < failureThreshold || endpoint.ejected) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (!endpoint.ejected) {
+                eject(endpoint, null, failures + " consecutive failures");
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Ejects an endpoint that throttled a call.
+     * @param retryAfter - how long the endpoint asked callers to back off, or null if it did not say
+     */
+    public void onThrottled(UpstreamEndpoint endpoint, Duration retryAfter) {
+        lock.lock();
+        try {
+            if (!endpoint.ejected) {
+                eject(endpoint, retryAfter, "throttling");
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Probes the ejected endpoints whose ejection period has passed, taking back the ones that pass and ejecting
+     * the others for twice as long.
+     * @param healthy - the probe; called without holding any lock
+     */
+    public void probe(Predicate<UpstreamEndpoint> healthy) {
+        for (UpstreamEndpoint endpoint : endpoints) {
+            if (!dueForProbe(endpoint)) {
+                continue;
+            }
+            boolean passed = healthy.test(endpoint);
+            lock.lock();
+            try {
+                if (passed) {
+                    endpoint.ejected = false;
+                    endpoint.consecutiveFailures.set(0);
+                    endpoint.lastEjectNanos = 0;
+                    publishHealthy();
+                    log.info("Employee API endpoint {} passed its health probe and takes calls again", endpoint);
+                } else {
+                    eject(endpoint, null, "a failed health probe");
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    public boolean isEjected(UpstreamEndpoint endpoint) {
+        return endpoint.ejected;
+    }
+
+    /**
+     * @return the ejected endpoint due to be probed first, or any healthy one if an endpoint was taken back since
+     * the caller found none
+     */
+    private UpstreamEndpoint dueForProbeFirst() {
+        lock.lock();
+        try {
+            UpstreamEndpoint first = null;
+            for (UpstreamEndpoint endpoint : endpoints) {
+                if (!endpoint.ejected) {
+                    return endpoint;
+                }
+                if (first == null || endpoint.probeAt - first.probeAt < 0) {
+                    first = endpoint;
+                }
+            }
+            return first;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean dueForProbe(UpstreamEndpoint endpoint) {
+        lock.lock();
+        try {
+            return endpoint.ejected && nanoClock.getAsLong() - endpoint.probeAt >= 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void eject(UpstreamEndpoint endpoint, Duration retryAfter, String reason) {
+        long ejectNanos = endpoint.lastEjectNanos == 0
+                ? baseEjectNanos
+                : Math.min(maxEjectNanos, endpoint.lastEjectNanos * 2);
+        if (retryAfter != null) {
+            ejectNanos = Math.max(ejectNanos, retryAfter.toNanos());
+        }
+        endpoint.lastEjectNanos = ejectNanos;
+        endpoint.probeAt = nanoClock.getAsLong() + ejectNanos;
+        endpoint.ejected = true;
+        publishHealthy();
+        log.warn("Ejecting employee API endpoint {} for {} after {}", endpoint, Duration.ofNanos(ejectNanos), reason);
+    }
+
+    private void publishHealthy() {
+        healthy = endpoints.stream().filter(endpoint -> !endpoint.ejected).toArray(UpstreamEndpoint[]::new);
+    }
+}
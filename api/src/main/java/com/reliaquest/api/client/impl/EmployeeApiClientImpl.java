@@ -1,78 +1,273 @@
 package com.reliaquest.api.client.impl;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.reliaquest.api.client.IEmployeeApiClient;
+import com.reliaquest.api.client.metrics.EmployeeClientMetrics;
+import com.reliaquest.api.client.resilience.UpstreamThrottledException;
+import com.reliaquest.api.dto.BatchResult;
 import com.reliaquest.api.dto.DeleteEmployee;
 import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.EmployeeChanges;
+import com.reliaquest.api.dto.EmployeePage;
 import com.reliaquest.api.dto.EmployeeResponse;
 import com.reliaquest.api.wrapper.EmployeeResponseWrapper;
+import com.reliaquest.api.wrapper.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 /**
  * This client class is used to handle communication with the external employee data service.
+ * Payloads are decoded straight from the response stream by the RestTemplate's shared Jackson mapper.
+ * Upstream throttling is not swallowed like other errors: it surfaces as {@link UpstreamThrottledException}, except
+ * for roster and single-employee reads, which fall back to the last roster fetched successfully.
+ * Roster and first-page reads are conditional: the validators of the last response are sent back, and on a 304 the
+ * list or page decoded from that response is returned again, as the same instance.
  * @author - Ajinkya Choudhary
  */
 @Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class EmployeeApiClientImpl implements IEmployeeApiClient {
 
     private static final Logger log = LoggerFactory.getLogger(EmployeeApiClientImpl.class);
-    private static final String BASE_URL = "http://localhost:8112/api/v1/employee";
+    private static final String DEFAULT_BASE_URL = "http://localhost:8112/api/v1/employee";
+    private static final ParameterizedTypeReference<Response<EmployeeResponse>> EMPLOYEE_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<Response<EmployeePage>> PAGE_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<Response<EmployeeChanges>> CHANGES_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<Response<Boolean>> DELETE_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<Response<List<BatchResult<EmployeeResponse>>>> BATCH_RESPONSE =
+            new ParameterizedTypeReference<>() {};
     private final RestTemplate restTemplate;
+    private final String baseUrl;
+    private final String batchUrl;
+    private final String changesUrl;
+    private final EmployeeClientMetrics metrics;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader employeeReader;
+    private final AtomicReference<Validated<List<EmployeeResponse>>> lastGoodRoster = new AtomicReference<>();
+    private final AtomicReference<Validated<EmployeePage>> lastFirstPage = new AtomicReference<>();
 
-    public EmployeeApiClientImpl(RestTemplate restTemplate) {
+    public EmployeeApiClientImpl(RestTemplate restTemplate, ObjectMapper objectMapper) {
+        this(restTemplate, objectMapper, DEFAULT_BASE_URL, new EmployeeClientMetrics(new SimpleMeterRegistry()));
+    }
+
+    /**
+     * @param baseUrl - employee resource of the remote API, without a trailing slash
+     * @param metrics - records every upstream call and every exception handled here without rethrowing
+     */
+    @Autowired
+    public EmployeeApiClientImpl(RestTemplate restTemplate, ObjectMapper objectMapper,
+                                 @Value("${employee.client.base-url:" + DEFAULT_BASE_URL + "}") String baseUrl,
+                                 EmployeeClientMetrics metrics) {
         this.restTemplate = restTemplate;
+        this.baseUrl = baseUrl;
+        this.batchUrl = baseUrl + "/batch";
+        this.changesUrl = baseUrl + "/changes";
+        this.metrics = metrics;
+        this.objectMapper = objectMapper;
+        this.employeeReader = objectMapper.readerFor(EmployeeResponse.class);
     }
 
     /**
      * Method is used to fetches all employees from the remote employee API.
      * @return a list of EmployeeResponse objects; returns an empty list if the API call or parsing fails
+     * @throws UpstreamThrottledException if the API is throttling and no roster has been fetched yet
      */
     @Override
     public List<EmployeeResponse> fetchAllEmployees() {
         try {
-            String response = restTemplate.getForObject(BASE_URL, String.class);
-            ObjectMapper mapper = new ObjectMapper();
-            EmployeeResponseWrapper employeeResponseWrapper = mapper.readValue(response,EmployeeResponseWrapper.class);
+            Validated<List<EmployeeResponse>> cached = lastGoodRoster.get();
+            ResponseEntity<EmployeeResponseWrapper> response = metrics.time("fetchAllEmployees",
+                    () -> restTemplate.exchange(baseUrl, HttpMethod.GET, conditional(cached),
+                            EmployeeResponseWrapper.class));
+            if (cached != null && response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                log.debug("Roster not modified since {}", cached.etag());
+                return cached.value();
+            }
+            EmployeeResponseWrapper employeeResponseWrapper = response.getBody();
+            if (employeeResponseWrapper == null || employeeResponseWrapper.getEmployees() == null) {
+                return List.of();
+            }
+            lastGoodRoster.set(Validated.of(baseUrl, employeeResponseWrapper.getEmployees(), response.getHeaders()));
             return employeeResponseWrapper.getEmployees();
 
+        } catch (UpstreamThrottledException e) {
+            Validated<List<EmployeeResponse>> lastGood = lastGoodRoster.get();
+            if (lastGood == null) {
+                throw e;
+            }
+            log.warn("Employee API is throttling, serving the last roster fetched ({} employees)",
+                    lastGood.value().size());
+            return lastGood.value();
         } catch (Exception e) {
+            metrics.swallowed("fetchAllEmployees", e);
             log.error("Error fetching employees", e);
             return List.of();
         }
     }
 
     /**
-     * Fetches a single employee by ID from the remote employee API.
-     * @param id - id the UUID of the employee to retrieve
-     * @return EmployeeResponse if found; otherwise, Optional.empty()
+     * Streams all employees from the remote employee API into the given consumer, one at a time.
+     * The {@code data} array is walked token by token, so the full roster is never held in memory.
+     * @param consumer - receives each employee as soon as it is decoded
+     * @return true if the whole roster was streamed; false if the API call or parsing failed part way
      */
     @Override
-    public Optional<EmployeeResponse> fetchEmployeeById(String id) {
+    public boolean streamAllEmployees(Consumer<EmployeeResponse> consumer) {
         try {
-            String response = restTemplate.getForObject(BASE_URL + "/" + id, String.class);
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode rootNode = mapper.readTree(response);
+            Boolean streamed = metrics.time("streamAllEmployees", () -> restTemplate.execute(
+                    baseUrl,
+                    HttpMethod.GET,
+                    request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON)),
+                    response -> {
+                        try (JsonParser parser = objectMapper.getFactory().createParser(response.getBody())) {
+                            return streamData(parser, consumer);
+                        }
+                    }));
+            return Boolean.TRUE.equals(streamed);
+        } catch (UpstreamThrottledException e) {
+            throw e;
+        } catch (Exception e) {
+            metrics.swallowed("streamAllEmployees", e);
+            log.error("Error streaming employees", e);
+            return false;
+        }
+    }
+
+    private boolean streamData(JsonParser parser, Consumer<EmployeeResponse> consumer) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("data".equals(field) && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    consumer.accept(employeeReader.readValue(parser));
+                }
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
 
-            // Extract the "data" node from the JSON response
-            JsonNode dataNode = rootNode.get("data");
+    /**
+     * Fetches one page of employees from the remote employee API.
+     * @param cursor - nextCursor of the previous page, or null for the first page
+     * @param limit - maximum number of employees in the page
+     * @return the page if the call succeeds; otherwise, Optional.empty(). A first page answered with 304 is the
+     * instance returned for the previous first page of the same size, which means the whole roster is unchanged.
+     */
+    @Override
+    public Optional<EmployeePage> fetchEmployeesPage(String cursor, int limit) {
+        try {
+            String url = UriComponentsBuilder.fromHttpUrl(baseUrl)
+                    .queryParam("limit", limit)
+                    .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                    .toUriString();
+            Validated<EmployeePage> cached = cursor == null ? lastFirstPage.get() : null;
+            Validated<EmployeePage> validators = cached != null && cached.url().equals(url) ? cached : null;
+            ResponseEntity<Response<EmployeePage>> response = metrics.time("fetchEmployeesPage",
+                    () -> restTemplate.exchange(url, HttpMethod.GET, conditional(validators), PAGE_RESPONSE));
+            if (validators != null && response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                return Optional.of(validators.value());
+            }
+            Optional<EmployeePage> page = Optional.ofNullable(response.getBody()).map(Response::getData);
+            if (cursor == null) {
+                page.ifPresent(first -> lastFirstPage.set(Validated.of(url, first, response.getHeaders())));
+            }
+            return page;
+        } catch (UpstreamThrottledException e) {
+            throw e;
+        } catch (Exception e) {
+            metrics.swallowed("fetchEmployeesPage", e);
+            log.error("Error fetching employees page after cursor {}", cursor, e);
+            return Optional.empty();
+        }
+    }
 
-            // Convert the "data" node directly into an Employee object
-            EmployeeResponse employee = mapper.treeToValue(dataNode, EmployeeResponse.class);
+    /**
+     * The roster is kept without validators: it was not served by one response, so there is nothing to send back.
+     */
+    @Override
+    public void rememberRoster(List<EmployeeResponse> employees) {
+        lastGoodRoster.set(new Validated<>(baseUrl, employees, null, null));
+    }
 
-            return Optional.ofNullable(employee);
+    /**
+     * Reads the remote API's roster change log.
+     * @param since - sequence of the last change already applied, or null to learn the current position of the log
+     * @param limit - maximum number of changes in the batch
+     * @return the changes after since, oldest first, if the call succeeds; otherwise, Optional.empty()
+     */
+    @Override
+    public Optional<EmployeeChanges> fetchChanges(Long since, int limit) {
+        try {
+            String url = UriComponentsBuilder.fromHttpUrl(changesUrl)
+                    .queryParamIfPresent("since", Optional.ofNullable(since))
+                    .queryParam("limit", limit)
+                    .toUriString();
+            ResponseEntity<Response<EmployeeChanges>> response = metrics.time("fetchChanges",
+                    () -> restTemplate.exchange(url, HttpMethod.GET, null, CHANGES_RESPONSE));
+            return Optional.ofNullable(response.getBody()).map(Response::getData);
+        } catch (UpstreamThrottledException e) {
+            throw e;
         } catch (Exception e) {
+            metrics.swallowed("fetchChanges", e);
+            log.error("Error fetching roster changes since {}", since, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Fetches a single employee by ID from the remote employee API.
+     * @param id - id the UUID of the employee to retrieve
+     * @return EmployeeResponse if found; otherwise, Optional.empty()
+     */
+    @Override
+    public Optional<EmployeeResponse> fetchEmployeeById(String id) {
+        try {
+            ResponseEntity<Response<EmployeeResponse>> response = metrics.time("fetchEmployeeById",
+                    () -> restTemplate.exchange(baseUrl + "/" + id, HttpMethod.GET, null, EMPLOYEE_RESPONSE));
+            return Optional.ofNullable(response.getBody()).map(Response::getData);
+        } catch (UpstreamThrottledException e) {
+            Validated<List<EmployeeResponse>> lastGood = lastGoodRoster.get();
+            if (lastGood == null) {
+                throw e;
+            }
+            return lastGood.value().stream().filter(employee -> id.equals(String.valueOf(employee.getId()))).findFirst();
+        } catch (HttpClientErrorException.NotFound e) {
             log.warn("Employee not found: {}", id);
             return Optional.empty();
+        } catch (Exception e) {
+            metrics.swallowed("fetchEmployeeById", e);
+            log.warn("Error fetching employee {}", id, e);
+            return Optional.empty();
         }
     }
 
@@ -84,13 +279,14 @@ public class EmployeeApiClientImpl implements IEmployeeApiClient {
     @Override
     public Optional<EmployeeResponse> postEmployee(Employee employeeInput) {
         try {
-            Map<String,Object> map = restTemplate.postForObject(BASE_URL, employeeInput, Map.class);
-            Object data = map.get("data");
-            ObjectMapper objectMapper = new ObjectMapper();
-            EmployeeResponse employee = objectMapper.convertValue(data, EmployeeResponse.class);
-            return Optional.ofNullable(employee);
+            ResponseEntity<Response<EmployeeResponse>> response = metrics.time("postEmployee",
+                    () -> restTemplate.exchange(baseUrl, HttpMethod.POST, new HttpEntity<>(employeeInput), EMPLOYEE_RESPONSE));
+            return Optional.ofNullable(response.getBody()).map(Response::getData);
+        } catch (UpstreamThrottledException e) {
+            throw e;
         } catch (Exception e) {
-            e.printStackTrace();
+            metrics.swallowed("postEmployee", e);
+            log.error("Error creating employee", e);
             return Optional.empty();
         }
     }
@@ -111,20 +307,126 @@ public class EmployeeApiClientImpl implements IEmployeeApiClient {
 
             HttpEntity<DeleteEmployee> request = new HttpEntity<>(deleteEmployee, headers);
 
-            ResponseEntity<String> response = restTemplate.exchange(
-                    BASE_URL,
+            ResponseEntity<Response<Boolean>> response = metrics.time("deleteEmployee", () -> restTemplate.exchange(
+                    baseUrl,
                     HttpMethod.DELETE,
                     request,
-                    String.class
-            );
-            if (response.getStatusCode().is2xxSuccessful()) {
+                    DELETE_RESPONSE
+            ));
+            boolean deleted = response.getBody() != null && Boolean.TRUE.equals(response.getBody().getData());
+            if (response.getStatusCode().is2xxSuccessful() && deleted) {
                 return Optional.of("Employee with name " + employeeName  + " deleted successfully.");
             } else {
                 return Optional.empty();
             }
+        } catch (UpstreamThrottledException e) {
+            throw e;
         } catch (Exception e) {
-            e.printStackTrace();
+            metrics.swallowed("deleteEmployee", e);
+            log.error("Error deleting employee {}", employeeName, e);
             return Optional.empty();
         }
     }
+
+    /**
+     * Sends a DELETE request to remove an employee by ID from the remote API, in a single round trip.
+     * @param id - the UUID of the employee to be deleted
+     * @return the deleted employee; Optional.empty() if no employee has that ID
+     * @throws RuntimeException if the remote API could not be reached or failed
+     */
+    @Override
+    public Optional<EmployeeResponse> deleteEmployeeById(String id) {
+        try {
+            ResponseEntity<Response<EmployeeResponse>> response = metrics.time("deleteEmployeeById",
+                    () -> restTemplate.exchange(baseUrl + "/" + id, HttpMethod.DELETE, null, EMPLOYEE_RESPONSE));
+            return Optional.ofNullable(response.getBody()).map(Response::getData);
+        } catch (HttpClientErrorException.NotFound | HttpClientErrorException.BadRequest e) {
+            log.warn("Employee not found: {}", id);
+            return Optional.empty();
+        } catch (UpstreamThrottledException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("Employee with ID " + id + " could not be deleted", e);
+        }
+    }
+
+    /**
+     * Sends one POST request creating all the given employees in the remote system.
+     * @param employeeInputs - employees to be created, in the order results are reported
+     * @return one result per input; every item is reported as failed if the request itself fails
+     */
+    @Override
+    public List<BatchResult<EmployeeResponse>> postEmployees(List<Employee> employeeInputs) {
+        return exchangeBatch("postEmployees", HttpMethod.POST, employeeInputs, employeeInputs.size());
+    }
+
+    /**
+     * Sends one DELETE request removing an employee for each of the given names from the remote API.
+     * @param employeeNames - names of the employees to be deleted
+     * @return one result per name holding the deleted employee; every item is reported as failed if the request
+     * itself fails
+     */
+    @Override
+    public List<BatchResult<EmployeeResponse>> deleteEmployees(List<String> employeeNames) {
+        List<DeleteEmployee> inputs = new ArrayList<>(employeeNames.size());
+        for (String employeeName : employeeNames) {
+            DeleteEmployee deleteEmployee = new DeleteEmployee();
+            deleteEmployee.setName(employeeName);
+            inputs.add(deleteEmployee);
+        }
+        return exchangeBatch("deleteEmployees", HttpMethod.DELETE, inputs, inputs.size());
+    }
+
+    private List<BatchResult<EmployeeResponse>> exchangeBatch(String operation, HttpMethod method, Object body,
+                                                              int size) {
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+
+            ResponseEntity<Response<List<BatchResult<EmployeeResponse>>>> response = metrics.time(operation,
+                    () -> restTemplate.exchange(batchUrl, method, new HttpEntity<>(body, headers), BATCH_RESPONSE));
+            if (response.getBody() != null && response.getBody().getData() != null) {
+                return response.getBody().getData();
+            }
+            return failAll(size, "Empty batch response");
+        } catch (UpstreamThrottledException e) {
+            throw e;
+        } catch (Exception e) {
+            metrics.swallowed(operation, e);
+            log.error("Error sending {} batch of {} employees", method, size, e);
+            return failAll(size, "Batch request failed");
+        }
+    }
+
+    private static List<BatchResult<EmployeeResponse>> failAll(int size, String error) {
+        List<BatchResult<EmployeeResponse>> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            results.add(BatchResult.failure(i, error));
+        }
+        return results;
+    }
+
+    /**
+     * @return a GET request carrying the validators of a previous response, if there is one
+     */
+    private static HttpEntity<Void> conditional(Validated<?> previous) {
+        HttpHeaders headers = new HttpHeaders();
+        if (previous != null && previous.etag() != null) {
+            headers.setIfNoneMatch(previous.etag());
+        }
+        if (previous != null && previous.lastModified() != null) {
+            headers.set(HttpHeaders.IF_MODIFIED_SINCE, previous.lastModified());
+        }
+        return new HttpEntity<>(headers);
+    }
+
+    /**
+     * A decoded response body with the validators it was served with.
+     */
+    private record Validated<T>(String url, T value, String etag, String lastModified) {
+
+        static <T> Validated<T> of(String url, T value, HttpHeaders headers) {
+            return new Validated<>(url, value, headers.getETag(), headers.getFirst(HttpHeaders.LAST_MODIFIED));
+        }
+    }
 }
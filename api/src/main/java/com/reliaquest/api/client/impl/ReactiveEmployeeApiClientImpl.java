@@ -0,0 +1,182 @@
+package com.reliaquest.api.client.impl;
+
+import com.reliaquest.api.client.IReactiveEmployeeApiClient;
+import com.reliaquest.api.client.resilience.UpstreamThrottledException;
+import com.reliaquest.api.dto.BatchResult;
+import com.reliaquest.api.dto.DeleteEmployee;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.EmployeePage;
+import com.reliaquest.api.dto.EmployeeResponse;
+import com.reliaquest.api.wrapper.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * This client class is used to handle non-blocking communication with the external employee data service.
+ * Rate limiting, retries and the circuit breaker are applied by the WebClient's filter.
+ */
+@Slf4j
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveEmployeeApiClientImpl implements IReactiveEmployeeApiClient {
+
+    private static final ParameterizedTypeReference<Response<List<EmployeeResponse>>> ROSTER_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<Response<EmployeeResponse>> EMPLOYEE_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<Response<EmployeePage>> PAGE_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<Response<List<BatchResult<EmployeeResponse>>>> BATCH_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+    private static final Predicate<Throwable> NOT_THROTTLED = e -> !(e instanceof UpstreamThrottledException);
+
+    private final WebClient webClient;
+
+    public ReactiveEmployeeApiClientImpl(@Qualifier("employeeApiWebClient") WebClient webClient) {
+        this.webClient = webClient;
+    }
+
+    /**
+     * Fetches all employees from the remote employee API.
+     * @return the employees; completes empty if the API call or parsing fails
+     */
+    @Override
+    public Flux<EmployeeResponse> fetchAllEmployees() {
+        return webClient.get()
+                .retrieve()
+                .bodyToMono(ROSTER_RESPONSE)
+                .flatMapIterable(response -> Optional.ofNullable(response.getData()).orElse(List.of()))
+                .onErrorResume(NOT_THROTTLED, e -> {
+                    log.error("Error fetching employees", e);
+                    return Flux.empty();
+                });
+    }
+
+    /**
+     * Fetches one page of employees from the remote employee API.
+     * @param cursor - nextCursor of the previous page, or null for the first page
+     * @param limit - maximum number of employees in the page
+     * @return the page; completes empty if the call fails
+     */
+    @Override
+    public Mono<EmployeePage> fetchEmployeesPage(String cursor, int limit) {
+        return webClient.get()
+                .uri(builder -> builder.queryParam("limit", limit)
+                        .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                        .build())
+                .retrieve()
+                .bodyToMono(PAGE_RESPONSE)
+                .mapNotNull(Response::getData)
+                .onErrorResume(NOT_THROTTLED, e -> {
+                    log.error("Error fetching employees page after cursor {}", cursor, e);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Fetches a single employee by ID from the remote employee API.
+     * @param id - the UUID of the employee to retrieve
+     * @return the employee; completes empty if it is not found or the call fails
+     */
+    @Override
+    public Mono<EmployeeResponse> fetchEmployeeById(String id) {
+        return webClient.get()
+                .uri("/{id}", id)
+                .retrieve()
+                .bodyToMono(EMPLOYEE_RESPONSE)
+                .mapNotNull(Response::getData)
+                .onErrorResume(NOT_THROTTLED, e -> {
+                    log.warn("Employee not found: {}", id);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Sends a POST request to create a new employee in the remote system.
+     * @param employeeInput - Employee object containing new employee details
+     * @return the created employee; completes empty if the call fails
+     */
+    @Override
+    public Mono<EmployeeResponse> postEmployee(Employee employeeInput) {
+        return webClient.post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(employeeInput)
+                .retrieve()
+                .bodyToMono(EMPLOYEE_RESPONSE)
+                .mapNotNull(Response::getData)
+                .onErrorResume(NOT_THROTTLED, e -> {
+                    log.error("Error creating employee", e);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Sends a DELETE request to remove an employee by ID from the remote API.
+     * @param id - the UUID of the employee to be deleted
+     * @return the deleted employee; completes empty if no employee has that ID
+     */
+    @Override
+    public Mono<EmployeeResponse> deleteEmployeeById(String id) {
+        return webClient.delete()
+                .uri("/{id}", id)
+                .retrieve()
+                .bodyToMono(EMPLOYEE_RESPONSE)
+                .mapNotNull(Response::getData)
+                .onErrorResume(e -> e instanceof WebClientResponseException.NotFound
+                        || e instanceof WebClientResponseException.BadRequest, e -> {
+                    log.warn("Employee not found: {}", id);
+                    return Mono.empty();
+                })
+                .onErrorMap(NOT_THROTTLED,
+                        e -> new RuntimeException("Employee with ID " + id + " could not be deleted", e));
+    }
+
+    @Override
+    public Flux<BatchResult<EmployeeResponse>> postEmployees(List<Employee> employeeInputs) {
+        return exchangeBatch(HttpMethod.POST, employeeInputs, employeeInputs.size());
+    }
+
+    @Override
+    public Flux<BatchResult<EmployeeResponse>> deleteEmployees(List<String> employeeNames) {
+        List<DeleteEmployee> inputs = employeeNames.stream().map(name -> {
+            DeleteEmployee deleteEmployee = new DeleteEmployee();
+            deleteEmployee.setName(name);
+            return deleteEmployee;
+        }).toList();
+        return exchangeBatch(HttpMethod.DELETE, inputs, inputs.size());
+    }
+
+    private Flux<BatchResult<EmployeeResponse>> exchangeBatch(HttpMethod method, Object body, int size) {
+        return webClient.method(method)
+                .uri("/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(BATCH_RESPONSE)
+                .mapNotNull(Response::getData)
+                .switchIfEmpty(Mono.fromSupplier(() -> failAll(size, "Empty batch response")))
+                .onErrorResume(NOT_THROTTLED, e -> {
+                    log.error("Error sending {} batch of {} employees", method, size, e);
+                    return Mono.just(failAll(size, "Batch request failed"));
+                })
+                .flatMapIterable(results -> results);
+    }
+
+    private static List<BatchResult<EmployeeResponse>> failAll(int size, String error) {
+        return IntStream.range(0, size).mapToObj(i -> BatchResult.<EmployeeResponse>failure(i, error)).toList();
+    }
+}
@@ -0,0 +1,181 @@
+package com.reliaquest.api.client.impl;
+
+import com.reliaquest.api.client.IEmployeeApiClient;
+import com.reliaquest.api.dto.BatchResult;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.EmployeeChanges;
+import com.reliaquest.api.dto.EmployeePage;
+import com.reliaquest.api.dto.EmployeeResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Coalesces concurrent reads of the same resource into one upstream request, so a burst of callers asking for the
+ * roster, the same page, the same changes or the same employee costs a single call to the remote API. Writes are passed straight
+ * through.
+ */
+@Primary
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class SingleFlightEmployeeApiClient implements IEmployeeApiClient {
+
+    private final IEmployeeApiClient delegate;
+
+    private final SingleFlight<String, List<EmployeeResponse>> rosterFlights = new SingleFlight<>();
+    private final SingleFlight<String, Optional<EmployeePage>> pageFlights = new SingleFlight<>();
+    private final SingleFlight<String, Optional<EmployeeChanges>> changeFlights = new SingleFlight<>();
+    private final SingleFlight<String, Optional<EmployeeResponse>> employeeFlights = new SingleFlight<>();
+
+    private final ReentrantLock streamLock = new ReentrantLock();
+    private StreamFlight streamFlight;  // guarded by streamLock
+
+    public SingleFlightEmployeeApiClient(EmployeeApiClientImpl delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public List<EmployeeResponse> fetchAllEmployees() {
+        return rosterFlights.execute("roster", delegate::fetchAllEmployees);
+    }
+
+    /**
+     * Streams the roster into the consumer. Callers arriving before the in-flight stream has produced its first
+     * employee join it and receive every employee from it; later callers start a stream of their own.
+     * Joined consumers are called on the streaming thread, one at a time.
+     * @param consumer - receives each employee as soon as it is decoded
+     * @return true if the whole roster was streamed
+     */
+    @Override
+    public boolean streamAllEmployees(Consumer<EmployeeResponse> consumer) {
+        StreamFlight joined = null;
+        StreamFlight leading = null;
+        streamLock.lock();
+        try {
+            if (streamFlight != null && streamFlight.join(consumer)) {
+                joined = streamFlight;
+            } else {
+                leading = new StreamFlight(consumer);
+                streamFlight = leading;
+            }
+        } finally {
+            streamLock.unlock();
+        }
+        return joined != null ? SingleFlight.await(joined.result) : lead(leading);
+    }
+
+    private boolean lead(StreamFlight flight) {
+        try {
+            boolean streamed = delegate.streamAllEmployees(flight);
+            flight.result.complete(streamed);
+            return streamed;
+        } catch (RuntimeException | Error e) {
+            flight.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            streamLock.lock();
+            try {
+                if (streamFlight == flight) {
+                    streamFlight = null;
+                }
+            } finally {
+                streamLock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public Optional<EmployeePage> fetchEmployeesPage(String cursor, int limit) {
+        return pageFlights.execute(cursor + "/" + limit, () -> delegate.fetchEmployeesPage(cursor, limit));
+    }
+
+    @Override
+    public void rememberRoster(List<EmployeeResponse> employees) {
+        delegate.rememberRoster(employees);
+    }
+
+    @Override
+    public Optional<EmployeeChanges> fetchChanges(Long since, int limit) {
+        return changeFlights.execute(since + "/" + limit, () -> delegate.fetchChanges(since, limit));
+    }
+
+    @Override
+    public Optional<EmployeeResponse> fetchEmployeeById(String id) {
+        return employeeFlights.execute(id, () -> delegate.fetchEmployeeById(id));
+    }
+
+    @Override
+    public Optional<EmployeeResponse> postEmployee(Employee employeeInput) {
+        return delegate.postEmployee(employeeInput);
+    }
+
+    @Override
+    public Optional<String> deleteEmployee(String employeeName) {
+        return delegate.deleteEmployee(employeeName);
+    }
+
+    @Override
+    public Optional<EmployeeResponse> deleteEmployeeById(String id) {
+        return delegate.deleteEmployeeById(id);
+    }
+
+    @Override
+    public List<BatchResult<EmployeeResponse>> postEmployees(List<Employee> employeeInputs) {
+        return delegate.postEmployees(employeeInputs);
+    }
+
+    @Override
+    public List<BatchResult<EmployeeResponse>> deleteEmployees(List<String> employeeNames) {
+        return delegate.deleteEmployees(employeeNames);
+    }
+
+    /**
+     * One roster stream fanned out to every consumer that joined it before its first employee arrived.
+     */
+    private static final class StreamFlight implements Consumer<EmployeeResponse> {
+
+        private final List<Consumer<EmployeeResponse>> consumers = new ArrayList<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+        private boolean started;
+
+        private StreamFlight(Consumer<EmployeeResponse> leader) {
+            consumers.add(leader);
+        }
+
+        private boolean join(Consumer<EmployeeResponse> consumer) {
+            lock.lock();
+            try {
+                if (started) {
+                    return false;
+                }
+                consumers.add(consumer);
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void accept(EmployeeResponse employee) {
+            if (!started) {
+                lock.lock();
+                try {
+                    started = true;
+                } finally {
+                    lock.unlock();
+                }
+            }
+            for (Consumer<EmployeeResponse> consumer : consumers) {
+                consumer.accept(employee);
+            }
+        }
+    }
+}
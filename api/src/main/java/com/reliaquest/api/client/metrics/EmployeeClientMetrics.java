@@ -0,0 +1,125 @@
+package com.reliaquest.api.client.metrics;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.reliaquest.api.client.resilience.UpstreamThrottledException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Meters for calls to the remote employee API: a timer per client operation tagged by outcome, the size of every
+ * response body, and a counter of exceptions the client handles without rethrowing.
+ * Upstream time includes reading and decoding the response, so it can be set against the server-side
+ * {@code http.server.requests} timers and the {@code employee.snapshot.build} timer to see where latency goes.
+ */
+public class EmployeeClientMetrics {
+
+    public static final String CALLS = "employee.client.calls";
+    public static final String RESPONSE_SIZE = "employee.client.response.size";
+    public static final String SWALLOWED_EXCEPTIONS = "employee.client.swallowed.exceptions";
+
+    public static final String SUCCESS = "success";
+    public static final String NOT_FOUND = "404";
+    public static final String THROTTLED = "429";
+    public static final String TIMEOUT = "timeout";
+    public static final String PARSE_ERROR = "parse_error";
+    public static final String CLIENT_ERROR = "4xx";
+    public static final String SERVER_ERROR = "5xx";
+    public static final String ERROR = "error";
+
+    private final MeterRegistry registry;
+
+    public EmployeeClientMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Runs one upstream call and records its duration under the outcome it ended with. Exceptions are rethrown.
+     * @param operation - client method making the call
+     * @param call - the request, including decoding of the response
+     * @return the result of the call
+     */
+    public <T> T time(String operation, Supplier<T> call) {
+        long start = System.nanoTime();
+        String outcome = ERROR;
+        try {
+            T result = call.get();
+            outcome = SUCCESS;
+            return result;
+        } catch (RuntimeException e) {
+            outcome = outcomeOf(e);
+            throw e;
+        } finally {
+            Timer.builder(CALLS)
+                    .description("Calls to the remote employee API, including decoding of the response")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Counts an exception the client logs and turns into an empty or failed result instead of rethrowing.
+     * @param operation - client method that handled the exception
+     */
+    public void swallowed(String operation, Exception e) {
+        Counter.builder(SWALLOWED_EXCEPTIONS)
+                .description("Exceptions from the remote employee API handled without being rethrown")
+                .tag("operation", operation)
+                .tag("exception", e.getClass().getSimpleName())
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * @param resource - kind of response: roster, page, employee or batch
+     * @param bytes - decompressed size of the response body
+     */
+    public void recordResponseSize(String resource, long bytes) {
+        DistributionSummary.builder(RESPONSE_SIZE)
+                .description("Size of response bodies from the remote employee API")
+                .baseUnit("bytes")
+                .tag("resource", resource)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(bytes);
+    }
+
+    /**
+     * @return the outcome tag for a call that failed with the given exception
+     */
+    public static String outcomeOf(Throwable e) {
+        if (e instanceof UpstreamThrottledException || e instanceof HttpClientErrorException.TooManyRequests) {
+            return THROTTLED;
+        }
+        if (e instanceof HttpClientErrorException.NotFound) {
+            return NOT_FOUND;
+        }
+        if (e instanceof HttpClientErrorException) {
+            return CLIENT_ERROR;
+        }
+        if (e instanceof HttpServerErrorException) {
+            return SERVER_ERROR;
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedIOException || cause instanceof TimeoutException) {
+                return TIMEOUT;
+            }
+            if (cause instanceof HttpMessageNotReadableException || cause instanceof JacksonException) {
+                return PARSE_ERROR;
+            }
+        }
+        return ERROR;
+    }
+}
@@ -0,0 +1,126 @@
+package com.reliaquest.api.client.metrics;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Counts the bytes read from each response body of the remote employee API and records them when the response is
+ * closed. Bodies arrive already decompressed, so the count is the size of the JSON the client decodes.
+ */
+public class ResponseSizeInterceptor implements ClientHttpRequestInterceptor {
+
+    private final EmployeeClientMetrics metrics;
+
+    public ResponseSizeInterceptor(EmployeeClientMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        return new CountingResponse(execution.execute(request, body), resourceOf(request));
+    }
+
+    static String resourceOf(HttpRequest request) {
+        String path = request.getURI().getPath();
+        String query = request.getURI().getQuery();
+        if (path.endsWith("/batch")) {
+            return "batch";
+        }
+        if (query != null && query.contains("limit=")) {
+            return "page";
+        }
+        if (request.getMethod() == HttpMethod.GET && path.endsWith("/employee")) {
+            return "roster";
+        }
+        return "employee";
+    }
+
+    private final class CountingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final String resource;
+        private CountingInputStream body;
+
+        CountingResponse(ClientHttpResponse delegate, String resource) {
+            this.delegate = delegate;
+            this.resource = resource;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                body = new CountingInputStream(delegate.getBody());
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            if (body != null && !body.recorded) {
+                body.recorded = true;
+                metrics.recordResponseSize(resource, body.count);
+            }
+            delegate.close();
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+        private boolean recorded;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = super.read();
+            if (read >= 0) {
+                count++;
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.reliaquest.api.client.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket that learns the remote API's request budget from its 429 responses.
+ * Every successful call raises the refill rate a little; every 429 halves it, empties the bucket and shrinks the
+ * burst to the number of calls that got through since the previous 429, which is the budget the upstream allowed.
+ * A Retry-After hint, when the upstream sends one, holds back all permits until it has passed.
+ */
+public class AdaptiveRateLimiter {
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double minRate;
+    private final double maxRate;
+    private final double maxBurst;
+    private final double rateIncrease;
+    private final LongSupplier nanoClock;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private double rate;
+    private double burst;
+    private double tokens;
+    private long lastRefill;
+    private long blockedUntil;
+    private int grantedSinceThrottle;
+
+    /**
+     * @param initialRate - permits per second before anything has been learned
+     * @param minRate - floor the rate never drops below, so the upstream keeps being probed
+     * @param maxRate - ceiling the rate never grows past
+     * @param maxBurst - most permits that can be saved up and spent at once
+     */
+    public AdaptiveRateLimiter(double initialRate, double minRate, double maxRate, int maxBurst) {
+        this(initialRate, minRate, maxRate, maxBurst, System::nanoTime);
+    }
+
+    AdaptiveRateLimiter(double initialRate, double minRate, double maxRate, int maxBurst, LongSupplier nanoClock) {
+        if (minRate <= 0 || minRate > maxRate || maxBurst < 1) {
+            throw new IllegalArgumentException("Invalid rate limit: min " + minRate + ", max " + maxRate
+                    + ", burst " + maxBurst);
+        }
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.maxBurst = maxBurst;
+        this.rateIncrease = Math.max(minRate, initialRate / 10);
+        this.nanoClock = nanoClock;
+        this.rate = Math.min(maxRate, Math.max(minRate, initialRate));
+        this.burst = maxBurst;
+        this.tokens = maxBurst;
+        this.lastRefill = nanoClock.getAsLong();
+        this.blockedUntil = lastRefill;
+    }
+
+    /**
+     * Reserves one permit, provided it becomes available within the given wait.
+     * @param maxWaitNanos - longest the caller is willing to wait
+     * @return nanoseconds the caller must wait before sending, or -1 if no permit frees up in time
+     */
+    public long reserve(long maxWaitNanos) {
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            refill(now);
+            long wait = waitNanos(now);
+            if (wait > maxWaitNanos) {
+                return -1;
+            }
+            tokens -= 1;
+            return wait;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return nanoseconds until a permit would be free, without reserving it
+     */
+    public long nanosUntilPermit() {
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            refill(now);
+            return waitNanos(now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess() {
+        lock.lock();
+        try {
+            grantedSinceThrottle++;
+            rate = Math.min(maxRate, rate + rateIncrease);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param retryAfter - how long the upstream asked callers to back off, or null if it did not say
+     */
+    public void onThrottled(Duration retryAfter) {
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            refill(now);
+            rate = Math.max(minRate, rate / 2);
+            burst = Math.min(maxBurst, Math.max(1, grantedSinceThrottle));
+            grantedSinceThrottle = 0;
+            tokens = Math.min(tokens, 0);
+            if (retryAfter != null) {
+                blockedUntil = Math.max(blockedUntil, now + retryAfter.toNanos());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the current refill rate in permits per second
+     */
+    public double getRate() {
+        lock.lock();
+        try {
+            return rate;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of permits that can currently be saved up
+     */
+    public int getBurst() {
+        lock.lock();
+        try {
+            return (int) burst;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long waitNanos(long now) {
+        long wait = tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / rate * NANOS_PER_SECOND);
+        return Math.max(wait, blockedUntil - now);
+    }
+
+    private void refill(long now) {
+        if (now > lastRefill) {
+            tokens = Math.min(burst, tokens + (now - lastRefill) * rate / NANOS_PER_SECOND);
+            lastRefill = now;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.reliaquest.api.client.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker for the remote employee API that trips when the upstream keeps throttling.
+ * While open no calls are sent at all; once the open period has passed a single trial call is let through, and its
+ * outcome closes the breaker again or reopens it for twice as long, up to the maximum.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final long baseOpenNanos;
+    private final long maxOpenNanos;
+    private final LongSupplier nanoClock;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private State state = State.CLOSED;
+    private long openUntil;
+    private long lastOpenNanos;
+
+    /**
+     * @param openDuration - how long the breaker first stays open after tripping
+     * @param maxOpenDuration - longest the breaker stays open after repeated trips
+     */
+    public CircuitBreaker(Duration openDuration, Duration maxOpenDuration) {
+        this(openDuration, maxOpenDuration, System::nanoTime);
+    }
+
+    CircuitBreaker(Duration openDuration, Duration maxOpenDuration, LongSupplier nanoClock) {
+        this.baseOpenNanos = openDuration.toNanos();
+        this.maxOpenNanos = Math.max(baseOpenNanos, maxOpenDuration.toNanos());
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @return true if a call may be sent now; an open breaker past its open period admits one trial call
+     */
+    public boolean tryAcquire() {
+        lock.lock();
+        try {
+            return switch (state) {
+                case CLOSED -> true;
+                case HALF_OPEN -> false;
+                case OPEN -> {
+                    if (nanoClock.getAsLong() - openUntil < 0) {
+                        yield false;
+                    }
+                    state = State.HALF_OPEN;
+                    yield true;
+                }
+            };
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records that the upstream answered without throttling, closing the breaker.
+     */
+    public void onSuccess() {
+        lock.lock();
+        try {
+            state = State.CLOSED;
+            lastOpenNanos = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records that a call was given up on for a reason other than throttling. A trial call hands its slot back
+     * without changing the open period.
+     */
+    public void onFailure() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                state = State.OPEN;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Trips the breaker because the upstream kept throttling.
+     * @param retryAfter - how long the upstream asked callers to back off, or null if it did not say
+     */
+    public void onThrottled(Duration retryAfter) {
+        lock.lock();
+        try {
+            long openNanos = lastOpenNanos == 0 ? baseOpenNanos : Math.min(maxOpenNanos, lastOpenNanos * 2);
+            if (retryAfter != null) {
+                openNanos = Math.max(openNanos, retryAfter.toNanos());
+            }
+            lastOpenNanos = openNanos;
+            openUntil = nanoClock.getAsLong() + openNanos;
+            state = State.OPEN;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return time left until the breaker admits a trial call; zero unless it is open
+     */
+    public Duration remainingOpen() {
+        lock.lock();
+        try {
+            if (state != State.OPEN) {
+                return Duration.ZERO;
+            }
+            return Duration.ofNanos(Math.max(0, openUntil - nanoClock.getAsLong()));
+        } finally {
+            lock.unlock();
+        }
+    }
+}
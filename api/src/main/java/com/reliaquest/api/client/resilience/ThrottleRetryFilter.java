@@ -0,0 +1,86 @@
+package com.reliaquest.api.client.resilience;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Reactive counterpart of {@link ThrottleRetryInterceptor} for WebClient: the same permits, full-jitter backoff on
+ * 429, deadline and circuit breaker, but every wait is a timer instead of a sleeping thread.
+ */
+@Slf4j
+public class ThrottleRetryFilter implements ExchangeFilterFunction {
+
+    private final AdaptiveRateLimiter rateLimiter;
+    private final CircuitBreaker circuitBreaker;
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final long deadlineNanos;
+
+    public ThrottleRetryFilter(AdaptiveRateLimiter rateLimiter, CircuitBreaker circuitBreaker, int maxAttempts,
+                               Duration initialBackoff, Duration maxBackoff, Duration deadline) {
+        this.rateLimiter = rateLimiter;
+        this.circuitBreaker = circuitBreaker;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffNanos = initialBackoff.toNanos();
+        this.maxBackoffNanos = maxBackoff.toNanos();
+        this.deadlineNanos = deadline.toNanos();
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> attempt(request, next, 1, initialBackoffNanos, System.nanoTime() + deadlineNanos));
+    }
+
+    private Mono<ClientResponse> attempt(ClientRequest request, ExchangeFunction next, int attempt, long backoff,
+                                         long deadline) {
+        if (!circuitBreaker.tryAcquire()) {
+            return Mono.error(new UpstreamThrottledException("Employee API is backing off",
+                    circuitBreaker.remainingOpen()));
+        }
+        long wait = rateLimiter.reserve(deadline - System.nanoTime());
+        if (wait < 0) {
+            circuitBreaker.onFailure();
+            return Mono.error(new UpstreamThrottledException("No request budget left for the employee API",
+                    Duration.ofNanos(rateLimiter.nanosUntilPermit())));
+        }
+        Mono<ClientResponse> exchange = wait > 0
+                ? Mono.delay(Duration.ofNanos(wait)).then(next.exchange(request))
+                : next.exchange(request);
+        return exchange
+                .doOnError(e -> circuitBreaker.onFailure())
+                .flatMap(response -> {
+                    if (response.statusCode().value() != HttpStatus.TOO_MANY_REQUESTS.value()) {
+                        rateLimiter.onSuccess();
+                        circuitBreaker.onSuccess();
+                        return Mono.just(response);
+                    }
+                    Duration retryAfter = ThrottleRetryInterceptor.parseRetryAfter(
+                            response.headers().asHttpHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+                    rateLimiter.onThrottled(retryAfter);
+                    long sleep = ThreadLocalRandom.current().nextLong(backoff + 1);
+                    boolean trial = circuitBreaker.getState() == CircuitBreaker.State.HALF_OPEN;
+                    long resumeAt = System.nanoTime() + Math.max(sleep, retryAfter == null ? 0 : retryAfter.toNanos());
+                    if (trial || attempt >= maxAttempts || resumeAt >= deadline) {
+                        circuitBreaker.onThrottled(retryAfter);
+                        log.warn("{} {} still throttled after {} attempt(s), backing off for {}",
+                                request.method(), request.url(), attempt, circuitBreaker.remainingOpen());
+                        return response.releaseBody().then(Mono.error(new UpstreamThrottledException(
+                                "Employee API is throttling requests", circuitBreaker.remainingOpen())));
+                    }
+                    return response.releaseBody()
+                            .then(Mono.delay(Duration.ofNanos(sleep)))
+                            .then(Mono.defer(() -> attempt(request, next, attempt + 1,
+                                    Math.min(maxBackoffNanos, backoff * 2), deadline)));
+                });
+    }
+}
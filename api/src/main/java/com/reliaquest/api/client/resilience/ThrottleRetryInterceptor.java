@@ -0,0 +1,123 @@
+package com.reliaquest.api.client.resilience;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Guards every call to the remote employee API. Calls wait for a permit from the {@link AdaptiveRateLimiter},
+ * 429 responses are retried with full-jitter exponential backoff until the attempts or the deadline run out, and
+ * a call that is still throttled trips the {@link CircuitBreaker} and fails with {@link UpstreamThrottledException}.
+ * Retrying writes is safe because the upstream rejects throttled requests before handling them.
+ */
+@Slf4j
+public class ThrottleRetryInterceptor implements ClientHttpRequestInterceptor {
+
+    private final AdaptiveRateLimiter rateLimiter;
+    private final CircuitBreaker circuitBreaker;
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final long deadlineNanos;
+
+    /**
+     * @param maxAttempts - most times one call is sent, including the first
+     * @param initialBackoff - upper bound of the pause before the first retry; doubles with every retry
+     * @param maxBackoff - cap on the upper bound of any one pause
+     * @param deadline - total time one call may spend waiting for permits and backing off
+     */
+    public ThrottleRetryInterceptor(AdaptiveRateLimiter rateLimiter, CircuitBreaker circuitBreaker, int maxAttempts,
+                                    Duration initialBackoff, Duration maxBackoff, Duration deadline) {
+        this.rateLimiter = rateLimiter;
+        this.circuitBreaker = circuitBreaker;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffNanos = initialBackoff.toNanos();
+        this.maxBackoffNanos = maxBackoff.toNanos();
+        this.deadlineNanos = deadline.toNanos();
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        long deadline = System.nanoTime() + deadlineNanos;
+        long backoff = initialBackoffNanos;
+        for (int attempt = 1; ; attempt++) {
+            if (!circuitBreaker.tryAcquire()) {
+                throw new UpstreamThrottledException("Employee API is backing off", circuitBreaker.remainingOpen());
+            }
+            long wait = rateLimiter.reserve(deadline - System.nanoTime());
+            if (wait < 0) {
+                circuitBreaker.onFailure();
+                throw new UpstreamThrottledException("No request budget left for the employee API",
+                        Duration.ofNanos(rateLimiter.nanosUntilPermit()));
+            }
+            pause(wait);
+
+            ClientHttpResponse response;
+            try {
+                response = execution.execute(request, body);
+            } catch (IOException | RuntimeException e) {
+                circuitBreaker.onFailure();
+                throw e;
+            }
+            if (response.getStatusCode().value() != HttpStatus.TOO_MANY_REQUESTS.value()) {
+                rateLimiter.onSuccess();
+                circuitBreaker.onSuccess();
+                return response;
+            }
+
+            Duration retryAfter = parseRetryAfter(response.getHeaders().getFirst("Retry-After"));
+            response.close();
+            rateLimiter.onThrottled(retryAfter);
+            long sleep = ThreadLocalRandom.current().nextLong(backoff + 1);
+            boolean trial = circuitBreaker.getState() == CircuitBreaker.State.HALF_OPEN;
+            long resumeAt = System.nanoTime() + Math.max(sleep, retryAfter == null ? 0 : retryAfter.toNanos());
+            if (trial || attempt >= maxAttempts || resumeAt >= deadline) {
+                circuitBreaker.onThrottled(retryAfter);
+                log.warn("{} {} still throttled after {} attempt(s), backing off for {}",
+                        request.getMethod(), request.getURI(), attempt, circuitBreaker.remainingOpen());
+                throw new UpstreamThrottledException("Employee API is throttling requests",
+                        circuitBreaker.remainingOpen());
+            }
+            log.debug("{} {} throttled, retrying in {} ms", request.getMethod(), request.getURI(),
+                    TimeUnit.NANOSECONDS.toMillis(sleep));
+            pause(sleep);
+            backoff = Math.min(maxBackoffNanos, backoff * 2);
+        }
+    }
+
+    /**
+     * @return the delay in a Retry-After header given in seconds, or null if it is absent or an HTTP date
+     */
+    public static Duration parseRetryAfter(String header) {
+        if (header == null) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(header.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static void pause(long nanos) throws InterruptedIOException {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to call the employee API");
+        }
+    }
+}
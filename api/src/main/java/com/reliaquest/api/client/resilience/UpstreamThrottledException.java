@@ -0,0 +1,24 @@
+package com.reliaquest.api.client.resilience;
+
+import java.time.Duration;
+
+/**
+ * Thrown when the remote employee API is rate limiting this client and no request could be sent within the
+ * retry deadline. Unlike other upstream failures it is not reported as "no employees".
+ */
+public class UpstreamThrottledException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public UpstreamThrottledException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * @return how long the upstream is expected to keep throttling; never negative
+     */
+    public Duration getRetryAfter() {
+        return retryAfter.isNegative() ? Duration.ZERO : retryAfter;
+    }
+}
@@ -0,0 +1,119 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.client.balancing.UpstreamEndpoint;
+import com.reliaquest.api.client.balancing.UpstreamPool;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configuration class for spreading calls to the remote employee API over several nodes. The clients keep addressing
+ * {@code employee.client.base-url}; calls are sent to the nodes listed in {@code employee.client.base-urls}
+ * (by default just the base URL), chosen and ejected as set through the {@code employee.client.balancing.*}
+ * properties. Ejected nodes are probed with a one-employee page request until they answer again.
+ */
+@Slf4j
+@Configuration
+public class LoadBalancingConfig {
+
+    @Value("${employee.client.base-url:http://localhost:8112/api/v1/employee}")
+    private String baseUrl;
+
+    @Value("${employee.client.base-urls:${employee.client.base-url:http://localhost:8112/api/v1/employee}}")
+    private List<String> baseUrls;
+
+    @Value("${employee.client.balancing.strategy:LEAST_OUTSTANDING}")
+    private UpstreamPool.Strategy strategy;
+
+    @Value("${employee.client.balancing.failure-threshold:3}")
+    private int failureThreshold;
+
+    @Value("${employee.client.balancing.eject-duration:PT10S}")
+    private Duration ejectDuration;
+
+    @Value("${employee.client.balancing.max-eject-duration:PT2M}")
+    private Duration maxEjectDuration;
+
+    @Value("${employee.client.http.read-timeout:PT5S}")
+    private Duration readTimeout;
+
+    private final HttpClient probeClient;
+
+    public LoadBalancingConfig(@Value("${employee.client.http.connect-timeout:PT2S}") Duration connectTimeout) {
+        this.probeClient = HttpClient.newBuilder().connectTimeout(connectTimeout).build();
+    }
+
+    @Bean
+    public UpstreamPool employeeApiUpstreamPool() {
+        UpstreamPool pool = new UpstreamPool(baseUrls, strategy, failureThreshold, ejectDuration, maxEjectDuration);
+        if (isBalanced(pool)) {
+            log.info("Balancing employee API calls to {} over {} ({})", baseUrl, pool.getEndpoints(), strategy);
+        }
+        return pool;
+    }
+
+    /**
+     * Publishes the calls in flight to each node and whether it is ejected, tagged with the node's base URL.
+     */
+    @Bean
+    public MeterBinder employeeApiEndpointMetrics(UpstreamPool employeeApiUpstreamPool) {
+        return registry -> employeeApiUpstreamPool.getEndpoints().forEach(endpoint -> {
+            Gauge.builder("employee.client.endpoint.outstanding", endpoint, UpstreamEndpoint::getOutstanding)
+                    .description("Calls in flight to an employee API node")
+                    .tag("endpoint", endpoint.getBaseUrl()).register(registry);
+            Gauge.builder("employee.client.endpoint.ejected", endpoint,
+                            e -> employeeApiUpstreamPool.isEjected(e) ? 1 : 0)
+                    .description("Whether an employee API node is ejected from the rotation")
+                    .tag("endpoint", endpoint.getBaseUrl()).register(registry);
+        });
+    }
+
+    /**
+     * Probes the ejected nodes that are due for it, taking back the ones that answer with a page of employees.
+     * A single node is never probed, since calls bypass the pool.
+     */
+    @Scheduled(fixedDelayString = "${employee.client.balancing.probe-interval:PT5S}")
+    public void probeEjectedEndpoints() {
+        UpstreamPool pool = employeeApiUpstreamPool();
+        if (isBalanced(pool)) {
+            pool.probe(this::isHealthy);
+        }
+    }
+
+    /**
+     * @return whether calls should go through the pool; a single node gains nothing from it
+     */
+    static boolean isBalanced(UpstreamPool pool) {
+        return pool.getEndpoints().size() > 1;
+    }
+
+    private boolean isHealthy(UpstreamEndpoint endpoint) {
+        HttpRequest probe = HttpRequest.newBuilder(URI.create(endpoint.getBaseUrl() + "?limit=1"))
+                .timeout(readTimeout)
+                .GET()
+                .build();
+        try {
+            int status = probeClient.send(probe, HttpResponse.BodyHandlers.discarding()).statusCode();
+            log.debug("Health probe of employee API endpoint {} answered {}", endpoint, status);
+            return status >= 200 && status < 300;
+        } catch (IOException e) {
+            log.debug("Health probe of employee API endpoint {} failed: {}", endpoint, e.toString());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
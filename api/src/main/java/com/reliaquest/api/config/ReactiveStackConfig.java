@@ -0,0 +1,91 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.client.balancing.LoadBalancingFilter;
+import com.reliaquest.api.client.balancing.UpstreamPool;
+import com.reliaquest.api.client.resilience.ThrottleRetryFilter;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Configuration class for the reactive stack, picked with {@code spring.main.web-application-type=reactive}.
+ * The API is served by Netty and the remote employee API is called through a non-blocking WebClient, so in-flight
+ * requests are bounded by the connection pool rather than by a thread pool. Pool sizes and timeouts reuse the
+ * {@code employee.client.http.*} properties of the blocking stack.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveStackConfig {
+
+    @Value("${employee.client.base-url:http://localhost:8112/api/v1/employee}")
+    private String baseUrl;
+
+    @Value("${employee.client.http.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${employee.client.http.connect-timeout:PT2S}")
+    private Duration connectTimeout;
+
+    @Value("${employee.client.http.read-timeout:PT5S}")
+    private Duration readTimeout;
+
+    @Value("${employee.client.http.pool-acquire-timeout:PT1S}")
+    private Duration poolAcquireTimeout;
+
+    @Value("${employee.client.http.idle-eviction:PT30S}")
+    private Duration idleEviction;
+
+    @Value("${employee.client.http.time-to-live:PT5M}")
+    private Duration timeToLive;
+
+    /**
+     * Serves the API from Netty's event loops; without it the servlet starter on the classpath would put the
+     * reactive stack on Tomcat.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider employeeApiConnectionProvider() {
+        return ConnectionProvider.builder("employee-api")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(poolAcquireTimeout)
+                .maxIdleTime(idleEviction)
+                .maxLifeTime(timeToLive)
+                .evictInBackground(idleEviction)
+                .build();
+    }
+
+    /**
+     * Built from Spring Boot's WebClient.Builder so its JSON codecs share the application's ObjectMapper.
+     * With more than one upstream node, each attempt is sent to a node picked by the {@link UpstreamPool}.
+     */
+    @Bean
+    public WebClient employeeApiWebClient(WebClient.Builder webClientBuilder,
+                                          ConnectionProvider employeeApiConnectionProvider,
+                                          ThrottleRetryFilter employeeApiThrottleRetryFilter,
+                                          UpstreamPool employeeApiUpstreamPool) {
+        HttpClient httpClient = HttpClient.create(employeeApiConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(readTimeout);
+        WebClient.Builder builder = webClientBuilder
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(employeeApiThrottleRetryFilter);
+        if (LoadBalancingConfig.isBalanced(employeeApiUpstreamPool)) {
+            builder.filter(new LoadBalancingFilter(employeeApiUpstreamPool, baseUrl));
+        }
+        return builder.build();
+    }
+}
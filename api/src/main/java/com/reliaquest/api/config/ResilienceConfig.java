@@ -0,0 +1,75 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.client.resilience.AdaptiveRateLimiter;
+import com.reliaquest.api.client.resilience.CircuitBreaker;
+import com.reliaquest.api.client.resilience.ThrottleRetryFilter;
+import com.reliaquest.api.client.resilience.ThrottleRetryInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration class for the rate limiter, retries and circuit breaker guarding calls to the remote employee API.
+ * Both the blocking and the reactive client share one limiter and one breaker, set through the
+ * {@code employee.client.rate-limit.*}, {@code employee.client.retry.*} and {@code employee.client.circuit.*}
+ * properties.
+ */
+@Configuration
+public class ResilienceConfig {
+
+    @Value("${employee.client.rate-limit.initial-rate:2.0}")
+    private double initialRate;
+
+    @Value("${employee.client.rate-limit.min-rate:0.05}")
+    private double minRate;
+
+    @Value("${employee.client.rate-limit.max-rate:50.0}")
+    private double maxRate;
+
+    @Value("${employee.client.rate-limit.max-burst:5}")
+    private int maxBurst;
+
+    @Value("${employee.client.retry.max-attempts:3}")
+    private int retryMaxAttempts;
+
+    @Value("${employee.client.retry.initial-backoff:PT0.2S}")
+    private Duration retryInitialBackoff;
+
+    @Value("${employee.client.retry.max-backoff:PT2S}")
+    private Duration retryMaxBackoff;
+
+    @Value("${employee.client.retry.deadline:PT3S}")
+    private Duration retryDeadline;
+
+    @Value("${employee.client.circuit.open-duration:PT15S}")
+    private Duration circuitOpenDuration;
+
+    @Value("${employee.client.circuit.max-open-duration:PT2M}")
+    private Duration circuitMaxOpenDuration;
+
+    @Bean
+    public AdaptiveRateLimiter employeeApiRateLimiter() {
+        return new AdaptiveRateLimiter(initialRate, minRate, maxRate, maxBurst);
+    }
+
+    @Bean
+    public CircuitBreaker employeeApiCircuitBreaker() {
+        return new CircuitBreaker(circuitOpenDuration, circuitMaxOpenDuration);
+    }
+
+    @Bean
+    public ThrottleRetryInterceptor employeeApiThrottleRetryInterceptor(AdaptiveRateLimiter employeeApiRateLimiter,
+                                                                        CircuitBreaker employeeApiCircuitBreaker) {
+        return new ThrottleRetryInterceptor(employeeApiRateLimiter, employeeApiCircuitBreaker, retryMaxAttempts,
+                retryInitialBackoff, retryMaxBackoff, retryDeadline);
+    }
+
+    @Bean
+    public ThrottleRetryFilter employeeApiThrottleRetryFilter(AdaptiveRateLimiter employeeApiRateLimiter,
+                                                              CircuitBreaker employeeApiCircuitBreaker) {
+        return new ThrottleRetryFilter(employeeApiRateLimiter, employeeApiCircuitBreaker, retryMaxAttempts,
+                retryInitialBackoff, retryMaxBackoff, retryDeadline);
+    }
+}
@@ -1,18 +1,157 @@
 package com.reliaquest.api.config;
 
+import com.reliaquest.api.client.balancing.LoadBalancingRequestFactory;
+import com.reliaquest.api.client.balancing.UpstreamPool;
+import com.reliaquest.api.client.metrics.EmployeeClientMetrics;
+import com.reliaquest.api.client.metrics.ResponseSizeInterceptor;
+import com.reliaquest.api.client.resilience.ThrottleRetryInterceptor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
 /**
- * Configuration class for creating a RestTemplate bean.
+ * Configuration class for creating a RestTemplate bean backed by a pooled, keep-alive Apache HttpClient.
+ * Pool sizes and timeouts are set through the {@code employee.client.http.*} properties.
+ * Only used by the blocking (servlet) stack; see {@link ReactiveStackConfig} for the reactive one.
  * @author - Ajinkya Choudhary
  */
+@Slf4j
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class RestTemplateConfig {
 
+    @Value("${employee.client.base-url:http://localhost:8112/api/v1/employee}")
+    private String baseUrl;
+
+    @Value("${employee.client.http.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${employee.client.http.max-connections-per-route:20}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${employee.client.http.connect-timeout:PT2S}")
+    private Duration connectTimeout;
+
+    @Value("${employee.client.http.read-timeout:PT5S}")
+    private Duration readTimeout;
+
+    @Value("${employee.client.http.pool-acquire-timeout:PT1S}")
+    private Duration poolAcquireTimeout;
+
+    @Value("${employee.client.http.idle-eviction:PT30S}")
+    private Duration idleEviction;
+
+    @Value("${employee.client.http.time-to-live:PT5M}")
+    private Duration timeToLive;
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager employeeApiConnectionManager() {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setTimeToLive(TimeValue.of(timeToLive))
+                        .build())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient employeeApiHttpClient(PoolingHttpClientConnectionManager employeeApiConnectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(employeeApiConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(poolAcquireTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .evictIdleConnections(TimeValue.of(idleEviction))
+                .evictExpiredConnections()
+                .build();
+    }
+
+    /**
+     * Built from Spring Boot's RestTemplateBuilder so its JSON converter shares the application's single,
+     * pre-configured ObjectMapper (tuned through the {@code spring.jackson.*} properties).
+     * Every call goes through the throttle-aware retry interceptor, and the size of every response body is recorded.
+     * With more than one upstream node, each attempt is sent to a node picked by the {@link UpstreamPool}.
+     */
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder, CloseableHttpClient employeeApiHttpClient,
+                                     ThrottleRetryInterceptor employeeApiThrottleRetryInterceptor,
+                                     EmployeeClientMetrics employeeClientMetrics,
+                                     UpstreamPool employeeApiUpstreamPool) {
+        return restTemplateBuilder
+                .requestFactory(() -> {
+                    ClientHttpRequestFactory requestFactory =
+                            new HttpComponentsClientHttpRequestFactory(employeeApiHttpClient);
+                    return LoadBalancingConfig.isBalanced(employeeApiUpstreamPool)
+                            ? new LoadBalancingRequestFactory(requestFactory, employeeApiUpstreamPool, baseUrl)
+                            : requestFactory;
+                })
+                .additionalInterceptors(employeeApiThrottleRetryInterceptor,
+                        new ResponseSizeInterceptor(employeeClientMetrics))
+                .build();
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public EmployeeClientMetrics employeeClientMetrics(MeterRegistry meterRegistry) {
+        return new EmployeeClientMetrics(meterRegistry);
+    }
+
+    /**
+     * Publishes the connection pool usage as gauges, tagged with the pool name.
+     */
+    @Bean
+    public MeterBinder employeeApiConnectionPoolMetrics(PoolingHttpClientConnectionManager employeeApiConnectionManager) {
+        return registry -> {
+            Tags tags = Tags.of("pool", "employee-api");
+            Gauge.builder("employee.client.pool.leased", employeeApiConnectionManager,
+                            manager -> manager.getTotalStats().getLeased())
+                    .description("Connections to the employee API in use").tags(tags).register(registry);
+            Gauge.builder("employee.client.pool.available", employeeApiConnectionManager,
+                            manager -> manager.getTotalStats().getAvailable())
+                    .description("Idle connections to the employee API").tags(tags).register(registry);
+            Gauge.builder("employee.client.pool.pending", employeeApiConnectionManager,
+                            manager -> manager.getTotalStats().getPending())
+                    .description("Requests waiting for a connection to the employee API").tags(tags).register(registry);
+            Gauge.builder("employee.client.pool.max", employeeApiConnectionManager,
+                            manager -> manager.getTotalStats().getMax())
+                    .description("Maximum connections to the employee API").tags(tags).register(registry);
+        };
+    }
+
+    /**
+     * Logs the connection pool usage so pool exhaustion shows up before pool-acquire timeouts do.
+     */
+    @Scheduled(fixedDelayString = "${employee.client.http.pool-stats-interval:PT1M}")
+    public void logPoolStats() {
+        if (log.isDebugEnabled()) {
+            PoolStats stats = employeeApiConnectionManager().getTotalStats();
+            log.debug("Employee API connection pool: leased={} available={} pending={} max={}",
+                    stats.getLeased(), stats.getAvailable(), stats.getPending(), stats.getMax());
+        }
     }
 }
@@ -1,12 +1,18 @@
 package com.reliaquest.api.controller.impl;
 
 
+import com.reliaquest.api.cache.NameSearchMode;
 import com.reliaquest.api.controller.IEmployeeController;
+import com.reliaquest.api.dto.BatchResult;
 import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.EmployeePage;
 import com.reliaquest.api.dto.EmployeeResponse;
+import com.reliaquest.api.dto.SalaryHistogram;
+import com.reliaquest.api.dto.TitleStats;
 import com.reliaquest.api.service.IEmployeeService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -25,8 +31,12 @@ import java.util.Optional;
 @RestController
 @RequestMapping("/employees")
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class EmployeeController implements IEmployeeController {
 
+    static final int MAX_PAGE_LIMIT = 1000;
+    static final int MAX_HISTOGRAM_BUCKETS = 1000;
+
     @Autowired
     private IEmployeeService employeeService;
 
@@ -39,6 +49,25 @@ public class EmployeeController implements IEmployeeController {
         return ResponseEntity.ok(employeeService.getAllEmployees());
     }
 
+    /**
+     * Handles GET requests to fetch one page of employees, so large rosters can be read without one huge response.
+     * @param limit - maximum number of employees in the page, between 1 and 1000
+     * @param cursor - nextCursor of the previous page; omit for the first page
+     * @return the page of employees and the cursor for the next one
+     */
+    @GetMapping("/getAllEmployees/page")
+    public ResponseEntity<EmployeePage> getEmployeesPage(@RequestParam(defaultValue = "100") int limit,
+                                                         @RequestParam(required = false) String cursor) {
+        if (limit < 1 || limit > MAX_PAGE_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(employeeService.getEmployeesPage(cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * Handles GET requests to get all employee by name
      * @param searchName - name to be searched
@@ -56,6 +85,25 @@ public class EmployeeController implements IEmployeeController {
     }
 
 
+    /**
+     * Handles GET requests to search employees by name with an explicit match mode
+     * @param name - name or name fragment to be searched
+     * @param mode - EXACT, PREFIX or CONTAINS; matching always ignores case
+     * @return list of all employee matching the name
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List> searchEmployees(@RequestParam String name,
+                                                @RequestParam(defaultValue = "EXACT") NameSearchMode mode) {
+        List<EmployeeResponse> requiredNames = employeeService.searchEmployees(name, mode);
+
+        if(requiredNames.isEmpty()) {
+            String message = "No employee found with name: " + name;
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Collections.singletonList(message));
+        }
+        return ResponseEntity.ok(requiredNames);
+    }
+
+
     /**
      * Handles GET requests to get employee by id
      * @param id - id to be searched
@@ -90,6 +138,52 @@ public class EmployeeController implements IEmployeeController {
         return ResponseEntity.ok(employeeNames);
     }
 
+    /**
+     * Handles GET requests to get the salary at a given percentile
+     * @param percentile - percentile between 0 and 100
+     * @return salary at the given percentile
+     */
+    @GetMapping("/salaryPercentile/{percentile}")
+    public ResponseEntity<Integer> getSalaryPercentile(@PathVariable double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(employeeService.getSalaryPercentile(percentile));
+    }
+
+    /**
+     * Handles GET requests to count employees within a salary range
+     * @param minSalary - lower bound, inclusive
+     * @param maxSalary - upper bound, inclusive
+     * @return number of employees earning within the range
+     */
+    @GetMapping("/salaryRangeCount")
+    public ResponseEntity<Integer> countEmployeesInSalaryRange(@RequestParam int minSalary, @RequestParam int maxSalary) {
+        return ResponseEntity.ok(employeeService.countEmployeesInSalaryRange(minSalary, maxSalary));
+    }
+
+    /**
+     * Handles GET requests to get the salary distribution of all employees
+     * @param buckets - maximum number of salary ranges, between 1 and 1000
+     * @return the salary ranges from the lowest salary to the highest, with the number of employees in each
+     */
+    @GetMapping("/salaryHistogram")
+    public ResponseEntity<SalaryHistogram> getSalaryHistogram(@RequestParam(defaultValue = "10") int buckets) {
+        if (buckets < 1 || buckets > MAX_HISTOGRAM_BUCKETS) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(employeeService.getSalaryHistogram(buckets));
+    }
+
+    /**
+     * Handles GET requests to get salary and age statistics per title
+     * @return the statistics of each title, most common title first
+     */
+    @GetMapping("/titleStats")
+    public ResponseEntity<List<TitleStats>> getTitleStats() {
+        return ResponseEntity.ok(employeeService.getTitleStats());
+    }
+
     /**
      * Handles POST requests to add new employee in employee data
      * @param employeeInput - employeeInput which needs to add
@@ -110,4 +204,24 @@ public class EmployeeController implements IEmployeeController {
     public ResponseEntity<String> deleteEmployeeById(@PathVariable String id) {
         return ResponseEntity.ok(employeeService.deleteEmployeeById(id));
     }
+
+    /**
+     * Handles POST requests to add many employees at once
+     * @param employeeInputs - employees which need to be added
+     * @return one result per employee, holding either the created employee or the reason it was rejected
+     */
+    @PostMapping("/postEmployees")
+    public ResponseEntity<List<BatchResult<EmployeeResponse>>> createEmployees(@RequestBody List<Employee> employeeInputs) {
+        return ResponseEntity.ok(employeeService.createEmployees(employeeInputs));
+    }
+
+    /**
+     * Handles DELETE requests to remove many employees by name at once
+     * @param employeeNames - names of the employees to delete
+     * @return one result per name, holding either the deleted employee or the reason nothing was deleted
+     */
+    @DeleteMapping("/deleteEmployees")
+    public ResponseEntity<List<BatchResult<EmployeeResponse>>> deleteEmployeesByName(@RequestBody List<String> employeeNames) {
+        return ResponseEntity.ok(employeeService.deleteEmployeesByName(employeeNames));
+    }
 }
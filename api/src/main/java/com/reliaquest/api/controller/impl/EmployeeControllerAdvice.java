@@ -0,0 +1,27 @@
+package com.reliaquest.api.controller.impl;
+
+import com.reliaquest.api.client.resilience.UpstreamThrottledException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Maps upstream throttling to 503 Service Unavailable with a Retry-After header, so callers can tell
+ * "try again later" apart from an empty result.
+ */
+@Slf4j
+@RestControllerAdvice
+public class EmployeeControllerAdvice {
+
+    @ExceptionHandler(UpstreamThrottledException.class)
+    public ResponseEntity<String> handleUpstreamThrottled(UpstreamThrottledException e) {
+        long retryAfterSeconds = Math.max(1, (long) Math.ceil(e.getRetryAfter().toMillis() / 1000.0));
+        log.warn("{}, asking caller to retry after {}s", e.getMessage(), retryAfterSeconds);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(e.getMessage());
+    }
+}
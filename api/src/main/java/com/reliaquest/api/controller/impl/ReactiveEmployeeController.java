@@ -0,0 +1,208 @@
+package com.reliaquest.api.controller.impl;
+
+import com.reliaquest.api.cache.NameSearchMode;
+import com.reliaquest.api.dto.BatchResult;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.EmployeePage;
+import com.reliaquest.api.dto.EmployeeResponse;
+import com.reliaquest.api.dto.SalaryHistogram;
+import com.reliaquest.api.dto.TitleStats;
+import com.reliaquest.api.service.IReactiveEmployeeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Non-blocking employee controller serving the same routes as {@link EmployeeController} on the reactive stack.
+ * Requests wait on the upstream without holding a thread, so concurrency is not capped by a request thread pool.
+ */
+@RestController
+@RequestMapping("/employees")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveEmployeeController {
+
+    private final IReactiveEmployeeService employeeService;
+
+    /**
+     * Handles GET requests to fetch and return a list of all employee details from the system.
+     * @return List of all employees
+     */
+    @GetMapping("/getAllEmployees")
+    public Mono<ResponseEntity<List<EmployeeResponse>>> getAllEmployees() {
+        return employeeService.getAllEmployees().collectList().map(ResponseEntity::ok);
+    }
+
+    /**
+     * Handles GET requests to fetch one page of employees.
+     * @param limit - maximum number of employees in the page, between 1 and 1000
+     * @param cursor - nextCursor of the previous page; omit for the first page
+     * @return the page of employees and the cursor for the next one
+     */
+    @GetMapping("/getAllEmployees/page")
+    public Mono<ResponseEntity<EmployeePage>> getEmployeesPage(@RequestParam(defaultValue = "100") int limit,
+                                                               @RequestParam(required = false) String cursor) {
+        if (limit < 1 || limit > EmployeeController.MAX_PAGE_LIMIT) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        return employeeService.getEmployeesPage(cursor, limit)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    /**
+     * Handles GET requests to get all employee by name
+     * @param searchName - name to be searched
+     * @return list of all employee with matched name
+     */
+    @GetMapping("/search/{searchName}")
+    public Mono<ResponseEntity<List>> getEmployeesByNameSearch(@PathVariable String searchName) {
+        return employeeService.getEmployeesByName(searchName).collectList().map(matches -> found(matches, searchName));
+    }
+
+    /**
+     * Handles GET requests to search employees by name with an explicit match mode
+     * @param name - name or name fragment to be searched
+     * @param mode - EXACT, PREFIX or CONTAINS; matching always ignores case
+     * @return list of all employee matching the name
+     */
+    @GetMapping("/search")
+    public Mono<ResponseEntity<List>> searchEmployees(@RequestParam String name,
+                                                      @RequestParam(defaultValue = "EXACT") NameSearchMode mode) {
+        return employeeService.searchEmployees(name, mode).collectList().map(matches -> found(matches, name));
+    }
+
+    /**
+     * Handles GET requests to get employee by id
+     * @param id - id to be searched
+     * @return Employee with matched id
+     */
+    @GetMapping("/employeeById/{id}")
+    public Mono<ResponseEntity<Object>> getEmployeeById(@PathVariable String id) {
+        return employeeService.getEmployeeById(id)
+                .map(employee -> ResponseEntity.ok((Object) employee))
+                .defaultIfEmpty(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Collections.singletonList("No employee found with id: " + id)));
+    }
+
+    /**
+     * Handles GET requests to get the highest salary
+     * @return highest salary
+     */
+    @GetMapping("/highestSalary")
+    public Mono<ResponseEntity<Integer>> getHighestSalaryOfEmployees() {
+        return employeeService.getHighestSalaryOfEmployees().map(ResponseEntity::ok);
+    }
+
+    /**
+     * Handles GET requests to get top ten highest earning employee names
+     * @return List of ten employee having the highest salary
+     */
+    @GetMapping("/topTenHighestEarningEmployeeNames")
+    public Mono<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames() {
+        return employeeService.getTopTenHighestEarningEmployeeNames().map(ResponseEntity::ok);
+    }
+
+    /**
+     * Handles GET requests to get the salary at a given percentile
+     * @param percentile - percentile between 0 and 100
+     * @return salary at the given percentile
+     */
+    @GetMapping("/salaryPercentile/{percentile}")
+    public Mono<ResponseEntity<Integer>> getSalaryPercentile(@PathVariable double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        return employeeService.getSalaryPercentile(percentile).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Handles GET requests to count employees within a salary range
+     * @param minSalary - lower bound, inclusive
+     * @param maxSalary - upper bound, inclusive
+     * @return number of employees earning within the range
+     */
+    @GetMapping("/salaryRangeCount")
+    public Mono<ResponseEntity<Integer>> countEmployeesInSalaryRange(@RequestParam int minSalary,
+                                                                     @RequestParam int maxSalary) {
+        return employeeService.countEmployeesInSalaryRange(minSalary, maxSalary).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Handles GET requests to get the salary distribution of all employees
+     * @param buckets - maximum number of salary ranges, between 1 and 1000
+     * @return the salary ranges from the lowest salary to the highest, with the number of employees in each
+     */
+    @GetMapping("/salaryHistogram")
+    public Mono<ResponseEntity<SalaryHistogram>> getSalaryHistogram(@RequestParam(defaultValue = "10") int buckets) {
+        if (buckets < 1 || buckets > EmployeeController.MAX_HISTOGRAM_BUCKETS) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        return employeeService.getSalaryHistogram(buckets).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Handles GET requests to get salary and age statistics per title
+     * @return the statistics of each title, most common title first
+     */
+    @GetMapping("/titleStats")
+    public Mono<ResponseEntity<List<TitleStats>>> getTitleStats() {
+        return employeeService.getTitleStats().map(ResponseEntity::ok);
+    }
+
+    /**
+     * Handles POST requests to add new employee in employee data
+     * @param employeeInput - employeeInput which needs to add
+     * @return the created employee details as a JSON response
+     */
+    @PostMapping("/postEmployee")
+    public Mono<ResponseEntity<EmployeeResponse>> createEmployee(@RequestBody Employee employeeInput) {
+        return employeeService.createEmployee(employeeInput).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Handles DELETE requests to remove an employee by their ID.
+     * @param id the ID of the employee to delete
+     * @return a confirmation message after deletion
+     */
+    @DeleteMapping("/delete/{id}")
+    public Mono<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id) {
+        return employeeService.deleteEmployeeById(id).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Handles POST requests to add many employees at once
+     * @param employeeInputs - employees which need to be added
+     * @return one result per employee, holding either the created employee or the reason it was rejected
+     */
+    @PostMapping("/postEmployees")
+    public Mono<ResponseEntity<List<BatchResult<EmployeeResponse>>>> createEmployees(
+            @RequestBody List<Employee> employeeInputs) {
+        return employeeService.createEmployees(employeeInputs).collectList().map(ResponseEntity::ok);
+    }
+
+    /**
+     * Handles DELETE requests to remove many employees by name at once
+     * @param employeeNames - names of the employees to delete
+     * @return one result per name, holding either the deleted employee or the reason nothing was deleted
+     */
+    @DeleteMapping("/deleteEmployees")
+    public Mono<ResponseEntity<List<BatchResult<EmployeeResponse>>>> deleteEmployeesByName(
+            @RequestBody List<String> employeeNames) {
+        return employeeService.deleteEmployeesByName(employeeNames).collectList().map(ResponseEntity::ok);
+    }
+
+    private static ResponseEntity<List> found(List<EmployeeResponse> matches, String name) {
+        if (matches.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Collections.singletonList("No employee found with name: " + name));
+        }
+        return ResponseEntity.ok(matches);
+    }
+}
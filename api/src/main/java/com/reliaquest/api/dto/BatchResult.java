@@ -0,0 +1,27 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * This class is used as the outcome of one item of a batch create or delete, both from the remote API and from this
+ * API. index is the item's position in the request; data is set on success and error on failure.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchResult<T> {
+
+    private int index;
+
+    private T data;
+
+    private String error;
+
+    public static <T> BatchResult<T> failure(int index, String error) {
+        return new BatchResult<>(index, null, error);
+    }
+}
@@ -0,0 +1,30 @@
+package com.reliaquest.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * This class is used as one entry of the remote API's roster change log.
+ * employee is null for deletions.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeChange {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+
+    private long sequence;
+
+    private Type type;
+
+    private UUID id;
+
+    private EmployeeResponse employee;
+}
@@ -0,0 +1,28 @@
+package com.reliaquest.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * This class is used as a batch of changes read from the remote API's roster change log.
+ * sequence is the position the batch brings a reader to; truncated is set when the changes asked for have already
+ * been dropped from the log, or when the log is not the one identified by log, e.g. after the remote API restarted.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeChanges {
+
+    private String log;
+
+    private long sequence;
+
+    private long latestSequence;
+
+    private boolean truncated;
+
+    private List<EmployeeChange> changes;
+}
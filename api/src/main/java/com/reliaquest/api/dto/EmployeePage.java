@@ -0,0 +1,21 @@
+package com.reliaquest.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * This class is used as one page of employees, both from the remote API and from this API.
+ * nextCursor is null on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeePage {
+
+    private List<EmployeeResponse> employees;
+
+    private String nextCursor;
+}
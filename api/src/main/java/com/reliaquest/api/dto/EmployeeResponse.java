@@ -1,5 +1,6 @@
 package com.reliaquest.api.dto;
 
+import java.util.Objects;
 import java.util.UUID;
 
 /**
@@ -61,4 +62,26 @@ public class EmployeeResponse {
         this.employee_email = employee_email;
     }
 
+    /**
+     * Employees are equal when all their fields are, so rows read again from a cached roster compare equal.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EmployeeResponse other)) {
+            return false;
+        }
+        return employee_salary == other.employee_salary && employee_age == other.employee_age
+                && Objects.equals(id, other.id) && Objects.equals(employee_name, other.employee_name)
+                && Objects.equals(employee_title, other.employee_title)
+                && Objects.equals(employee_email, other.employee_email);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, employee_name, employee_salary, employee_age, employee_title, employee_email);
+    }
+
 }
@@ -0,0 +1,33 @@
+package com.reliaquest.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * This class is used as the salary distribution of the roster: equally wide, contiguous salary ranges from the lowest
+ * salary to the highest, with the number of employees earning within each.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalaryHistogram {
+
+    private long total;
+
+    private List<Bucket> buckets;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+
+        private int minSalary;
+
+        private int maxSalary;
+
+        private long count;
+    }
+}
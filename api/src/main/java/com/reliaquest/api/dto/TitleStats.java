@@ -0,0 +1,27 @@
+package com.reliaquest.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * This class is used as the salary and age statistics of the employees sharing one title.
+ * title is null for the employees without one.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TitleStats {
+
+    private String title;
+
+    private long count;
+
+    private int minSalary;
+
+    private int maxSalary;
+
+    private double averageSalary;
+
+    private double averageAge;
+}
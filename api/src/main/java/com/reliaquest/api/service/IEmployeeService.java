@@ -1,7 +1,12 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.NameSearchMode;
+import com.reliaquest.api.dto.BatchResult;
 import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.EmployeePage;
 import com.reliaquest.api.dto.EmployeeResponse;
+import com.reliaquest.api.dto.SalaryHistogram;
+import com.reliaquest.api.dto.TitleStats;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,15 +18,31 @@ import java.util.Optional;
 public interface IEmployeeService {
     List<EmployeeResponse> getAllEmployees();
 
+    EmployeePage getEmployeesPage(String cursor, int limit);
+
     List<EmployeeResponse> getEmployeesByName(String searchName);
 
+    List<EmployeeResponse> searchEmployees(String searchName, NameSearchMode mode);
+
     Optional<EmployeeResponse> getEmployeeById(String id);
 
     Integer getHighestSalaryOfEmployees();
 
     List<String> getTopTenHighestEarningEmployeeNames();
 
+    Integer getSalaryPercentile(double percentile);
+
+    Integer countEmployeesInSalaryRange(int minSalary, int maxSalary);
+
+    SalaryHistogram getSalaryHistogram(int buckets);
+
+    List<TitleStats> getTitleStats();
+
     EmployeeResponse createEmployee(Employee employeeInput);
 
     String deleteEmployeeById(String id);
+
+    List<BatchResult<EmployeeResponse>> createEmployees(List<Employee> employeeInputs);
+
+    List<BatchResult<EmployeeResponse>> deleteEmployeesByName(List<String> employeeNames);
 }
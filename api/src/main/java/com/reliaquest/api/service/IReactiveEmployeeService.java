@@ -0,0 +1,48 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.NameSearchMode;
+import com.reliaquest.api.dto.BatchResult;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.EmployeePage;
+import com.reliaquest.api.dto.EmployeeResponse;
+import com.reliaquest.api.dto.SalaryHistogram;
+import com.reliaquest.api.dto.TitleStats;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * This is interface for the non-blocking service layer, mirroring {@link IEmployeeService}.
+ */
+public interface IReactiveEmployeeService {
+    Flux<EmployeeResponse> getAllEmployees();
+
+    Mono<EmployeePage> getEmployeesPage(String cursor, int limit);
+
+    Flux<EmployeeResponse> getEmployeesByName(String searchName);
+
+    Flux<EmployeeResponse> searchEmployees(String searchName, NameSearchMode mode);
+
+    Mono<EmployeeResponse> getEmployeeById(String id);
+
+    Mono<Integer> getHighestSalaryOfEmployees();
+
+    Mono<List<String>> getTopTenHighestEarningEmployeeNames();
+
+    Mono<Integer> getSalaryPercentile(double percentile);
+
+    Mono<Integer> countEmployeesInSalaryRange(int minSalary, int maxSalary);
+
+    Mono<SalaryHistogram> getSalaryHistogram(int buckets);
+
+    Mono<List<TitleStats>> getTitleStats();
+
+    Mono<EmployeeResponse> createEmployee(Employee employeeInput);
+
+    Mono<String> deleteEmployeeById(String id);
+
+    Flux<BatchResult<EmployeeResponse>> createEmployees(List<Employee> employeeInputs);
+
+    Flux<BatchResult<EmployeeResponse>> deleteEmployeesByName(List<String> employeeNames);
+}
@@ -1,30 +1,58 @@
 package com.reliaquest.api.service.impl;
 
+import com.reliaquest.api.aggregate.RosterAggregator;
+import com.reliaquest.api.aggregate.RosterAnalytics;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.cache.NameSearchMode;
 import com.reliaquest.api.client.IEmployeeApiClient;
+import com.reliaquest.api.dto.BatchResult;
 import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.EmployeePage;
 import com.reliaquest.api.dto.EmployeeResponse;
+import com.reliaquest.api.dto.SalaryHistogram;
+import com.reliaquest.api.dto.TitleStats;
 import com.reliaquest.api.service.IEmployeeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.stereotype.Service;
 
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
  * This class provides the implementation of the employee-related business logic.
+ * Reads are answered from the roster snapshot cache; with the cache disabled, the aggregate queries stream the
+ * roster from the remote API and keep only what they need, so memory stays constant in the roster size.
  * @author - Ajinkya Choudhary
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class EmployeeServiceImpl implements IEmployeeService {
     @Autowired
     private IEmployeeApiClient apiClient;
 
+    @Autowired
+    private EmployeeSnapshotCache snapshotCache;
+
+    @Autowired
+    private RosterAnalytics rosterAnalytics;
+
+    @Value("${employee.search.mode:EXACT}")
+    private NameSearchMode defaultSearchMode = NameSearchMode.EXACT;
+
+    @Value("${employee.batch.chunk-size:500}")
+    private int batchChunkSize = 500;
+
     /**
      * Retrieves a list of all employees.
      * @return A list of all employee details
@@ -32,18 +60,54 @@ public class EmployeeServiceImpl implements IEmployeeService {
     @Override
     public List<EmployeeResponse> getAllEmployees() {
         //log.info("Fetching all employees");
-        return apiClient.fetchAllEmployees();
+        if (!snapshotCache.isEnabled()) {
+            return apiClient.fetchAllEmployees();
+        }
+        return snapshotCache.current().getEmployees();
     }
 
     /**
-     * Searches for employees by their name.
+     * Retrieves one page of employees. Pages come from the roster snapshot, where the cursor is a position in one
+     * snapshot version; with the cache disabled they are relayed from the remote API along with its cursor.
+     * @param cursor - nextCursor of the previous page, or null for the first page
+     * @param limit - maximum number of employees in the page
+     * @return The page of employees
+     * @throws IllegalArgumentException if the cursor was not issued by this API, or the roster changed since
+     */
+    @Override
+    public EmployeePage getEmployeesPage(String cursor, int limit) {
+        if (!snapshotCache.isEnabled()) {
+            return apiClient.fetchEmployeesPage(cursor, limit).orElseGet(() -> new EmployeePage(List.of(), null));
+        }
+        return snapshotCache.current().page(cursor, limit);
+    }
+
+    /**
+     * Searches for employees by their name, using the configured default search mode.
      * @param searchName The name to search for.
      * @return A list of employees that match the given name
      */
     @Override
     public List<EmployeeResponse> getEmployeesByName(String searchName) {
-        return apiClient.fetchAllEmployees().stream().filter(emp-> emp.getEmployee_name().equalsIgnoreCase(searchName))
-                .collect(Collectors.toList());
+        return searchEmployees(searchName, defaultSearchMode);
+    }
+
+    /**
+     * Searches for employees by name using the name index of the current roster snapshot.
+     * @param searchName The name or name fragment to search for.
+     * @param mode How the name is matched.
+     * @return A list of employees that match the given name
+     */
+    @Override
+    public List<EmployeeResponse> searchEmployees(String searchName, NameSearchMode mode) {
+        if (!snapshotCache.isEnabled()) {
+            if (searchName == null) {
+                return List.of();
+            }
+            String query = NameSearchMode.normalize(searchName);
+            return streamRoster(0, emp -> mode.matches(emp.getEmployee_name(), query)).getNameMatches();
+        }
+        return snapshotCache.current().getNameIndex().search(searchName, mode);
     }
 
     /**
@@ -62,10 +126,10 @@ public class EmployeeServiceImpl implements IEmployeeService {
      */
     @Override
     public Integer getHighestSalaryOfEmployees() {
-        return apiClient.fetchAllEmployees().stream()
-                .map(EmployeeResponse::getEmployee_salary)
-                .max(Integer::compareTo)
-                .orElse(0);
+        if (!snapshotCache.isEnabled()) {
+            return streamRoster(0, null).getMaxSalary();
+        }
+        return snapshotCache.current().getSalaryIndex().max();
     }
 
     /**
@@ -74,12 +138,53 @@ public class EmployeeServiceImpl implements IEmployeeService {
      */
     @Override
     public List<String> getTopTenHighestEarningEmployeeNames() {
-        return apiClient.fetchAllEmployees().stream()
-                .sorted(Comparator.comparingInt(EmployeeResponse::getEmployee_salary).reversed())
-                .limit(10)
+        List<EmployeeResponse> topEarners = snapshotCache.isEnabled()
+                ? snapshotCache.current().getSalaryIndex().topEarners(10)
+                : streamRoster(10, null).getTopEarners();
+        return topEarners.stream()
                 .map(emp-> emp.getEmployee_name() + " - "+emp.getEmployee_salary())
                 .collect(Collectors.toList());
+    }
 
+    /**
+     * Retrieves the salary at the given percentile of the salary distribution.
+     * @param percentile - percentile between 0 and 100
+     * @return The salary at that percentile
+     */
+    @Override
+    public Integer getSalaryPercentile(double percentile) {
+        return snapshotCache.current().getSalaryIndex().percentile(percentile);
+    }
+
+    /**
+     * Counts the employees whose salary falls within the given range.
+     * @param minSalary - lower bound, inclusive
+     * @param maxSalary - upper bound, inclusive
+     * @return The number of employees in the range
+     */
+    @Override
+    public Integer countEmployeesInSalaryRange(int minSalary, int maxSalary) {
+        return snapshotCache.current().getSalaryIndex().countBetween(minSalary, maxSalary);
+    }
+
+    /**
+     * Retrieves the salary distribution of the roster snapshot, aggregated in parallel for large rosters.
+     * @param buckets - maximum number of salary ranges
+     * @return The salary histogram
+     */
+    @Override
+    public SalaryHistogram getSalaryHistogram(int buckets) {
+        return rosterAnalytics.salaryHistogram(snapshotCache.current().getColumns(), buckets);
+    }
+
+    /**
+     * Retrieves salary and age statistics per title from the roster snapshot, aggregated in parallel for large
+     * rosters.
+     * @return The statistics of each title, most common title first
+     */
+    @Override
+    public List<TitleStats> getTitleStats() {
+        return rosterAnalytics.statsByTitle(snapshotCache.current().getColumns());
     }
 
     /**
@@ -89,26 +194,79 @@ public class EmployeeServiceImpl implements IEmployeeService {
      */
     @Override
     public EmployeeResponse createEmployee(Employee employeeInput) {
-        return apiClient.postEmployee(employeeInput)
+        EmployeeResponse employee = apiClient.postEmployee(employeeInput)
                 .orElseThrow(() -> new RuntimeException("Failed to create employee"));
+        snapshotCache.onCreated(employee);
+        return employee;
 
     }
 
     /**
-     * Deletes an employee by their unique ID.
+     * Deletes an employee by their unique ID with a single call to the remote API.
      * @param id - The ID of the employee to be deleted.
      * @return  A confirmation message indicating whether the deletion was successful.
      */
     @Override
     public String deleteEmployeeById(String id) {
-        Optional<EmployeeResponse> employee = getEmployeeById(id);
-        if (employee.isEmpty()) {
+        Optional<EmployeeResponse> deleted = apiClient.deleteEmployeeById(id);
+        if (deleted.isEmpty()) {
             return "Employee with ID " + id + " not found.";
         }
-        String nameToDelete = employee.get().getEmployee_name();
+        snapshotCache.onDeleted(deleted.get().getId());
+        return "Employee with name " + deleted.get().getEmployee_name() + " deleted successfully.";
+    }
+
+    /**
+     * Creates many employees, sending them to the remote API in chunks of employee.batch.chunk-size so a large import
+     * costs one request per chunk instead of one per employee.
+     * @param employeeInputs - employees to be created
+     * @return one result per input, indexed by its position in employeeInputs
+     */
+    @Override
+    public List<BatchResult<EmployeeResponse>> createEmployees(List<Employee> employeeInputs) {
+        List<BatchResult<EmployeeResponse>> results = inChunks(employeeInputs, apiClient::postEmployees);
+        snapshotCache.onCreatedAll(succeeded(results));
+        return results;
+    }
+
+    /**
+     * Deletes an employee for each of the given names, sending them to the remote API in chunks of
+     * employee.batch.chunk-size.
+     * @param employeeNames - names of the employees to be deleted
+     * @return one result per name holding the deleted employee, indexed by its position in employeeNames
+     */
+    @Override
+    public List<BatchResult<EmployeeResponse>> deleteEmployeesByName(List<String> employeeNames) {
+        List<BatchResult<EmployeeResponse>> results = inChunks(employeeNames, apiClient::deleteEmployees);
+        snapshotCache.onDeletedAll(succeeded(results).stream().map(EmployeeResponse::getId).toList());
+        return results;
+    }
+
+    private <T> List<BatchResult<EmployeeResponse>> inChunks(
+            List<T> inputs, Function<List<T>, List<BatchResult<EmployeeResponse>>> sendChunk) {
+        List<BatchResult<EmployeeResponse>> results = new ArrayList<>(inputs.size());
+        int chunkSize = Math.max(1, batchChunkSize);
+        for (int start = 0; start < inputs.size(); start += chunkSize) {
+            int end = Math.min(start + chunkSize, inputs.size());
+            List<BatchResult<EmployeeResponse>> chunkResults = sendChunk.apply(inputs.subList(start, end));
+            for (BatchResult<EmployeeResponse> result : chunkResults) {
+                result.setIndex(start + result.getIndex());
+                results.add(result);
+            }
+        }
+        return results;
+    }
 
-        return apiClient.deleteEmployee(nameToDelete)
-                .orElseThrow(() -> new RuntimeException("Employee not found or could not be deleted"));
+    private static List<EmployeeResponse> succeeded(List<BatchResult<EmployeeResponse>> results) {
+        return results.stream().map(BatchResult::getData).filter(Objects::nonNull).toList();
     }
 
+    private RosterAggregator streamRoster(int topLimit, Predicate<EmployeeResponse> nameFilter) {
+        RosterAggregator aggregator = new RosterAggregator(topLimit, nameFilter);
+        if (!apiClient.streamAllEmployees(aggregator)) {
+            log.warn("Streaming the employee roster failed, returning empty aggregates");
+            return new RosterAggregator(topLimit, nameFilter);
+        }
+        return aggregator;
+    }
 }
@@ -0,0 +1,366 @@
+package com.reliaquest.api.service.impl;
+
+import com.reliaquest.api.aggregate.RosterAnalytics;
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.cache.NameSearchMode;
+import com.reliaquest.api.client.IReactiveEmployeeApiClient;
+import com.reliaquest.api.client.resilience.UpstreamThrottledException;
+import com.reliaquest.api.dto.BatchResult;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.EmployeeChange;
+import com.reliaquest.api.dto.EmployeePage;
+import com.reliaquest.api.dto.EmployeeResponse;
+import com.reliaquest.api.dto.SalaryHistogram;
+import com.reliaquest.api.dto.TitleStats;
+import com.reliaquest.api.service.IReactiveEmployeeService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Non-blocking implementation of the employee-related business logic.
+ * Reads are answered from an in-memory roster snapshot, like the blocking stack, but the snapshot is refreshed on
+ * demand: a read that finds it older than employee.cache.refresh-interval is answered from it while one shared
+ * reload runs in the background. With the cache disabled every read loads a fresh snapshot.
+ * Local writes and reloads swap snapshots under one lock, and the writes made while a reload is in flight are replayed
+ * onto the snapshot it loads, so a reload never discards a write it did not see. Each cached snapshot has its indexes
+ * built by the worker thread that swapped it in, rather than by the first read on the event loop.
+ */
+@Slf4j
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveEmployeeServiceImpl implements IReactiveEmployeeService {
+
+    private final IReactiveEmployeeApiClient apiClient;
+    private final boolean cacheEnabled;
+    private final Duration refreshInterval;
+    private final NameSearchMode defaultSearchMode;
+    private final int batchChunkSize;
+    private final RosterAnalytics rosterAnalytics;
+
+    private final AtomicReference<EmployeeSnapshot> current = new AtomicReference<>();
+    private final AtomicReference<Mono<EmployeeSnapshot>> reloading = new AtomicReference<>();
+    private final AtomicLong versions = new AtomicLong();
+    private final ReentrantLock swapLock = new ReentrantLock();
+    // Guarded by swapLock: local writes made since the reload in flight started, or null if there is none
+    private List<EmployeeChange> localWrites;
+
+    public ReactiveEmployeeServiceImpl(IReactiveEmployeeApiClient apiClient,
+                                       @Value("${employee.cache.enabled:true}") boolean cacheEnabled,
+                                       @Value("${employee.cache.refresh-interval:PT30S}") Duration refreshInterval,
+                                       @Value("${employee.search.mode:EXACT}") NameSearchMode defaultSearchMode,
+                                       @Value("${employee.batch.chunk-size:500}") int batchChunkSize,
+                                       RosterAnalytics rosterAnalytics) {
+        this.apiClient = apiClient;
+        this.cacheEnabled = cacheEnabled;
+        this.refreshInterval = refreshInterval;
+        this.defaultSearchMode = defaultSearchMode;
+        this.batchChunkSize = Math.max(1, batchChunkSize);
+        this.rosterAnalytics = rosterAnalytics;
+    }
+
+    @Override
+    public Flux<EmployeeResponse> getAllEmployees() {
+        return snapshot().flatMapIterable(EmployeeSnapshot::getEmployees);
+    }
+
+    /**
+     * Retrieves one page of employees from the roster snapshot, where the cursor is a position in one snapshot
+     * version; with the cache disabled pages are relayed from the remote API along with its cursor.
+     * @throws IllegalArgumentException if the cursor was not issued by this API, or the roster changed since,
+     * signalled as an error
+     */
+    @Override
+    public Mono<EmployeePage> getEmployeesPage(String cursor, int limit) {
+        if (!cacheEnabled) {
+            return apiClient.fetchEmployeesPage(cursor, limit).defaultIfEmpty(new EmployeePage(List.of(), null));
+        }
+        return snapshot().map(snapshot -> snapshot.page(cursor, limit));
+    }
+
+    @Override
+    public Flux<EmployeeResponse> getEmployeesByName(String searchName) {
+        return searchEmployees(searchName, defaultSearchMode);
+    }
+
+    @Override
+    public Flux<EmployeeResponse> searchEmployees(String searchName, NameSearchMode mode) {
+        return snapshot().flatMapIterable(snapshot -> snapshot.getNameIndex().search(searchName, mode));
+    }
+
+    @Override
+    public Mono<EmployeeResponse> getEmployeeById(String id) {
+        return apiClient.fetchEmployeeById(id);
+    }
+
+    @Override
+    public Mono<Integer> getHighestSalaryOfEmployees() {
+        return snapshot().map(snapshot -> snapshot.getSalaryIndex().max());
+    }
+
+    @Override
+    public Mono<List<String>> getTopTenHighestEarningEmployeeNames() {
+        return snapshot().map(snapshot -> snapshot.getSalaryIndex().topEarners(10).stream()
+                .map(emp -> emp.getEmployee_name() + " - " + emp.getEmployee_salary())
+                .toList());
+    }
+
+    @Override
+    public Mono<Integer> getSalaryPercentile(double percentile) {
+        return snapshot().map(snapshot -> snapshot.getSalaryIndex().percentile(percentile));
+    }
+
+    @Override
+    public Mono<Integer> countEmployeesInSalaryRange(int minSalary, int maxSalary) {
+        return snapshot().map(snapshot -> snapshot.getSalaryIndex().countBetween(minSalary, maxSalary));
+    }
+
+    /**
+     * Aggregated off the event loop, since a large roster keeps the fork-join pool busy for a while.
+     */
+    @Override
+    public Mono<SalaryHistogram> getSalaryHistogram(int buckets) {
+        return snapshot().publishOn(Schedulers.boundedElastic())
+                .map(snapshot -> rosterAnalytics.salaryHistogram(snapshot.getColumns(), buckets));
+    }
+
+    @Override
+    public Mono<List<TitleStats>> getTitleStats() {
+        return snapshot().publishOn(Schedulers.boundedElastic())
+                .map(snapshot -> rosterAnalytics.statsByTitle(snapshot.getColumns()));
+    }
+
+    @Override
+    public Mono<EmployeeResponse> createEmployee(Employee employeeInput) {
+        return apiClient.postEmployee(employeeInput)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Failed to create employee")))
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(this::applyCreated);
+    }
+
+    @Override
+    public Mono<String> deleteEmployeeById(String id) {
+        return apiClient.deleteEmployeeById(id)
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(this::applyDeleted)
+                .map(deleted -> "Employee with name " + deleted.getEmployee_name() + " deleted successfully.")
+                .defaultIfEmpty("Employee with ID " + id + " not found.");
+    }
+
+    @Override
+    public Flux<BatchResult<EmployeeResponse>> createEmployees(List<Employee> employeeInputs) {
+        return inChunks(employeeInputs, apiClient::postEmployees, this::applyCreated);
+    }
+
+    @Override
+    public Flux<BatchResult<EmployeeResponse>> deleteEmployeesByName(List<String> employeeNames) {
+        return inChunks(employeeNames, apiClient::deleteEmployees,
+                deleted -> applyDeleted(deleted.stream().map(EmployeeResponse::getId).toList()));
+    }
+
+    /**
+     * Sends the chunks one after another, so a large import never has more than one batch in flight. The employees
+     * of each chunk that succeeded are applied to the snapshot together, before the chunk's results are emitted.
+     */
+    private <T> Flux<BatchResult<EmployeeResponse>> inChunks(
+            List<T> inputs, Function<List<T>, Flux<BatchResult<EmployeeResponse>>> sendChunk,
+            Consumer<List<EmployeeResponse>> applySucceeded) {
+        return Flux.range(0, (inputs.size() + batchChunkSize - 1) / batchChunkSize)
+                .map(chunk -> chunk * batchChunkSize)
+                .concatMap(start -> sendChunk
+                        .apply(inputs.subList(start, Math.min(start + batchChunkSize, inputs.size())))
+                        .doOnNext(result -> result.setIndex(start + result.getIndex()))
+                        .collectList()
+                        .publishOn(Schedulers.boundedElastic())
+                        .doOnNext(results -> applySucceeded.accept(
+                                results.stream().map(BatchResult::getData).filter(Objects::nonNull).toList()))
+                        .flatMapIterable(Function.identity()));
+    }
+
+    private Mono<EmployeeSnapshot> snapshot() {
+        if (!cacheEnabled) {
+            return load(null);
+        }
+        EmployeeSnapshot snapshot = current.get();
+        if (snapshot == null) {
+            return reload();
+        }
+        if (snapshot.getFetchedAt().plus(refreshInterval).isBefore(Instant.now())) {
+            reload().subscribe(refreshed -> {}, e -> log.warn("Background roster reload failed: {}", e.toString()));
+        }
+        return Mono.just(snapshot);
+    }
+
+    /**
+     * @return the reload already in flight, or a new one shared by everyone asking until it completes
+     */
+    private Mono<EmployeeSnapshot> reload() {
+        Mono<EmployeeSnapshot> inFlight = reloading.get();
+        if (inFlight != null) {
+            return inFlight;
+        }
+        AtomicReference<Mono<EmployeeSnapshot>> self = new AtomicReference<>();
+        Mono<EmployeeSnapshot> created = Mono.defer(() -> {
+                    EmployeeSnapshot previous = current.get();
+                    recordLocalWrites();
+                    return load(previous).map(loaded -> swapIn(loaded, previous, self.get()));
+                })
+                .doFinally(signal -> finishReload(self.get()))
+                .cache();
+        self.set(created);
+        Mono<EmployeeSnapshot> witness = reloading.compareAndExchange(null, created);
+        return witness != null ? witness : created;
+    }
+
+    /**
+     * Swaps a reloaded snapshot in, replaying onto it the local writes made while the reload was in flight, and
+     * builds its indexes; runs on a worker thread. A reload that kept the previous snapshot leaves the current one,
+     * which already holds those writes. The reload is finished in the same step, before its snapshot is emitted, so
+     * a read that finds the new snapshot stale starts the next reload rather than joining this one.
+     */
+    private EmployeeSnapshot swapIn(EmployeeSnapshot loaded, EmployeeSnapshot previous,
+                                    Mono<EmployeeSnapshot> reload) {
+        EmployeeSnapshot snapshot;
+        swapLock.lock();
+        try {
+            if (loaded == previous) {
+                snapshot = current.get();
+            } else {
+                snapshot = localWrites.isEmpty() ? loaded
+                        : loaded.withChanges(versions.incrementAndGet(), loaded.getFetchedAt(), localWrites);
+                current.set(snapshot);
+            }
+            finishReload(reload);
+        } finally {
+            swapLock.unlock();
+        }
+        return loaded == previous ? snapshot : snapshot.indexed();
+    }
+
+    /**
+     * Stops recording local writes and lets the next read start a new reload, unless a newer reload already
+     * replaced this one.
+     */
+    private void finishReload(Mono<EmployeeSnapshot> reload) {
+        swapLock.lock();
+        try {
+            if (reloading.compareAndSet(reload, null)) {
+                localWrites = null;
+            }
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    /**
+     * Loads a new snapshot; keeps the previous one if the upstream returns nothing or is throttling. The snapshot is
+     * built on a worker thread, and so is everything downstream, so an uncached read also builds the indexes it
+     * needs off the event loop.
+     */
+    private Mono<EmployeeSnapshot> load(EmployeeSnapshot previous) {
+        return apiClient.fetchAllEmployees()
+                .collectList()
+                .publishOn(Schedulers.boundedElastic())
+                .map(employees -> {
+                    if (employees.isEmpty() && previous != null && previous.size() > 0) {
+                        log.warn("Roster reload returned no employees, keeping snapshot v{}", previous.getVersion());
+                        return previous;
+                    }
+                    return new EmployeeSnapshot(versions.incrementAndGet(), Instant.now(), employees);
+                })
+                .onErrorResume(UpstreamThrottledException.class, e -> {
+                    if (previous == null) {
+                        return Mono.error(e);
+                    }
+                    log.warn("Roster reload throttled, keeping snapshot v{}", previous.getVersion());
+                    return Mono.just(previous);
+                });
+    }
+
+    private void applyCreated(EmployeeResponse employee) {
+        applyLocally(List.of(created(employee)), (snapshot, version) -> snapshot.withAdded(version, employee));
+    }
+
+    private void applyCreated(List<EmployeeResponse> employees) {
+        if (employees.isEmpty()) {
+            return;
+        }
+        applyLocally(employees.stream().map(ReactiveEmployeeServiceImpl::created).toList(),
+                (snapshot, version) -> snapshot.withAddedAll(version, employees));
+    }
+
+    private void applyDeleted(EmployeeResponse employee) {
+        applyLocally(List.of(deleted(employee.getId())),
+                (snapshot, version) -> snapshot.withRemoved(version, employee.getId()));
+    }
+
+    private void applyDeleted(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        applyLocally(ids.stream().map(ReactiveEmployeeServiceImpl::deleted).toList(),
+                (snapshot, version) -> snapshot.withRemovedAll(version, ids));
+    }
+
+    /**
+     * Applies a local write to the snapshot, recording it for the reload in flight if there is one, then builds the
+     * new snapshot's indexes; called on a worker thread. Nothing is applied before the first load, which replays the
+     * write onto the roster it fetches.
+     */
+    private void applyLocally(List<EmployeeChange> changes,
+                              BiFunction<EmployeeSnapshot, Long, EmployeeSnapshot> update) {
+        if (!cacheEnabled) {
+            return;
+        }
+        EmployeeSnapshot snapshot;
+        swapLock.lock();
+        try {
+            if (localWrites != null) {
+                localWrites.addAll(changes);
+            }
+            snapshot = current.get();
+            if (snapshot == null) {
+                return;
+            }
+            snapshot = update.apply(snapshot, versions.incrementAndGet());
+            current.set(snapshot);
+        } finally {
+            swapLock.unlock();
+        }
+        snapshot.indexed();
+    }
+
+    private static EmployeeChange created(EmployeeResponse employee) {
+        return new EmployeeChange(0, EmployeeChange.Type.CREATED, employee.getId(), employee);
+    }
+
+    private static EmployeeChange deleted(UUID id) {
+        return new EmployeeChange(0, EmployeeChange.Type.DELETED, id, null);
+    }
+
+    private void recordLocalWrites() {
+        swapLock.lock();
+        try {
+            localWrites = new ArrayList<>();
+        } finally {
+            swapLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.reliaquest.api.wrapper;
+
+import lombok.Data;
+
+/**
+ * Generic wrapper for single-value responses from the remote employee API, e.g. one employee or a delete flag.
+ * @param <T> type of the {@code data} payload
+ */
+@Data
+public class Response<T> {
+    private T data;
+    private String status;
+    private String error;
+}
@@ -0,0 +1,25 @@
+package com.reliaquest.api;
+
+import com.reliaquest.api.client.IEmployeeApiClient;
+import com.reliaquest.api.controller.impl.ReactiveEmployeeController;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.web.client.RestTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+class ReactiveApiApplicationTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    void testReactiveStackReplacesBlockingStack() {
+        assertEquals(1, context.getBeanNamesForType(ReactiveEmployeeController.class).length);
+        assertEquals(0, context.getBeanNamesForType(IEmployeeApiClient.class).length);
+        assertEquals(0, context.getBeanNamesForType(RestTemplate.class).length);
+    }
+}
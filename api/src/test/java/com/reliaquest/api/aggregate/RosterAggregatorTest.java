@@ -0,0 +1,53 @@
+package com.reliaquest.api.aggregate;
+
+import com.reliaquest.api.dto.EmployeeResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RosterAggregatorTest {
+
+    @Test
+    void testMaxAndTopEarners_MatchFullSort() {
+        RosterAggregator aggregator = new RosterAggregator(3, null);
+
+        Stream.of(employee("A", 40000), employee("B", 90000), employee("C", 60000),
+                employee("D", 90000), employee("E", 10000), employee("F", 60000)).forEach(aggregator);
+
+        assertEquals(6, aggregator.getCount());
+        assertEquals(90000, aggregator.getMaxSalary());
+        assertEquals(List.of("B", "D", "C"),
+                aggregator.getTopEarners().stream().map(EmployeeResponse::getEmployee_name).toList());
+    }
+
+    @Test
+    void testNameFilter_CollectsOnlyMatches() {
+        RosterAggregator aggregator = new RosterAggregator(0, emp -> emp.getEmployee_name().startsWith("J"));
+
+        Stream.of(employee("John", 1), employee("Ajinkya", 2), employee("Jane", 3)).forEach(aggregator);
+
+        assertEquals(List.of("John", "Jane"),
+                aggregator.getNameMatches().stream().map(EmployeeResponse::getEmployee_name).toList());
+        assertTrue(aggregator.getTopEarners().isEmpty());
+    }
+
+    @Test
+    void testEmptyStream() {
+        RosterAggregator aggregator = new RosterAggregator(10, null);
+
+        assertEquals(0, aggregator.getMaxSalary());
+        assertTrue(aggregator.getTopEarners().isEmpty());
+    }
+
+    private EmployeeResponse employee(String name, int salary) {
+        EmployeeResponse employee = new EmployeeResponse();
+        employee.setId(UUID.randomUUID());
+        employee.setEmployee_name(name);
+        employee.setEmployee_salary(salary);
+        return employee;
+    }
+}
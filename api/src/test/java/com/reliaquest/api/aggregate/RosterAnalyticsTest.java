@@ -0,0 +1,91 @@
+package com.reliaquest.api.aggregate;
+
+import com.reliaquest.api.cache.EmployeeColumns;
+import com.reliaquest.api.dto.EmployeeResponse;
+import com.reliaquest.api.dto.SalaryHistogram;
+import com.reliaquest.api.dto.TitleStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RosterAnalyticsTest {
+
+    private final RosterAnalytics sequential = new RosterAnalytics(Integer.MAX_VALUE);
+    private final RosterAnalytics parallel = new RosterAnalytics(1);
+
+    @Test
+    void testSalaryHistogram_SplitsSpanIntoEqualRanges() {
+        EmployeeColumns columns = EmployeeColumns.of(List.of(employee(100, "A"), employee(149, "A"),
+                employee(150, "B"), employee(299, "B"), employee(300, "A")));
+
+        SalaryHistogram histogram = sequential.salaryHistogram(columns, 4);
+
+        assertEquals(5, histogram.getTotal());
+        assertEquals(List.of(new SalaryHistogram.Bucket(100, 150, 3), new SalaryHistogram.Bucket(151, 201, 0),
+                new SalaryHistogram.Bucket(202, 252, 0), new SalaryHistogram.Bucket(253, 300, 2)),
+                histogram.getBuckets());
+    }
+
+    @Test
+    void testSalaryHistogram_FewerBucketsThanDistinctSalaries() {
+        EmployeeColumns columns = EmployeeColumns.of(List.of(employee(500, "A"), employee(500, "A"),
+                employee(501, "A")));
+
+        assertEquals(List.of(new SalaryHistogram.Bucket(500, 500, 2), new SalaryHistogram.Bucket(501, 501, 1)),
+                sequential.salaryHistogram(columns, 10).getBuckets());
+        assertTrue(sequential.salaryHistogram(EmployeeColumns.of(List.of()), 10).getBuckets().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> sequential.salaryHistogram(columns, 0));
+    }
+
+    @Test
+    void testStatsByTitle_MostCommonFirstAndMissingTitleLast() {
+        EmployeeColumns columns = EmployeeColumns.of(List.of(employee(100, "Manager"), employee(300, "Engineer"),
+                employee(50, null), employee(200, "Engineer"), employee(80, "Analyst")));
+
+        List<TitleStats> stats = sequential.statsByTitle(columns);
+
+        assertEquals(new TitleStats("Engineer", 2, 200, 300, 250.0, 30.0), stats.get(0));
+        assertEquals(List.of("Analyst", "Manager"), List.of(stats.get(1).getTitle(), stats.get(2).getTitle()));
+        assertEquals(new TitleStats(null, 1, 50, 50, 50.0, 30.0), stats.get(3));
+    }
+
+    @Test
+    void testParallelAggregation_MatchesSequential() {
+        Random random = new Random(42);
+        List<String> titles = List.of("Engineer", "Manager", "Analyst", "Director");
+        List<EmployeeResponse> roster = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            roster.add(employee(30000 + random.nextInt(200000), i % 97 == 0 ? null : titles.get(random.nextInt(4))));
+        }
+        EmployeeColumns columns = EmployeeColumns.of(roster);
+
+        assertEquals(sequential.salaryHistogram(columns, 37), parallel.salaryHistogram(columns, 37));
+        assertEquals(sequential.statsByTitle(columns), parallel.statsByTitle(columns));
+    }
+
+    @Test
+    void testAggregate_MergesRangesInOrder() {
+        RosterAnalytics.RangeAccumulator<StringBuilder> ranges =
+                (partial, from, to) -> partial.append('[').append(from).append(',').append(to).append(')');
+
+        assertEquals("[0,2500)[2500,5000)[5000,7500)[7500,10000)",
+                parallel.aggregate(10_000, StringBuilder::new, ranges, StringBuilder::append).toString());
+        assertEquals("[0,10000)",
+                sequential.aggregate(10_000, StringBuilder::new, ranges, StringBuilder::append).toString());
+    }
+
+    private EmployeeResponse employee(int salary, String title) {
+        EmployeeResponse employee = new EmployeeResponse();
+        employee.setId(UUID.randomUUID());
+        employee.setEmployee_name("Employee " + salary);
+        employee.setEmployee_salary(salary);
+        employee.setEmployee_age(30);
+        employee.setEmployee_title(title);
+        return employee;
+    }
+}
@@ -0,0 +1,89 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.EmployeeResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeColumnsTest {
+
+    private final EmployeeResponse ajinkya = employee("Ajinkya", 200000, "Engineer");
+    private final EmployeeResponse john = employee("John", 90000, "Manager");
+    private final EmployeeResponse jane = employee("Jane", 120000, "Engineer");
+
+    @Test
+    void testRowsReadBackEqual() {
+        EmployeeColumns columns = EmployeeColumns.of(List.of(ajinkya, john, jane));
+
+        assertEquals(List.of(ajinkya, john, jane), columns.rows());
+        assertNotSame(ajinkya, columns.get(0));
+        assertEquals(120000, columns.salary(2));
+        assertEquals(List.of(jane, ajinkya), columns.rows(new int[] {2, 0}));
+        assertThrows(IndexOutOfBoundsException.class, () -> columns.rows().get(3));
+        assertThrows(UnsupportedOperationException.class, () -> columns.rows().add(john));
+    }
+
+    @Test
+    void testTitlesAreDictionaryEncoded() {
+        EmployeeColumns columns = EmployeeColumns.of(List.of(ajinkya, john, jane));
+
+        assertEquals(List.of("Engineer", "Manager"), columns.titleDictionary());
+        assertEquals(columns.titleCode(0), columns.titleCode(2));
+        assertEquals("Manager", columns.title(1));
+    }
+
+    @Test
+    void testNullFieldsSurvive() {
+        EmployeeResponse anonymous = new EmployeeResponse();
+        anonymous.setEmployee_salary(1);
+        EmployeeColumns columns = EmployeeColumns.of(List.of(ajinkya, anonymous));
+
+        assertEquals(anonymous, columns.get(1));
+        assertNull(columns.id(1));
+        assertEquals(1, columns.indexOf(null));
+        assertEquals(-1, columns.titleCode(1));
+    }
+
+    @Test
+    void testAppendAndRemoveCopyColumns() {
+        EmployeeColumns columns = EmployeeColumns.of(List.of(ajinkya, john));
+
+        EmployeeColumns appended = columns.withAppended(jane);
+        assertEquals(List.of(ajinkya, john, jane), appended.rows());
+        assertEquals(List.of(ajinkya, john), columns.rows());
+
+        assertEquals(List.of(ajinkya, jane), appended.without(appended.indexOf(john.getId())).rows());
+        assertEquals(List.of(john), appended.without(0, 2).rows());
+        assertEquals(-1, columns.indexOf(UUID.randomUUID()));
+    }
+
+    @Test
+    void testBuilderCopiesRowsFromOtherColumns() {
+        EmployeeColumns base = EmployeeColumns.of(List.of(ajinkya, john));
+        EmployeeColumns other = EmployeeColumns.of(List.of(jane));
+
+        EmployeeColumns merged = new EmployeeColumns.Builder(base, 3)
+                .add(other, 0)
+                .add(base, 1)
+                .add(employee("Maria", 1000, "Analyst"))
+                .build();
+
+        assertEquals(List.of("Jane", "John", "Maria"), merged.rows().stream().map(EmployeeResponse::getEmployee_name).toList());
+        assertEquals(List.of("Engineer", "Manager", "Analyst"), merged.titleDictionary());
+        assertEquals("Engineer", merged.title(0));
+    }
+
+    private EmployeeResponse employee(String name, int salary, String title) {
+        EmployeeResponse employee = new EmployeeResponse();
+        employee.setId(UUID.randomUUID());
+        employee.setEmployee_name(name);
+        employee.setEmployee_salary(salary);
+        employee.setEmployee_age(30);
+        employee.setEmployee_title(title);
+        employee.setEmployee_email(name.toLowerCase() + "@company.com");
+        return employee;
+    }
+}
@@ -0,0 +1,303 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.client.IEmployeeApiClient;
+import com.reliaquest.api.client.resilience.UpstreamThrottledException;
+import com.reliaquest.api.dto.EmployeeChange;
+import com.reliaquest.api.dto.EmployeeChanges;
+import com.reliaquest.api.dto.EmployeePage;
+import com.reliaquest.api.dto.EmployeeResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeSnapshotCacheTest {
+
+    @Mock
+    private IEmployeeApiClient apiClient;
+
+    private EmployeeSnapshotCache snapshotCache;
+
+    private EmployeeResponse ajinkya;
+    private EmployeeResponse john;
+
+    @BeforeEach
+    void setUp() {
+        snapshotCache = new EmployeeSnapshotCache(apiClient, true, 0);
+        ajinkya = employee("Ajinkya", 200000);
+        john = employee("John", 150000);
+    }
+
+    @Test
+    void testCurrent_LoadsOnceAndServesFromMemory() {
+        when(apiClient.fetchAllEmployees()).thenReturn(List.of(ajinkya, john));
+
+        EmployeeSnapshot first = snapshotCache.current();
+        EmployeeSnapshot second = snapshotCache.current();
+
+        assertSame(first, second);
+        assertEquals(2, second.size());
+        verify(apiClient, times(1)).fetchAllEmployees();
+    }
+
+    @Test
+    void testRefresh_SwapsInNewVersion() {
+        when(apiClient.fetchAllEmployees()).thenReturn(List.of(ajinkya)).thenReturn(List.of(ajinkya, john));
+
+        EmployeeSnapshot before = snapshotCache.current();
+        snapshotCache.refresh();
+        EmployeeSnapshot after = snapshotCache.current();
+
+        assertTrue(after.getVersion() > before.getVersion());
+        assertEquals(1, before.size());
+        assertEquals(2, after.size());
+    }
+
+    @Test
+    void testRefresh_KeepsSnapshotWhenUpstreamReturnsNothing() {
+        when(apiClient.fetchAllEmployees()).thenReturn(List.of(ajinkya, john)).thenReturn(List.of());
+
+        EmployeeSnapshot before = snapshotCache.current();
+        snapshotCache.refresh();
+
+        assertSame(before, snapshotCache.current());
+    }
+
+    @Test
+    void testRefresh_KeepsSnapshotWhenUpstreamThrottles() {
+        when(apiClient.fetchAllEmployees()).thenReturn(List.of(ajinkya))
+                .thenThrow(new UpstreamThrottledException("throttled", Duration.ofSeconds(30)));
+
+        EmployeeSnapshot before = snapshotCache.current();
+        snapshotCache.refresh();
+
+        assertSame(before, snapshotCache.current());
+    }
+
+    @Test
+    void testOnCreatedAndOnDeleted_UpdateSnapshotLocally() {
+        when(apiClient.fetchAllEmployees()).thenReturn(List.of(ajinkya));
+        snapshotCache.current();
+
+        snapshotCache.onCreated(john);
+        assertEquals(2, snapshotCache.current().size());
+
+        snapshotCache.onDeleted(ajinkya.getId());
+        assertEquals(List.of(john), snapshotCache.current().getEmployees());
+        verify(apiClient, times(1)).fetchAllEmployees();
+    }
+
+    @Test
+    void testOnCreatedAllAndOnDeletedAll_ApplyEachBatchAsOneVersion() {
+        when(apiClient.fetchAllEmployees()).thenReturn(List.of(ajinkya));
+        long before = snapshotCache.current().getVersion();
+        EmployeeResponse maria = employee("Maria", 90000);
+
+        snapshotCache.onCreatedAll(List.of(john, maria));
+        assertEquals(List.of(ajinkya, john, maria), snapshotCache.current().getEmployees());
+        assertEquals(before + 1, snapshotCache.current().getVersion());
+
+        snapshotCache.onDeletedAll(List.of(maria.getId(), ajinkya.getId(), UUID.randomUUID()));
+        assertEquals(List.of(john), snapshotCache.current().getEmployees());
+        assertEquals(before + 2, snapshotCache.current().getVersion());
+    }
+
+    @Test
+    void testRefresh_KeepsLocalWritesMadeDuringFetch() {
+        EmployeeResponse maria = employee("Maria", 90000);
+        when(apiClient.fetchAllEmployees()).thenReturn(List.of(ajinkya, john)).thenAnswer(invocation -> {
+            // Both writes reach the remote API after it has served the roster being fetched
+            snapshotCache.onCreated(maria);
+            snapshotCache.onDeleted(john.getId());
+            return List.of(ajinkya, john);
+        });
+        snapshotCache.current();
+
+        snapshotCache.refresh();
+
+        assertEquals(List.of(ajinkya, maria), snapshotCache.current().getEmployees());
+    }
+
+    @Test
+    void testSnapshotIndexes_BuiltOnceOnFirstUse() {
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(1L, Instant.now(), List.of(ajinkya, john));
+
+        SalaryIndex salaryIndex = snapshot.getSalaryIndex();
+        assertSame(salaryIndex, snapshot.getSalaryIndex());
+        assertSame(snapshot.getNameIndex(), snapshot.getNameIndex());
+
+        EmployeeSnapshot added = snapshot.withAdded(2L, employee("Maria", 300000));
+        assertEquals(300000, added.getSalaryIndex().max());
+        assertEquals(List.of("Maria"), added.getNameIndex().search("maria", NameSearchMode.EXACT).stream()
+                .map(EmployeeResponse::getEmployee_name).toList());
+        assertEquals(200000, salaryIndex.max());
+    }
+
+    @Test
+    void testPage_CursorRejectedOnceSnapshotChanges() {
+        when(apiClient.fetchAllEmployees()).thenReturn(List.of(ajinkya, john));
+        EmployeePage first = snapshotCache.current().page(null, 1);
+        assertEquals(List.of(john), snapshotCache.current().page(first.getNextCursor(), 1).getEmployees());
+
+        snapshotCache.onCreated(employee("Maria", 90000));
+
+        assertThrows(IllegalArgumentException.class, () -> snapshotCache.current().page(first.getNextCursor(), 1));
+        assertThrows(IllegalArgumentException.class, () -> snapshotCache.current().page("1", 1));
+        assertNull(snapshotCache.current().page(null, 3).getNextCursor());
+    }
+
+    @Test
+    void testRefresh_PagesThroughRoster() {
+        snapshotCache = new EmployeeSnapshotCache(apiClient, true, 1);
+        when(apiClient.fetchEmployeesPage(null, 1)).thenReturn(Optional.of(new EmployeePage(List.of(ajinkya), "1")));
+        when(apiClient.fetchEmployeesPage("1", 1)).thenReturn(Optional.of(new EmployeePage(List.of(john), null)));
+
+        assertEquals(List.of(ajinkya, john), snapshotCache.current().getEmployees());
+        verify(apiClient, never()).fetchAllEmployees();
+        verify(apiClient).rememberRoster(List.of(ajinkya, john));
+    }
+
+    @Test
+    void testRefresh_FailedPageKeepsSnapshot() {
+        snapshotCache = new EmployeeSnapshotCache(apiClient, true, 1);
+        when(apiClient.fetchEmployeesPage(null, 1))
+                .thenReturn(Optional.of(new EmployeePage(List.of(ajinkya), null)))
+                .thenReturn(Optional.of(new EmployeePage(List.of(ajinkya), "1")));
+        when(apiClient.fetchEmployeesPage("1", 1)).thenReturn(Optional.empty());
+
+        EmployeeSnapshot before = snapshotCache.current();
+        snapshotCache.refresh();
+
+        assertSame(before, snapshotCache.current());
+    }
+
+    @Test
+    void testRefresh_UnchangedRosterKeepsSnapshot() {
+        List<EmployeeResponse> roster = List.of(ajinkya, john);
+        when(apiClient.fetchAllEmployees()).thenReturn(roster);
+
+        EmployeeSnapshot before = snapshotCache.current();
+        snapshotCache.refresh();
+
+        assertSame(before, snapshotCache.current());
+        verify(apiClient, times(2)).fetchAllEmployees();
+    }
+
+    @Test
+    void testRefresh_UnchangedFirstPageSkipsRemainingPages() {
+        snapshotCache = new EmployeeSnapshotCache(apiClient, true, 1);
+        EmployeePage first = new EmployeePage(List.of(ajinkya), "1");
+        when(apiClient.fetchEmployeesPage(null, 1)).thenReturn(Optional.of(first));
+        when(apiClient.fetchEmployeesPage("1", 1)).thenReturn(Optional.of(new EmployeePage(List.of(john), null)));
+
+        EmployeeSnapshot before = snapshotCache.current();
+        snapshotCache.refresh();
+
+        assertSame(before, snapshotCache.current());
+        verify(apiClient, times(2)).fetchEmployeesPage(null, 1);
+        verify(apiClient, times(1)).fetchEmployeesPage("1", 1);
+    }
+
+    @Test
+    void testRefresh_DeltaSyncAppliesChangesWithoutPullingRoster() {
+        snapshotCache = new EmployeeSnapshotCache(apiClient, true, 0, true, new SimpleMeterRegistry());
+        EmployeeResponse jane = employee("Jane", 180000);
+        when(apiClient.fetchChanges(null, 1)).thenReturn(Optional.of(changes("a", 4, 4, false)));
+        when(apiClient.fetchAllEmployees()).thenReturn(List.of(ajinkya, john));
+        when(apiClient.fetchChanges(4L, 1000)).thenReturn(Optional.of(changes("a", 6, 6, false,
+                new EmployeeChange(5, EmployeeChange.Type.CREATED, jane.getId(), jane),
+                new EmployeeChange(6, EmployeeChange.Type.DELETED, ajinkya.getId(), null))));
+        when(apiClient.fetchChanges(6L, 1000)).thenReturn(Optional.of(changes("a", 6, 6, false)));
+
+        EmployeeSnapshot before = snapshotCache.current();
+        snapshotCache.refresh();
+        EmployeeSnapshot after = snapshotCache.current();
+        snapshotCache.refresh();
+
+        assertEquals(List.of(john, jane), after.getEmployees());
+        assertTrue(after.getVersion() > before.getVersion());
+        assertSame(after, snapshotCache.current());
+        verify(apiClient, times(1)).fetchAllEmployees();
+    }
+
+    @Test
+    void testRefresh_DeltaSyncFollowsLogAcrossBatches() {
+        snapshotCache = new EmployeeSnapshotCache(apiClient, true, 1, true, new SimpleMeterRegistry());
+        when(apiClient.fetchChanges(null, 1)).thenReturn(Optional.of(changes("a", 0, 0, false)));
+        when(apiClient.fetchEmployeesPage(null, 1)).thenReturn(Optional.of(new EmployeePage(List.of(), null)));
+        when(apiClient.fetchChanges(0L, 1)).thenReturn(Optional.of(changes("a", 1, 2, false,
+                new EmployeeChange(1, EmployeeChange.Type.CREATED, ajinkya.getId(), ajinkya))));
+        when(apiClient.fetchChanges(1L, 1)).thenReturn(Optional.of(changes("a", 2, 2, false,
+                new EmployeeChange(2, EmployeeChange.Type.CREATED, john.getId(), john))));
+
+        snapshotCache.current();
+        snapshotCache.refresh();
+
+        assertEquals(List.of(ajinkya, john), snapshotCache.current().getEmployees());
+        verify(apiClient, times(1)).fetchEmployeesPage(null, 1);
+    }
+
+    @Test
+    void testRefresh_TruncatedLogFallsBackToFullResync() {
+        snapshotCache = new EmployeeSnapshotCache(apiClient, true, 0, true, new SimpleMeterRegistry());
+        when(apiClient.fetchChanges(null, 1))
+                .thenReturn(Optional.of(changes("a", 4, 4, false)))
+                .thenReturn(Optional.of(changes("b", 1, 1, false)));
+        when(apiClient.fetchAllEmployees()).thenReturn(List.of(ajinkya)).thenReturn(List.of(ajinkya, john));
+        when(apiClient.fetchChanges(4L, 1000)).thenReturn(Optional.of(changes("a", 4, 40, true)));
+
+        snapshotCache.current();
+        snapshotCache.refresh();
+
+        assertEquals(List.of(ajinkya, john), snapshotCache.current().getEmployees());
+        verify(apiClient, times(2)).fetchAllEmployees();
+    }
+
+    @Test
+    void testWithChanges_ReplayingAppliedChangesIsHarmless() {
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(1, Instant.now(), List.of(ajinkya, john));
+
+        EmployeeSnapshot replayed = snapshot.withChanges(2, Instant.now(), List.of(
+                new EmployeeChange(1, EmployeeChange.Type.CREATED, ajinkya.getId(), ajinkya),
+                new EmployeeChange(2, EmployeeChange.Type.DELETED, UUID.randomUUID(), null)));
+
+        assertEquals(List.of(ajinkya, john), replayed.getEmployees());
+    }
+
+    @Test
+    void testCurrent_DisabledCacheAlwaysFetches() {
+        snapshotCache = new EmployeeSnapshotCache(apiClient, false, 0);
+        when(apiClient.fetchAllEmployees()).thenReturn(List.of(ajinkya));
+
+        snapshotCache.current();
+        snapshotCache.current();
+        snapshotCache.refresh();
+
+        verify(apiClient, times(2)).fetchAllEmployees();
+    }
+
+    private static EmployeeChanges changes(String log, long sequence, long latestSequence, boolean truncated,
+                                           EmployeeChange... changes) {
+        return new EmployeeChanges(log, sequence, latestSequence, truncated, List.of(changes));
+    }
+
+    private EmployeeResponse employee(String name, int salary) {
+        EmployeeResponse employee = new EmployeeResponse();
+        employee.setId(UUID.randomUUID());
+        employee.setEmployee_name(name);
+        employee.setEmployee_salary(salary);
+        return employee;
+    }
+}
@@ -0,0 +1,61 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.EmployeeResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameIndexTest {
+
+    private NameIndex nameIndex;
+
+    @BeforeEach
+    void setUp() {
+        nameIndex = new NameIndex(List.of(
+                employee("Ajinkya Choudhary"),
+                employee("John Doe"),
+                employee("john doe"),
+                employee("Johnny Walker"),
+                employee("Jane Doe")));
+    }
+
+    @Test
+    void testExact_IgnoresCaseAndKeepsRosterOrder() {
+        assertEquals(List.of("John Doe", "john doe"), names(nameIndex.search("JOHN DOE", NameSearchMode.EXACT)));
+        assertTrue(nameIndex.search("John", NameSearchMode.EXACT).isEmpty());
+    }
+
+    @Test
+    void testPrefix() {
+        assertEquals(List.of("John Doe", "john doe", "Johnny Walker"), names(nameIndex.search("joh", NameSearchMode.PREFIX)));
+        assertTrue(nameIndex.search("zed", NameSearchMode.PREFIX).isEmpty());
+    }
+
+    @Test
+    void testContains() {
+        assertEquals(List.of("Jane Doe", "John Doe", "john doe"), names(nameIndex.search(" Doe", NameSearchMode.CONTAINS)));
+        assertEquals(List.of("Ajinkya Choudhary"), names(nameIndex.search("kya cho", NameSearchMode.CONTAINS)));
+        assertEquals(List.of("Johnny Walker"), names(nameIndex.search("nn", NameSearchMode.CONTAINS)));
+        assertTrue(nameIndex.search("xyz", NameSearchMode.CONTAINS).isEmpty());
+    }
+
+    @Test
+    void testNullName_ReturnsEmptyList() {
+        assertTrue(nameIndex.search(null, NameSearchMode.CONTAINS).isEmpty());
+    }
+
+    private List<String> names(List<EmployeeResponse> employees) {
+        return employees.stream().map(EmployeeResponse::getEmployee_name).toList();
+    }
+
+    private EmployeeResponse employee(String name) {
+        EmployeeResponse employee = new EmployeeResponse();
+        employee.setId(UUID.randomUUID());
+        employee.setEmployee_name(name);
+        return employee;
+    }
+}
@@ -0,0 +1,64 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.EmployeeResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SalaryIndexTest {
+
+    private SalaryIndex salaryIndex;
+
+    @BeforeEach
+    void setUp() {
+        salaryIndex = new SalaryIndex(List.of(
+                employee("A", 40000),
+                employee("B", 90000),
+                employee("C", 60000),
+                employee("D", 90000),
+                employee("E", 10000)));
+    }
+
+    @Test
+    void testMax() {
+        assertEquals(90000, salaryIndex.max());
+        assertEquals(0, new SalaryIndex(List.of()).max());
+    }
+
+    @Test
+    void testTopEarners_HighestFirstAndStableOnTies() {
+        List<String> names = salaryIndex.topEarners(3).stream().map(EmployeeResponse::getEmployee_name).toList();
+
+        assertEquals(List.of("B", "D", "C"), names);
+        assertEquals(5, salaryIndex.topEarners(10).size());
+        assertTrue(salaryIndex.topEarners(0).isEmpty());
+    }
+
+    @Test
+    void testPercentile() {
+        assertEquals(10000, salaryIndex.percentile(0));
+        assertEquals(60000, salaryIndex.percentile(50));
+        assertEquals(90000, salaryIndex.percentile(100));
+        assertThrows(IllegalArgumentException.class, () -> salaryIndex.percentile(101));
+    }
+
+    @Test
+    void testCountBetween() {
+        assertEquals(4, salaryIndex.countBetween(40000, 90000));
+        assertEquals(5, salaryIndex.countBetween(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertEquals(0, salaryIndex.countBetween(90001, 100000));
+        assertEquals(0, salaryIndex.countBetween(50000, 40000));
+    }
+
+    private EmployeeResponse employee(String name, int salary) {
+        EmployeeResponse employee = new EmployeeResponse();
+        employee.setId(UUID.randomUUID());
+        employee.setEmployee_name(name);
+        employee.setEmployee_salary(salary);
+        return employee;
+    }
+}
@@ -0,0 +1,84 @@
+package com.reliaquest.api.client.balancing;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadBalancingFilterTest {
+
+    private static final String BASE_URL = "http://localhost:8112/api/v1/employee";
+
+    private UpstreamPool pool;
+    private final List<String> urls = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        pool = new UpstreamPool(List.of("http://a:8112/api/v1/employee", "http://b:8112/api/v1/employee"),
+                UpstreamPool.Strategy.ROUND_ROBIN, 3, Duration.ofSeconds(10), Duration.ofMinutes(1));
+    }
+
+    private WebClient webClient(Object... outcomes) {
+        Deque<Object> responses = new ArrayDeque<>(List.of(outcomes));
+        return WebClient.builder()
+                .exchangeFunction(request -> {
+                    urls.add(request.url().toString());
+                    Object outcome = responses.pop();
+                    if (outcome instanceof Throwable e) {
+                        return Mono.error(e);
+                    }
+                    return Mono.just(ClientResponse.create((HttpStatus) outcome).body("ok").build());
+                })
+                .filter(new LoadBalancingFilter(pool, BASE_URL))
+                .build();
+    }
+
+    @Test
+    void testThrottledCallFailsOverAndEjectsEndpoint() {
+        WebClient webClient = webClient(HttpStatus.TOO_MANY_REQUESTS, HttpStatus.OK);
+
+        StepVerifier.create(webClient.get().uri(BASE_URL + "/1").retrieve().bodyToMono(String.class))
+                .expectNext("ok")
+                .verifyComplete();
+        assertEquals(List.of("http://a:8112/api/v1/employee/1", "http://b:8112/api/v1/employee/1"), urls);
+        assertTrue(pool.isEjected(pool.getEndpoints().get(0)));
+        assertEquals(0, pool.getEndpoints().get(1).getOutstanding());
+    }
+
+    @Test
+    void testThrottledByEveryEndpointReturns429() {
+        WebClient webClient = webClient(HttpStatus.TOO_MANY_REQUESTS, HttpStatus.TOO_MANY_REQUESTS);
+
+        StepVerifier.create(webClient.get().uri(BASE_URL).retrieve().bodyToMono(String.class))
+                .expectError(WebClientResponseException.TooManyRequests.class)
+                .verify();
+        assertEquals(2, urls.size());
+    }
+
+    @Test
+    void testFailedReadFailsOverButWriteDoesNot() {
+        WebClient webClient = webClient(new IOException("reset"), HttpStatus.OK, new IOException("reset"));
+
+        StepVerifier.create(webClient.get().uri(BASE_URL).retrieve().bodyToMono(String.class))
+                .expectNext("ok")
+                .verifyComplete();
+        StepVerifier.create(webClient.delete().uri(BASE_URL).retrieve().bodyToMono(String.class))
+                .expectError()
+                .verify();
+        assertEquals(List.of("http://a:8112/api/v1/employee", "http://b:8112/api/v1/employee",
+                "http://a:8112/api/v1/employee"), urls);
+    }
+}
@@ -0,0 +1,97 @@
+package com.reliaquest.api.client.balancing;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+class LoadBalancingRequestFactoryTest {
+
+    private static final String BASE_URL = "http://localhost:8112/api/v1/employee";
+
+    private MockRestServiceServer server;
+    private RestTemplate restTemplate;
+    private UpstreamPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new UpstreamPool(List.of("http://a:8112/api/v1/employee", "http://b:8112/api/v1/employee"),
+                UpstreamPool.Strategy.ROUND_ROBIN, 3, Duration.ofSeconds(10), Duration.ofMinutes(1));
+        restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        restTemplate.setRequestFactory(
+                new LoadBalancingRequestFactory(restTemplate.getRequestFactory(), pool, BASE_URL));
+    }
+
+    @Test
+    void testSpreadsCallsOverEndpoints() {
+        server.expect(requestTo("http://a:8112/api/v1/employee/1")).andRespond(withSuccess("a", MediaType.TEXT_PLAIN));
+        server.expect(requestTo("http://b:8112/api/v1/employee?limit=5"))
+                .andRespond(withSuccess("b", MediaType.TEXT_PLAIN));
+
+        assertEquals("a", restTemplate.getForObject(BASE_URL + "/1", String.class));
+        assertEquals("b", restTemplate.getForObject(BASE_URL + "?limit=5", String.class));
+        assertEquals(0, pool.getEndpoints().get(0).getOutstanding());
+        server.verify();
+    }
+
+    @Test
+    void testThrottledCallFailsOverAndEjectsEndpoint() {
+        server.expect(requestTo("http://a:8112/api/v1/employee")).andExpect(method(HttpMethod.POST))
+                .andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS));
+        server.expect(requestTo("http://b:8112/api/v1/employee")).andExpect(method(HttpMethod.POST))
+                .andExpect(content().string("{\"name\":\"Ajinkya\"}"))
+                .andRespond(withSuccess("created", MediaType.TEXT_PLAIN));
+        server.expect(requestTo("http://b:8112/api/v1/employee/2")).andRespond(withSuccess("b", MediaType.TEXT_PLAIN));
+
+        assertEquals("created", restTemplate.postForObject(BASE_URL, "{\"name\":\"Ajinkya\"}", String.class));
+        assertTrue(pool.isEjected(pool.getEndpoints().get(0)));
+        assertEquals("b", restTemplate.getForObject(BASE_URL + "/2", String.class));
+        server.verify();
+    }
+
+    @Test
+    void testThrottledByEveryEndpointReturns429() {
+        server.expect(requestTo("http://a:8112/api/v1/employee")).andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS));
+        server.expect(requestTo("http://b:8112/api/v1/employee")).andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS));
+
+        assertThrows(HttpClientErrorException.TooManyRequests.class,
+                () -> restTemplate.getForObject(BASE_URL, String.class));
+        server.verify();
+    }
+
+    @Test
+    void testTimedOutReadFailsOverButWriteDoesNot() {
+        server.expect(requestTo("http://a:8112/api/v1/employee/1")).andRespond(withException(new SocketTimeoutException()));
+        server.expect(requestTo("http://b:8112/api/v1/employee/1")).andRespond(withSuccess("b", MediaType.TEXT_PLAIN));
+        server.expect(requestTo("http://a:8112/api/v1/employee")).andExpect(method(HttpMethod.DELETE))
+                .andRespond(withException(new SocketTimeoutException()));
+
+        assertEquals("b", restTemplate.getForObject(BASE_URL + "/1", String.class));
+        assertThrows(ResourceAccessException.class,
+                () -> restTemplate.exchange(BASE_URL, HttpMethod.DELETE, null, String.class));
+        server.verify();
+    }
+
+    @Test
+    void testOtherUrlsPassThrough() {
+        server.expect(requestTo("http://elsewhere/api")).andRespond(withSuccess("x", MediaType.TEXT_PLAIN));
+
+        assertEquals("x", restTemplate.getForObject("http://elsewhere/api", String.class));
+        assertNull(LoadBalancingRequestFactory.suffixOf(BASE_URL + "s", BASE_URL));
+        server.verify();
+    }
+}
@@ -0,0 +1,154 @@
+package com.reliaquest.api.client.balancing;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpstreamPoolTest {
+
+    private static final List<String> URLS = List.of("http://a/api/v1/employee", "http://b/api/v1/employee/",
+            "http://c/api/v1/employee");
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private UpstreamPool pool;
+    private UpstreamEndpoint a;
+    private UpstreamEndpoint b;
+    private UpstreamEndpoint c;
+
+    @BeforeEach
+    void setUp() {
+        pool = pool(UpstreamPool.Strategy.ROUND_ROBIN);
+    }
+
+    private UpstreamPool pool(UpstreamPool.Strategy strategy) {
+        UpstreamPool upstreamPool = new UpstreamPool(URLS, strategy, 2, Duration.ofSeconds(10),
+                Duration.ofSeconds(30), clock::get);
+        a = upstreamPool.getEndpoints().get(0);
+        b = upstreamPool.getEndpoints().get(1);
+        c = upstreamPool.getEndpoints().get(2);
+        return upstreamPool;
+    }
+
+    @Test
+    void testRoundRobinCyclesThroughEndpoints() {
+        assertEquals(List.of(a, b, c, a), List.of(pool.choose(List.of()), pool.choose(List.of()),
+                pool.choose(List.of()), pool.choose(List.of())));
+        assertEquals("http://b/api/v1/employee", b.getBaseUrl());
+    }
+
+    @Test
+    void testRoundRobinRotatesOverHealthyEndpointsOnly() {
+        pool.onThrottled(b, null);
+        assertEquals(List.of(a, c, a, c), List.of(pool.choose(List.of()), pool.choose(List.of()),
+                pool.choose(List.of()), pool.choose(List.of())));
+
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        pool.probe(endpoint -> true);
+        List<UpstreamEndpoint> chosen = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            chosen.add(pool.choose(List.of()));
+        }
+        assertTrue(chosen.containsAll(List.of(a, b, c)));
+    }
+
+    @Test
+    void testLeastOutstandingPrefersIdleEndpoint() {
+        pool = pool(UpstreamPool.Strategy.LEAST_OUTSTANDING);
+        a.begin();
+        c.begin();
+        c.begin();
+
+        assertSame(b, pool.choose(List.of()));
+        b.begin();
+        b.begin();
+        assertSame(a, pool.choose(List.of()));
+    }
+
+    @Test
+    void testChooseSkipsTriedEndpointsAndRunsOut() {
+        List<UpstreamEndpoint> tried = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            UpstreamEndpoint endpoint = pool.choose(tried);
+            assertFalse(tried.contains(endpoint));
+            tried.add(endpoint);
+        }
+        assertNull(pool.choose(tried));
+    }
+
+    @Test
+    void testThrottledEndpointIsEjectedUntilProbePasses() {
+        pool.onThrottled(b, null);
+
+        assertTrue(pool.isEjected(b));
+        for (int i = 0; i < 6; i++) {
+            assertNotSame(b, pool.choose(List.of()));
+        }
+
+        List<UpstreamEndpoint> probed = new ArrayList<>();
+        pool.probe(endpoint -> probed.add(endpoint));
+        assertTrue(probed.isEmpty());
+
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        pool.probe(endpoint -> probed.add(endpoint));
+        assertEquals(List.of(b), probed);
+        assertFalse(pool.isEjected(b));
+    }
+
+    @Test
+    void testFailedProbesDoubleEjectionUpToMax() {
+        pool.onThrottled(a, null);
+        List<UpstreamEndpoint> probed = new ArrayList<>();
+
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        pool.probe(endpoint -> !probed.add(endpoint));
+        clock.addAndGet(Duration.ofSeconds(19).toNanos());
+        pool.probe(endpoint -> !probed.add(endpoint));
+        assertEquals(1, probed.size());
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        pool.probe(endpoint -> !probed.add(endpoint));
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        pool.probe(endpoint -> !probed.add(endpoint));
+        assertEquals(3, probed.size());
+        assertTrue(pool.isEjected(a));
+    }
+
+    @Test
+    void testRetryAfterExtendsEjection() {
+        pool.onThrottled(a, Duration.ofSeconds(25));
+
+        clock.addAndGet(Duration.ofSeconds(20).toNanos());
+        pool.probe(endpoint -> true);
+
+        assertTrue(pool.isEjected(a));
+    }
+
+    @Test
+    void testConsecutiveFailuresEjectEndpoint() {
+        pool.onFailure(c);
+        pool.onSuccess(c);
+        pool.onFailure(c);
+        assertFalse(pool.isEjected(c));
+
+        pool.onFailure(c);
+        assertTrue(pool.isEjected(c));
+    }
+
+    @Test
+    void testAllEjectedFallsBackToEndpointDueFirst() {
+        pool.onThrottled(c, null);
+        clock.addAndGet(1);
+        pool.onThrottled(a, null);
+        pool.onThrottled(b, null);
+
+        assertSame(c, pool.choose(List.of()));
+        assertNull(pool.choose(List.of(c)));
+    }
+}
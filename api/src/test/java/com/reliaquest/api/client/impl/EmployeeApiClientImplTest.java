@@ -1,59 +1,52 @@
 package com.reliaquest.api.client.impl;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.reliaquest.api.dto.DeleteEmployee;
+import com.reliaquest.api.client.metrics.EmployeeClientMetrics;
+import com.reliaquest.api.client.resilience.AdaptiveRateLimiter;
+import com.reliaquest.api.client.resilience.CircuitBreaker;
+import com.reliaquest.api.client.resilience.ThrottleRetryInterceptor;
+import com.reliaquest.api.client.resilience.UpstreamThrottledException;
+import com.reliaquest.api.dto.BatchResult;
 import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.EmployeeChange;
+import com.reliaquest.api.dto.EmployeeChanges;
+import com.reliaquest.api.dto.EmployeePage;
 import com.reliaquest.api.dto.EmployeeResponse;
-import com.reliaquest.api.client.IEmployeeApiClient;
-import com.reliaquest.api.wrapper.EmployeeResponseWrapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.MockitoAnnotations;
-import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.*;
+import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.*;
-
 import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
 
-@ExtendWith(MockitoExtension.class)
 class EmployeeApiClientImplTest {
 
-    @Mock
-    private RestTemplate restTemplate;
+    private MockRestServiceServer server;
 
-    @InjectMocks
     private EmployeeApiClientImpl employeeApiClient;
 
     private final String baseUrl = "http://localhost:8112/api/v1/employee";
 
     private String employeeId;
-    private EmployeeResponse mockResponse;
     private Employee mockInput;
 
     @BeforeEach
     void setUp() {
-        employeeId = "123e4567-e89b-12d3-a456-426614174000";
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        employeeApiClient = new EmployeeApiClientImpl(restTemplate, new ObjectMapper());
 
-        mockResponse = new EmployeeResponse();
-        mockResponse.setId(UUID.fromString(employeeId));
-        mockResponse.setEmployee_name("John Doe");
-        mockResponse.setEmployee_email("john.doe@example.com");
-        mockResponse.setEmployee_age(30);
-        mockResponse.setEmployee_salary(50000);
-        mockResponse.setEmployee_title("Developer");
+        employeeId = "123e4567-e89b-12d3-a456-426614174000";
 
         mockInput = new Employee();
         mockInput.setName("John Doe");
@@ -61,7 +54,7 @@ class EmployeeApiClientImplTest {
     }
 
     @Test
-    void testFetchAllEmployees_Success() throws Exception {
+    void testFetchAllEmployees_Success() {
         String json = """
             {
                 "data": [
@@ -73,20 +66,164 @@ class EmployeeApiClientImplTest {
                         "employee_salary": 50000,
                         "employee_title": "Developer"
                     }
-                ]
+                ],
+                "status": "Successfully processed request."
             }
         """;
 
-        when(restTemplate.getForObject(baseUrl, String.class)).thenReturn(json);
+        server.expect(requestTo(baseUrl)).andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(json, MediaType.APPLICATION_JSON));
 
         List<EmployeeResponse> employees = employeeApiClient.fetchAllEmployees();
 
         assertEquals(1, employees.size());
         assertEquals("John Doe", employees.get(0).getEmployee_name());
+        assertEquals(UUID.fromString(employeeId), employees.get(0).getId());
+        server.verify();
+    }
+
+    @Test
+    void testStreamAllEmployees_Success() {
+        String json = """
+            {
+                "status": "Successfully processed request.",
+                "meta": {"ignored": [1, 2, 3]},
+                "data": [
+                    {"id": "123e4567-e89b-12d3-a456-426614174000", "employee_name": "John Doe", "employee_salary": 50000},
+                    {"id": "223e4567-e89b-12d3-a456-426614174000", "employee_name": "Jane Doe", "employee_salary": 70000}
+                ]
+            }
+        """;
+
+        server.expect(requestTo(baseUrl)).andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(json, MediaType.APPLICATION_JSON));
+
+        List<EmployeeResponse> streamed = new ArrayList<>();
+        boolean completed = employeeApiClient.streamAllEmployees(streamed::add);
+
+        assertTrue(completed);
+        assertEquals(2, streamed.size());
+        assertEquals("Jane Doe", streamed.get(1).getEmployee_name());
+        assertEquals(70000, streamed.get(1).getEmployee_salary());
     }
 
     @Test
-    void testFetchEmployeeById_Success() throws Exception {
+    void testStreamAllEmployees_ReturnsFalseOnError() {
+        server.expect(requestTo(baseUrl)).andRespond(withServerError());
+
+        assertFalse(employeeApiClient.streamAllEmployees(employee -> fail("Nothing should be streamed")));
+    }
+
+    @Test
+    void testStreamAllEmployees_MissingData_ReturnsFalse() {
+        server.expect(requestTo(baseUrl)).andRespond(withSuccess("{\"status\": \"ok\"}", MediaType.APPLICATION_JSON));
+
+        assertFalse(employeeApiClient.streamAllEmployees(employee -> fail("Nothing should be streamed")));
+    }
+
+    @Test
+    void testFetchEmployeesPage_Success() {
+        String json = """
+            {
+                "data": {
+                    "employees": [{"id": "123e4567-e89b-12d3-a456-426614174000", "employee_name": "John Doe"}],
+                    "nextCursor": "17"
+                }
+            }
+        """;
+
+        server.expect(requestTo(baseUrl + "?limit=1&cursor=5")).andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(json, MediaType.APPLICATION_JSON));
+
+        Optional<EmployeePage> page = employeeApiClient.fetchEmployeesPage("5", 1);
+
+        assertTrue(page.isPresent());
+        assertEquals("John Doe", page.get().getEmployees().get(0).getEmployee_name());
+        assertEquals("17", page.get().getNextCursor());
+    }
+
+    @Test
+    void testFetchEmployeesPage_ReturnsEmptyOptionalOnError() {
+        server.expect(requestTo(baseUrl + "?limit=10")).andRespond(withBadRequest());
+
+        assertTrue(employeeApiClient.fetchEmployeesPage(null, 10).isEmpty());
+    }
+
+    @Test
+    void testFetchChanges_Success() {
+        String json = """
+            {
+                "data": {
+                    "log": "18f", "sequence": 7, "latestSequence": 9, "truncated": false,
+                    "changes": [
+                        {"sequence": 6, "type": "CREATED", "id": "123e4567-e89b-12d3-a456-426614174000",
+                         "employee": {"id": "123e4567-e89b-12d3-a456-426614174000", "employee_name": "John Doe"}},
+                        {"sequence": 7, "type": "DELETED", "id": "123e4567-e89b-12d3-a456-426614174000"}
+                    ]
+                }
+            }
+        """;
+
+        server.expect(requestTo(baseUrl + "/changes?since=5&limit=2")).andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(json, MediaType.APPLICATION_JSON));
+
+        Optional<EmployeeChanges> changes = employeeApiClient.fetchChanges(5L, 2);
+
+        assertTrue(changes.isPresent());
+        assertEquals("18f", changes.get().getLog());
+        assertEquals(7, changes.get().getSequence());
+        assertEquals(EmployeeChange.Type.CREATED, changes.get().getChanges().get(0).getType());
+        assertEquals("John Doe", changes.get().getChanges().get(0).getEmployee().getEmployee_name());
+        assertNull(changes.get().getChanges().get(1).getEmployee());
+    }
+
+    @Test
+    void testFetchChanges_ReturnsEmptyOptionalOnError() {
+        server.expect(requestTo(baseUrl + "/changes?limit=1")).andRespond(withServerError());
+
+        assertTrue(employeeApiClient.fetchChanges(null, 1).isEmpty());
+    }
+
+    @Test
+    void testFetchAllEmployees_NotModifiedReusesLastRoster() {
+        String json = "{\"data\": [{\"id\": \"" + employeeId + "\", \"employee_name\": \"John Doe\"}]}";
+        server.expect(requestTo(baseUrl)).andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+                .andRespond(withSuccess(json, MediaType.APPLICATION_JSON).header(HttpHeaders.ETAG, "W/\"1-a\"")
+                        .header(HttpHeaders.LAST_MODIFIED, "Sun, 18 Oct 2026 07:00:00 GMT"));
+        server.expect(requestTo(baseUrl)).andExpect(header(HttpHeaders.IF_NONE_MATCH, "W/\"1-a\""))
+                .andExpect(header(HttpHeaders.IF_MODIFIED_SINCE, "Sun, 18 Oct 2026 07:00:00 GMT"))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+        List<EmployeeResponse> first = employeeApiClient.fetchAllEmployees();
+        List<EmployeeResponse> second = employeeApiClient.fetchAllEmployees();
+
+        assertEquals(1, first.size());
+        assertSame(first, second);
+        server.verify();
+    }
+
+    @Test
+    void testFetchEmployeesPage_NotModifiedFirstPageReusesLastPage() {
+        String json = "{\"data\": {\"employees\": [{\"employee_name\": \"John Doe\"}], \"nextCursor\": \"1\"}}";
+        server.expect(requestTo(baseUrl + "?limit=1"))
+                .andRespond(withSuccess(json, MediaType.APPLICATION_JSON).header(HttpHeaders.ETAG, "W/\"1-a\""));
+        server.expect(requestTo(baseUrl + "?limit=1&cursor=1")).andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+                .andRespond(withSuccess(json, MediaType.APPLICATION_JSON));
+        server.expect(requestTo(baseUrl + "?limit=1")).andExpect(header(HttpHeaders.IF_NONE_MATCH, "W/\"1-a\""))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+        server.expect(requestTo(baseUrl + "?limit=2")).andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+                .andRespond(withSuccess(json, MediaType.APPLICATION_JSON));
+
+        EmployeePage first = employeeApiClient.fetchEmployeesPage(null, 1).orElseThrow();
+        employeeApiClient.fetchEmployeesPage("1", 1);
+
+        assertSame(first, employeeApiClient.fetchEmployeesPage(null, 1).orElseThrow());
+        assertNotSame(first, employeeApiClient.fetchEmployeesPage(null, 2).orElseThrow());
+        server.verify();
+    }
+
+    @Test
+    void testFetchEmployeeById_Success() {
         String responseJson = """
             {
                 "data": {
@@ -100,8 +237,8 @@ class EmployeeApiClientImplTest {
             }
         """;
 
-        when(restTemplate.getForObject(baseUrl + "/" + employeeId, String.class))
-                .thenReturn(responseJson);
+        server.expect(requestTo(baseUrl + "/" + employeeId)).andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(responseJson, MediaType.APPLICATION_JSON));
 
         Optional<EmployeeResponse> result = employeeApiClient.fetchEmployeeById(employeeId);
 
@@ -112,18 +249,22 @@ class EmployeeApiClientImplTest {
 
     @Test
     void testPostEmployee_Success() {
-        Map<String, Object> mockResponseMap = Map.of(
-                "data", Map.of(
-                        "id", employeeId,
-                        "employee_name", "John Doe",
-                        "employee_email", "john.doe@example.com",
-                        "employee_age", 30,
-                        "employee_salary", 50000,
-                        "employee_title", "Developer"
-                )
-        );
-
-        when(restTemplate.postForObject(baseUrl, mockInput, Map.class)).thenReturn(mockResponseMap);
+        String responseJson = """
+            {
+                "data": {
+                    "id": "123e4567-e89b-12d3-a456-426614174000",
+                    "employee_name": "John Doe",
+                    "employee_email": "john.doe@example.com",
+                    "employee_age": 30,
+                    "employee_salary": 50000,
+                    "employee_title": "Developer"
+                }
+            }
+        """;
+
+        server.expect(requestTo(baseUrl)).andExpect(method(HttpMethod.POST))
+                .andExpect(jsonPath("$.name").value("John Doe"))
+                .andRespond(withSuccess(responseJson, MediaType.APPLICATION_JSON));
 
         Optional<EmployeeResponse> result = employeeApiClient.postEmployee(mockInput);
 
@@ -135,45 +276,107 @@ class EmployeeApiClientImplTest {
     void testDeleteEmployee_Success() {
         String employeeName = "John Doe";
 
-        DeleteEmployee deleteEmployee = new DeleteEmployee();
-        deleteEmployee.setName(employeeName);
+        server.expect(requestTo(baseUrl)).andExpect(method(HttpMethod.DELETE))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.name").value(employeeName))
+                .andRespond(withSuccess("{\"data\": true}", MediaType.APPLICATION_JSON));
+
+        Optional<String> result = employeeApiClient.deleteEmployee(employeeName);
+
+        assertTrue(result.isPresent());
+        assertTrue(result.get().contains("deleted successfully"));
+    }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
+    @Test
+    void testDeleteEmployee_NotDeletedByServer_ReturnsEmptyOptional() {
+        server.expect(requestTo(baseUrl)).andExpect(method(HttpMethod.DELETE))
+                .andRespond(withSuccess("{\"data\": false}", MediaType.APPLICATION_JSON));
 
-        HttpEntity<DeleteEmployee> request = new HttpEntity<>(deleteEmployee, headers);
+        Optional<String> result = employeeApiClient.deleteEmployee("John Doe");
 
-        ResponseEntity<String> mockResponseEntity = new ResponseEntity<>("Deleted", HttpStatus.OK);
+        assertTrue(result.isEmpty());
+    }
 
-        when(restTemplate.exchange(eq(baseUrl), eq(HttpMethod.DELETE), any(HttpEntity.class), eq(String.class)))
-                .thenReturn(mockResponseEntity);
+    @Test
+    void testDeleteEmployeeById_Success() {
+        server.expect(requestTo(baseUrl + "/" + employeeId)).andExpect(method(HttpMethod.DELETE))
+                .andRespond(withSuccess("{\"data\": {\"id\": \"" + employeeId + "\", \"employee_name\": \"John Doe\"}}",
+                        MediaType.APPLICATION_JSON));
 
-        Optional<String> result = employeeApiClient.deleteEmployee(employeeName);
+        Optional<EmployeeResponse> result = employeeApiClient.deleteEmployeeById(employeeId);
 
         assertTrue(result.isPresent());
-        assertTrue(result.get().contains("deleted successfully"));
+        assertEquals("John Doe", result.get().getEmployee_name());
+        server.verify();
+    }
+
+    @Test
+    void testDeleteEmployeeById_NotFound_ReturnsEmptyOptional() {
+        server.expect(requestTo(baseUrl + "/" + employeeId)).andRespond(withStatus(HttpStatus.NOT_FOUND));
+
+        assertTrue(employeeApiClient.deleteEmployeeById(employeeId).isEmpty());
+    }
+
+    @Test
+    void testDeleteEmployeeById_ServerError_Throws() {
+        server.expect(requestTo(baseUrl + "/" + employeeId)).andRespond(withServerError());
+
+        assertThrows(RuntimeException.class, () -> employeeApiClient.deleteEmployeeById(employeeId));
     }
 
     @Test
     void testFetchAllEmployees_ReturnsEmptyListOnError() {
-        when(restTemplate.getForObject(baseUrl, String.class)).thenThrow(RuntimeException.class);
+        server.expect(requestTo(baseUrl)).andRespond(withServerError());
         List<EmployeeResponse> employees = employeeApiClient.fetchAllEmployees();
         assertTrue(employees.isEmpty());
     }
 
     @Test
     void testFetchEmployeeById_ReturnsEmptyOptionalOnError() {
-        when(restTemplate.getForObject(baseUrl + "/" + employeeId, String.class))
-                .thenThrow(RuntimeException.class);
+        server.expect(requestTo(baseUrl + "/" + employeeId)).andRespond(withStatus(HttpStatus.NOT_FOUND));
 
         Optional<EmployeeResponse> result = employeeApiClient.fetchEmployeeById(employeeId);
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    void testFetchEmployeeById_UsesConfiguredBaseUrlAndRecordsOutcome() {
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        employeeApiClient = new EmployeeApiClientImpl(restTemplate, new ObjectMapper(), "http://localhost:9000/employee",
+                new EmployeeClientMetrics(registry));
+        server.expect(requestTo("http://localhost:9000/employee/" + employeeId))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+
+        employeeApiClient.fetchEmployeeById(employeeId);
+
+        server.verify();
+        assertEquals(1, registry.get(EmployeeClientMetrics.CALLS)
+                .tags("operation", "fetchEmployeeById", "outcome", "404").timer().count());
+        assertTrue(registry.find(EmployeeClientMetrics.SWALLOWED_EXCEPTIONS).counters().isEmpty());
+    }
+
+    @Test
+    void testFetchAllEmployees_CountsSwallowedParseError() {
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        employeeApiClient = new EmployeeApiClientImpl(restTemplate, new ObjectMapper(), baseUrl,
+                new EmployeeClientMetrics(registry));
+        server.expect(requestTo(baseUrl)).andRespond(withSuccess("{\"data\": [", MediaType.APPLICATION_JSON));
+
+        assertTrue(employeeApiClient.fetchAllEmployees().isEmpty());
+
+        assertEquals(1, registry.get(EmployeeClientMetrics.CALLS)
+                .tags("operation", "fetchAllEmployees", "outcome", "parse_error").timer().count());
+        assertEquals(1, registry.get(EmployeeClientMetrics.SWALLOWED_EXCEPTIONS)
+                .tag("operation", "fetchAllEmployees").counter().count());
+    }
+
     @Test
     void testPostEmployee_ReturnsEmptyOptionalOnError() {
-        when(restTemplate.postForObject(baseUrl, mockInput, Map.class))
-                .thenThrow(RuntimeException.class);
+        server.expect(requestTo(baseUrl)).andRespond(withServerError());
 
         Optional<EmployeeResponse> result = employeeApiClient.postEmployee(mockInput);
         assertTrue(result.isEmpty());
@@ -181,8 +384,7 @@ class EmployeeApiClientImplTest {
 
     @Test
     void testDeleteEmployee_ReturnsEmptyOptionalOnError() {
-        when(restTemplate.exchange(eq(baseUrl), eq(HttpMethod.DELETE), any(HttpEntity.class), eq(String.class)))
-                .thenThrow(RuntimeException.class);
+        server.expect(requestTo(baseUrl)).andRespond(withServerError());
 
         Optional<String> result = employeeApiClient.deleteEmployee("John Doe");
         assertTrue(result.isEmpty());
@@ -190,7 +392,7 @@ class EmployeeApiClientImplTest {
 
     @Test
     void testPostEmployee_ResponseMissingData_ReturnsEmptyOptional() {
-        when(restTemplate.postForObject(baseUrl, mockInput, Map.class)).thenReturn(Map.of()); // no 'data' key
+        server.expect(requestTo(baseUrl)).andRespond(withSuccess("{}", MediaType.APPLICATION_JSON)); // no 'data' key
 
         Optional<EmployeeResponse> result = employeeApiClient.postEmployee(mockInput);
 
@@ -198,19 +400,19 @@ class EmployeeApiClientImplTest {
     }
 
     @Test
-    void testPostEmployee_NullApiResponse_ReturnsEmptyOptional() {
-        when(restTemplate.postForObject(baseUrl, mockInput, Map.class)).thenReturn(null);
+    void testPostEmployee_EmptyApiResponse_ReturnsEmptyOptional() {
+        server.expect(requestTo(baseUrl)).andRespond(withSuccess());
 
         Optional<EmployeeResponse> result = employeeApiClient.postEmployee(mockInput);
 
-        assertTrue(result.isEmpty(), "Should return empty Optional if postForObject returns null");
+        assertTrue(result.isEmpty(), "Should return empty Optional if the response has no body");
     }
 
     @Test
     void testFetchAllEmployees_InvalidJson_ReturnsEmptyList() {
         String malformedJson = "{ invalid json }";
 
-        when(restTemplate.getForObject(baseUrl, String.class)).thenReturn(malformedJson);
+        server.expect(requestTo(baseUrl)).andRespond(withSuccess(malformedJson, MediaType.APPLICATION_JSON));
 
         List<EmployeeResponse> employees = employeeApiClient.fetchAllEmployees();
 
@@ -218,12 +420,12 @@ class EmployeeApiClientImplTest {
     }
 
     @Test
-    void testFetchEmployeeById_NullResponse_ReturnsEmptyOptional() {
-        when(restTemplate.getForObject(baseUrl + "/" + employeeId, String.class)).thenReturn(null);
+    void testFetchEmployeeById_EmptyResponse_ReturnsEmptyOptional() {
+        server.expect(requestTo(baseUrl + "/" + employeeId)).andRespond(withSuccess());
 
         Optional<EmployeeResponse> result = employeeApiClient.fetchEmployeeById(employeeId);
 
-        assertTrue(result.isEmpty(), "Should return empty Optional when response is null");
+        assertTrue(result.isEmpty(), "Should return empty Optional when response has no body");
     }
 
     @Test
@@ -232,8 +434,8 @@ class EmployeeApiClientImplTest {
         String invalidJson = """
         {
             "data": {
-                "id": "123", 
-                "employee_name": "Bad UUID", 
+                "id": "123",
+                "employee_name": "Bad UUID",
                 "employee_salary": 1000,
                 "employee_age": 40,
                 "employee_email": "bad@example.com",
@@ -242,10 +444,93 @@ class EmployeeApiClientImplTest {
         }
     """;
 
-        when(restTemplate.getForObject(baseUrl + "/123", String.class)).thenReturn(invalidJson);
+        server.expect(requestTo(baseUrl + "/123")).andRespond(withSuccess(invalidJson, MediaType.APPLICATION_JSON));
 
         Optional<EmployeeResponse> result = employeeApiClient.fetchEmployeeById("123");
 
         assertTrue(result.isEmpty(), "Should return empty Optional when UUID format is invalid");
     }
+
+    @Test
+    void testPostEmployees_ReturnsPerItemResults() {
+        String json = """
+            {
+                "data": [
+                    {"index": 0, "data": {"id": "123e4567-e89b-12d3-a456-426614174000", "employee_name": "John Doe"}},
+                    {"index": 1, "error": "salary must be greater than 0"}
+                ]
+            }
+        """;
+
+        server.expect(requestTo(baseUrl + "/batch")).andExpect(method(HttpMethod.POST))
+                .andExpect(jsonPath("$[0].name").value("John Doe"))
+                .andRespond(withSuccess(json, MediaType.APPLICATION_JSON));
+
+        List<BatchResult<EmployeeResponse>> results = employeeApiClient.postEmployees(List.of(mockInput, new Employee()));
+
+        assertEquals(2, results.size());
+        assertEquals("John Doe", results.get(0).getData().getEmployee_name());
+        assertNull(results.get(1).getData());
+        assertEquals("salary must be greater than 0", results.get(1).getError());
+        server.verify();
+    }
+
+    @Test
+    void testDeleteEmployees_FailsEveryItemOnError() {
+        server.expect(requestTo(baseUrl + "/batch")).andExpect(method(HttpMethod.DELETE))
+                .andExpect(jsonPath("$[1].name").value("Jane Doe"))
+                .andRespond(withServerError());
+
+        List<BatchResult<EmployeeResponse>> results = employeeApiClient.deleteEmployees(List.of("John Doe", "Jane Doe"));
+
+        assertEquals(2, results.size());
+        assertEquals(1, results.get(1).getIndex());
+        assertTrue(results.stream().allMatch(result -> result.getData() == null && result.getError() != null));
+    }
+
+    @Test
+    void testThrottled_ServesLastGoodRosterAndSurfacesOtherCalls() {
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.setInterceptors(List.of(new ThrottleRetryInterceptor(
+                new AdaptiveRateLimiter(1000.0, 1.0, 1000.0, 10),
+                new CircuitBreaker(Duration.ofSeconds(30), Duration.ofMinutes(2)),
+                1, Duration.ofMillis(1), Duration.ofMillis(1), Duration.ofSeconds(1))));
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        employeeApiClient = new EmployeeApiClientImpl(restTemplate, new ObjectMapper());
+        String json = "{\"data\": [{\"id\": \"" + employeeId + "\", \"employee_name\": \"John Doe\"}]}";
+
+        server.expect(requestTo(baseUrl)).andRespond(withSuccess(json, MediaType.APPLICATION_JSON));
+        server.expect(requestTo(baseUrl)).andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS));
+
+        assertEquals(1, employeeApiClient.fetchAllEmployees().size());
+        List<EmployeeResponse> throttled = employeeApiClient.fetchAllEmployees();
+
+        assertEquals("John Doe", throttled.get(0).getEmployee_name());
+        assertEquals("John Doe", employeeApiClient.fetchEmployeeById(employeeId).orElseThrow().getEmployee_name());
+        assertThrows(UpstreamThrottledException.class, () -> employeeApiClient.postEmployee(mockInput));
+        assertThrows(UpstreamThrottledException.class, () -> employeeApiClient.streamAllEmployees(employee -> {}));
+        server.verify();
+    }
+
+    @Test
+    void testThrottled_ServesRosterRememberedFromPages() {
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.setInterceptors(List.of(new ThrottleRetryInterceptor(
+                new AdaptiveRateLimiter(1000.0, 1.0, 1000.0, 10),
+                new CircuitBreaker(Duration.ofSeconds(30), Duration.ofMinutes(2)),
+                1, Duration.ofMillis(1), Duration.ofMillis(1), Duration.ofSeconds(1))));
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        employeeApiClient = new EmployeeApiClientImpl(restTemplate, new ObjectMapper());
+        EmployeeResponse paged = new EmployeeResponse();
+        paged.setId(UUID.fromString(employeeId));
+        paged.setEmployee_name("John Doe");
+
+        server.expect(requestTo(baseUrl + "/" + employeeId)).andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS));
+
+        employeeApiClient.rememberRoster(List.of(paged));
+
+        assertEquals("John Doe", employeeApiClient.fetchEmployeeById(employeeId).orElseThrow().getEmployee_name());
+        assertEquals(List.of(paged), employeeApiClient.fetchAllEmployees());
+        server.verify();
+    }
 }
@@ -0,0 +1,86 @@
+package com.reliaquest.api.client.impl;
+
+import com.reliaquest.api.dto.EmployeeResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveEmployeeApiClientImplTest {
+
+    private static final String BASE_URL = "http://localhost:8112/api/v1/employee";
+    private static final String EMPLOYEE_ID = "123e4567-e89b-12d3-a456-426614174000";
+
+    private final List<ClientRequest> requests = new ArrayList<>();
+
+    private ReactiveEmployeeApiClientImpl client(HttpStatus status, String body) {
+        WebClient webClient = WebClient.builder()
+                .baseUrl(BASE_URL)
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    return Mono.just(ClientResponse.create(status)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(body)
+                            .build());
+                })
+                .build();
+        return new ReactiveEmployeeApiClientImpl(webClient);
+    }
+
+    @Test
+    void testFetchAllEmployees_Success() {
+        String json = """
+            {"data": [
+                {"id": "123e4567-e89b-12d3-a456-426614174000", "employee_name": "John Doe", "employee_salary": 50000},
+                {"id": "223e4567-e89b-12d3-a456-426614174000", "employee_name": "Jane Doe", "employee_salary": 70000}
+            ]}
+        """;
+
+        StepVerifier.create(client(HttpStatus.OK, json).fetchAllEmployees().map(EmployeeResponse::getEmployee_name))
+                .expectNext("John Doe", "Jane Doe")
+                .verifyComplete();
+        assertEquals(BASE_URL, requests.get(0).url().toString());
+    }
+
+    @Test
+    void testFetchAllEmployees_CompletesEmptyOnError() {
+        StepVerifier.create(client(HttpStatus.INTERNAL_SERVER_ERROR, "{}").fetchAllEmployees())
+                .verifyComplete();
+    }
+
+    @Test
+    void testDeleteEmployeeById_Success() {
+        String json = "{\"data\": {\"id\": \"" + EMPLOYEE_ID + "\", \"employee_name\": \"John Doe\"}}";
+
+        StepVerifier.create(client(HttpStatus.OK, json).deleteEmployeeById(EMPLOYEE_ID).map(EmployeeResponse::getEmployee_name))
+                .expectNext("John Doe")
+                .verifyComplete();
+        assertEquals(HttpMethod.DELETE, requests.get(0).method());
+        assertEquals(BASE_URL + "/" + EMPLOYEE_ID, requests.get(0).url().toString());
+    }
+
+    @Test
+    void testDeleteEmployeeById_NotFound_CompletesEmpty() {
+        StepVerifier.create(client(HttpStatus.NOT_FOUND, "{}").deleteEmployeeById(EMPLOYEE_ID))
+                .verifyComplete();
+    }
+
+    @Test
+    void testDeleteEmployees_FailsEveryItemOnError() {
+        StepVerifier.create(client(HttpStatus.INTERNAL_SERVER_ERROR, "{}").deleteEmployees(List.of("a", "b")))
+                .assertNext(result -> assertEquals(0, result.getIndex()))
+                .assertNext(result -> assertEquals("Batch request failed", result.getError()))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,148 @@
+package com.reliaquest.api.client.impl;
+
+import com.reliaquest.api.client.resilience.UpstreamThrottledException;
+import com.reliaquest.api.dto.EmployeeResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SingleFlightEmployeeApiClientTest {
+
+    private static final int CALLERS = 8;
+
+    private EmployeeApiClientImpl delegate;
+    private SingleFlightEmployeeApiClient client;
+    private ExecutorService executor;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(EmployeeApiClientImpl.class);
+        client = new SingleFlightEmployeeApiClient(delegate);
+        executor = Executors.newFixedThreadPool(CALLERS);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testFetchAllEmployees_ConcurrentCallersShareOneRequest() throws Exception {
+        List<EmployeeResponse> roster = List.of(employee("Ajinkya"));
+        when(delegate.fetchAllEmployees()).thenAnswer(invocation -> {
+            release.await();
+            return roster;
+        });
+
+        List<Future<List<EmployeeResponse>>> results = submitAll(client::fetchAllEmployees);
+        awaitCallersBlocked();
+        release.countDown();
+
+        for (Future<List<EmployeeResponse>> result : results) {
+            assertSame(roster, result.get(5, TimeUnit.SECONDS));
+        }
+        verify(delegate, times(1)).fetchAllEmployees();
+    }
+
+    @Test
+    void testFetchEmployeeById_CoalescesPerId() throws Exception {
+        when(delegate.fetchEmployeeById(any())).thenAnswer(invocation -> {
+            release.await();
+            return Optional.of(employee(invocation.getArgument(0)));
+        });
+
+        List<Future<Optional<EmployeeResponse>>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            String id = i % 2 == 0 ? "a" : "b";
+            results.add(executor.submit(() -> client.fetchEmployeeById(id)));
+        }
+        awaitCallersBlocked();
+        release.countDown();
+
+        for (int i = 0; i < CALLERS; i++) {
+            assertEquals(i % 2 == 0 ? "a" : "b", results.get(i).get(5, TimeUnit.SECONDS).orElseThrow().getEmployee_name());
+        }
+        verify(delegate, times(1)).fetchEmployeeById("a");
+        verify(delegate, times(1)).fetchEmployeeById("b");
+    }
+
+    @Test
+    void testFetchAllEmployees_SharesFailureAndForgetsIt() throws Exception {
+        when(delegate.fetchAllEmployees()).thenAnswer(invocation -> {
+            release.await();
+            throw new UpstreamThrottledException("throttled", Duration.ofSeconds(1));
+        }).thenReturn(List.of());
+
+        List<Future<List<EmployeeResponse>>> results = submitAll(client::fetchAllEmployees);
+        awaitCallersBlocked();
+        release.countDown();
+
+        for (Future<List<EmployeeResponse>> result : results) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(UpstreamThrottledException.class, e.getCause());
+        }
+        assertEquals(List.of(), client.fetchAllEmployees());
+        verify(delegate, times(2)).fetchAllEmployees();
+    }
+
+    @Test
+    void testStreamAllEmployees_JoinedConsumersReceiveWholeRoster() throws Exception {
+        List<EmployeeResponse> roster = List.of(employee("Ajinkya"), employee("John"));
+        when(delegate.streamAllEmployees(any())).thenAnswer(invocation -> {
+            release.await();
+            Consumer<EmployeeResponse> consumer = invocation.getArgument(0);
+            roster.forEach(consumer);
+            return true;
+        });
+
+        List<List<EmployeeResponse>> received = new ArrayList<>();
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            List<EmployeeResponse> sink = new CopyOnWriteArrayList<>();
+            received.add(sink);
+            results.add(executor.submit(() -> client.streamAllEmployees(sink::add)));
+        }
+        awaitCallersBlocked();
+        release.countDown();
+
+        for (int i = 0; i < CALLERS; i++) {
+            assertTrue(results.get(i).get(5, TimeUnit.SECONDS));
+            assertEquals(roster, received.get(i));
+        }
+        verify(delegate, times(1)).streamAllEmployees(any());
+    }
+
+    private <T> List<Future<T>> submitAll(Callable<T> call) {
+        List<Future<T>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(call));
+        }
+        return results;
+    }
+
+    private void awaitCallersBlocked() throws InterruptedException {
+        // Give every caller time to reach the in-flight call before the upstream answers.
+        Thread.sleep(200);
+    }
+
+    private EmployeeResponse employee(String name) {
+        EmployeeResponse employee = new EmployeeResponse();
+        employee.setId(UUID.randomUUID());
+        employee.setEmployee_name(name);
+        return employee;
+    }
+}
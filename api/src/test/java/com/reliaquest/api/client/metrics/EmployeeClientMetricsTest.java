@@ -0,0 +1,65 @@
+package com.reliaquest.api.client.metrics;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.reliaquest.api.client.resilience.UpstreamThrottledException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeClientMetricsTest {
+
+    @Test
+    void testOutcomeOf_ClassifiesFailures() {
+        assertEquals("404", EmployeeClientMetrics.outcomeOf(
+                HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null)));
+        assertEquals("429", EmployeeClientMetrics.outcomeOf(
+                new UpstreamThrottledException("throttled", Duration.ofSeconds(1))));
+        assertEquals("4xx", EmployeeClientMetrics.outcomeOf(
+                HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", null, null, null)));
+        assertEquals("5xx", EmployeeClientMetrics.outcomeOf(
+                HttpServerErrorException.create(HttpStatus.BAD_GATEWAY, "Bad Gateway", null, null, null)));
+        assertEquals("timeout", EmployeeClientMetrics.outcomeOf(
+                new ResourceAccessException("I/O error", new SocketTimeoutException("Read timed out"))));
+        assertEquals("parse_error", EmployeeClientMetrics.outcomeOf(
+                new HttpMessageNotReadableException("bad json", new JsonParseException(null, "bad json"), null)));
+        assertEquals("error", EmployeeClientMetrics.outcomeOf(new IllegalStateException()));
+    }
+
+    @Test
+    void testTime_RecordsOutcomeAndRethrows() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        EmployeeClientMetrics metrics = new EmployeeClientMetrics(registry);
+
+        assertEquals("ok", metrics.time("fetchAllEmployees", () -> "ok"));
+        assertThrows(ResourceAccessException.class, () -> metrics.time("fetchAllEmployees", () -> {
+            throw new ResourceAccessException("I/O error", new SocketTimeoutException());
+        }));
+
+        assertEquals(1, registry.get(EmployeeClientMetrics.CALLS).tag("outcome", "success").timer().count());
+        assertEquals(1, registry.get(EmployeeClientMetrics.CALLS).tag("outcome", "timeout").timer().count());
+    }
+
+    @Test
+    void testResourceOf_ClassifiesRequests() {
+        assertEquals("roster", resourceOf(HttpMethod.GET, "http://localhost/api/v1/employee"));
+        assertEquals("page", resourceOf(HttpMethod.GET, "http://localhost/api/v1/employee?limit=10"));
+        assertEquals("employee", resourceOf(HttpMethod.GET, "http://localhost/api/v1/employee/42"));
+        assertEquals("employee", resourceOf(HttpMethod.POST, "http://localhost/api/v1/employee"));
+        assertEquals("batch", resourceOf(HttpMethod.DELETE, "http://localhost/api/v1/employee/batch"));
+    }
+
+    private String resourceOf(HttpMethod method, String uri) {
+        return ResponseSizeInterceptor.resourceOf(new MockClientHttpRequest(method, uri));
+    }
+}
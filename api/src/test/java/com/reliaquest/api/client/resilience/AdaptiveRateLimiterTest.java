@@ -0,0 +1,72 @@
+package com.reliaquest.api.client.resilience;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private AdaptiveRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new AdaptiveRateLimiter(1.0, 0.1, 10.0, 3, clock::get);
+    }
+
+    @Test
+    void testReserve_SpendsBurstThenWaitsForRefill() {
+        assertEquals(0, rateLimiter.reserve(0));
+        assertEquals(0, rateLimiter.reserve(0));
+        assertEquals(0, rateLimiter.reserve(0));
+
+        assertEquals(-1, rateLimiter.reserve(SECOND / 2));
+        assertEquals(SECOND, rateLimiter.reserve(SECOND));
+    }
+
+    @Test
+    void testOnThrottled_HalvesRateAndLearnsBudget() {
+        rateLimiter.reserve(0);
+        rateLimiter.onSuccess();
+        rateLimiter.reserve(0);
+        rateLimiter.onSuccess();
+        double rateBeforeThrottle = rateLimiter.getRate();
+
+        rateLimiter.onThrottled(null);
+
+        assertEquals(rateBeforeThrottle / 2, rateLimiter.getRate(), 1e-9);
+        assertEquals(2, rateLimiter.getBurst());
+        assertEquals(-1, rateLimiter.reserve(0));
+    }
+
+    @Test
+    void testOnThrottled_RetryAfterHoldsBackPermits() {
+        rateLimiter.onThrottled(Duration.ofSeconds(30));
+        clock.addAndGet(10 * SECOND);
+
+        assertEquals(-1, rateLimiter.reserve(SECOND));
+        assertEquals(20 * SECOND, rateLimiter.reserve(60 * SECOND));
+    }
+
+    @Test
+    void testRateStaysWithinBounds() {
+        for (int i = 0; i < 1000; i++) {
+            rateLimiter.onSuccess();
+        }
+        assertEquals(10.0, rateLimiter.getRate(), 1e-9);
+
+        for (int i = 0; i < 100; i++) {
+            rateLimiter.onThrottled(null);
+        }
+        assertEquals(0.1, rateLimiter.getRate(), 1e-9);
+        assertEquals(1, rateLimiter.getBurst());
+    }
+}
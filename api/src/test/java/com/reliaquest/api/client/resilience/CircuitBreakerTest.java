@@ -0,0 +1,63 @@
+package com.reliaquest.api.client.resilience;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new CircuitBreaker(Duration.ofSeconds(10), Duration.ofSeconds(30), clock::get);
+    }
+
+    @Test
+    void testOpensAndAdmitsOneTrialAfterOpenPeriod() {
+        circuitBreaker.onThrottled(null);
+
+        assertFalse(circuitBreaker.tryAcquire());
+        assertEquals(Duration.ofSeconds(10), circuitBreaker.remainingOpen());
+
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertTrue(circuitBreaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquire());
+
+        circuitBreaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    void testRepeatedTripsDoubleOpenPeriodUpToMax() {
+        circuitBreaker.onThrottled(null);
+        circuitBreaker.onThrottled(null);
+        assertEquals(Duration.ofSeconds(20), circuitBreaker.remainingOpen());
+
+        circuitBreaker.onThrottled(null);
+        assertEquals(Duration.ofSeconds(30), circuitBreaker.remainingOpen());
+
+        circuitBreaker.onThrottled(Duration.ofSeconds(45));
+        assertEquals(Duration.ofSeconds(45), circuitBreaker.remainingOpen());
+    }
+
+    @Test
+    void testFailedTripReopensWithoutExtendingOpenPeriod() {
+        circuitBreaker.onThrottled(null);
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertTrue(circuitBreaker.tryAcquire());
+
+        circuitBreaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+}
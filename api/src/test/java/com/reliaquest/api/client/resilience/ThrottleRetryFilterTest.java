@@ -0,0 +1,68 @@
+package com.reliaquest.api.client.resilience;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ThrottleRetryFilterTest {
+
+    private CircuitBreaker circuitBreaker;
+    private ThrottleRetryFilter filter;
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new CircuitBreaker(Duration.ofSeconds(30), Duration.ofMinutes(2));
+        filter = new ThrottleRetryFilter(new AdaptiveRateLimiter(1000.0, 1.0, 1000.0, 10), circuitBreaker, 3,
+                Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofSeconds(2));
+    }
+
+    private WebClient webClient(HttpStatus... statuses) {
+        Deque<HttpStatus> responses = new ArrayDeque<>(List.of(statuses));
+        return WebClient.builder()
+                .exchangeFunction(request -> {
+                    calls.incrementAndGet();
+                    return Mono.just(ClientResponse.create(responses.pop()).body("ok").build());
+                })
+                .filter(filter)
+                .build();
+    }
+
+    @Test
+    void testRetriesThrottledCallUntilItSucceeds() {
+        WebClient webClient = webClient(HttpStatus.TOO_MANY_REQUESTS, HttpStatus.TOO_MANY_REQUESTS, HttpStatus.OK);
+
+        StepVerifier.create(webClient.get().uri("http://localhost/").retrieve().bodyToMono(String.class))
+                .expectNext("ok")
+                .verifyComplete();
+        assertEquals(3, calls.get());
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void testExhaustedRetriesOpenCircuitAndFailFast() {
+        WebClient webClient = webClient(HttpStatus.TOO_MANY_REQUESTS, HttpStatus.TOO_MANY_REQUESTS,
+                HttpStatus.TOO_MANY_REQUESTS);
+
+        StepVerifier.create(webClient.get().uri("http://localhost/").retrieve().bodyToMono(String.class))
+                .expectError(UpstreamThrottledException.class)
+                .verify();
+        StepVerifier.create(webClient.get().uri("http://localhost/").retrieve().bodyToMono(String.class))
+                .expectError(UpstreamThrottledException.class)
+                .verify();
+        assertEquals(3, calls.get());
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+}
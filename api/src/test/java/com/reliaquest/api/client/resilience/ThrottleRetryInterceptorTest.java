@@ -0,0 +1,82 @@
+package com.reliaquest.api.client.resilience;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+class ThrottleRetryInterceptorTest {
+
+    private static final String URL = "http://localhost:8112/api/v1/employee";
+
+    private MockRestServiceServer server;
+    private RestTemplate restTemplate;
+    private AdaptiveRateLimiter rateLimiter;
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new AdaptiveRateLimiter(1000.0, 1.0, 1000.0, 10);
+        circuitBreaker = new CircuitBreaker(Duration.ofSeconds(30), Duration.ofMinutes(2));
+        restTemplate = new RestTemplate();
+        restTemplate.setInterceptors(List.of(new ThrottleRetryInterceptor(rateLimiter, circuitBreaker, 3,
+                Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofSeconds(2))));
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+    }
+
+    @Test
+    void testRetriesThrottledCallUntilItSucceeds() {
+        server.expect(ExpectedCount.twice(), requestTo(URL)).andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS));
+        server.expect(requestTo(URL)).andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess("ok", MediaType.TEXT_PLAIN));
+
+        assertEquals("ok", restTemplate.getForObject(URL, String.class));
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        server.verify();
+    }
+
+    @Test
+    void testExhaustedRetriesOpenCircuitAndFailFast() {
+        server.expect(ExpectedCount.times(3), requestTo(URL)).andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS));
+
+        UpstreamThrottledException first =
+                assertThrows(UpstreamThrottledException.class, () -> restTemplate.getForObject(URL, String.class));
+        assertThrows(UpstreamThrottledException.class, () -> restTemplate.getForObject(URL, String.class));
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertTrue(first.getRetryAfter().compareTo(Duration.ofSeconds(29)) > 0);
+        server.verify();
+    }
+
+    @Test
+    void testRetryAfterBeyondDeadlineGivesUpImmediately() {
+        server.expect(requestTo(URL))
+                .andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS).header("Retry-After", "60"));
+
+        UpstreamThrottledException e =
+                assertThrows(UpstreamThrottledException.class, () -> restTemplate.getForObject(URL, String.class));
+
+        assertTrue(e.getRetryAfter().compareTo(Duration.ofSeconds(59)) > 0);
+        server.verify();
+    }
+
+    @Test
+    void testOtherErrorsAreNotRetried() {
+        server.expect(requestTo(URL)).andRespond(withServerError());
+
+        assertThrows(Exception.class, () -> restTemplate.getForObject(URL, String.class));
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        server.verify();
+    }
+}
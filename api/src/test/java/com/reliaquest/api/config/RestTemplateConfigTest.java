@@ -0,0 +1,72 @@
+package com.reliaquest.api.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.Configurable;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.function.Resolver;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "employee.client.http.max-connections=7",
+        "employee.client.http.max-connections-per-route=3",
+        "employee.client.http.connect-timeout=PT0.25S",
+        "employee.client.http.read-timeout=PT3S",
+        "employee.client.http.pool-acquire-timeout=PT0.5S",
+        "employee.client.http.time-to-live=PT2M"
+})
+class RestTemplateConfigTest {
+
+    @Autowired
+    private PoolingHttpClientConnectionManager employeeApiConnectionManager;
+
+    @Autowired
+    private CloseableHttpClient employeeApiHttpClient;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void testPoolSizesAreBoundFromProperties() {
+        assertEquals(7, employeeApiConnectionManager.getMaxTotal());
+        assertEquals(3, employeeApiConnectionManager.getDefaultMaxPerRoute());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testTimeoutsAreBoundFromProperties() {
+        ConnectionConfig connectionConfig = ((Resolver<Object, ConnectionConfig>) ReflectionTestUtils.getField(
+                employeeApiConnectionManager, "connectionConfigResolver")).resolve(null);
+        assertEquals(Timeout.ofMilliseconds(250), connectionConfig.getConnectTimeout());
+        assertEquals(Timeout.ofSeconds(3), connectionConfig.getSocketTimeout());
+        assertEquals(TimeValue.ofMinutes(2), connectionConfig.getTimeToLive());
+
+        RequestConfig requestConfig = ((Configurable) employeeApiHttpClient).getConfig();
+        assertEquals(Timeout.ofMilliseconds(500), requestConfig.getConnectionRequestTimeout());
+        assertEquals(Timeout.ofSeconds(3), requestConfig.getResponseTimeout());
+    }
+
+    @Test
+    void testPoolGaugesAreRegistered() {
+        for (String name : new String[] {"employee.client.pool.leased", "employee.client.pool.available",
+                "employee.client.pool.pending"}) {
+            Gauge gauge = meterRegistry.find(name).tag("pool", "employee-api").gauge();
+            assertNotNull(gauge, name);
+            // The startup roster load may hold a connection, so only the range is stable here
+            assertTrue(gauge.value() >= 0 && gauge.value() <= 7, name);
+        }
+        Gauge max = meterRegistry.find("employee.client.pool.max").tag("pool", "employee-api").gauge();
+        assertNotNull(max);
+        assertEquals(7.0, max.value());
+    }
+}
@@ -0,0 +1,25 @@
+package com.reliaquest.api.controller.impl;
+
+import com.reliaquest.api.client.resilience.UpstreamThrottledException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeControllerAdviceTest {
+
+    private final EmployeeControllerAdvice advice = new EmployeeControllerAdvice();
+
+    @Test
+    void testHandleUpstreamThrottled_Returns503WithRetryAfter() {
+        ResponseEntity<String> response = advice.handleUpstreamThrottled(
+                new UpstreamThrottledException("Employee API is throttling requests", Duration.ofMillis(12500)));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("13", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+}
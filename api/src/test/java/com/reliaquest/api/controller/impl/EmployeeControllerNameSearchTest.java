@@ -0,0 +1,81 @@
+package com.reliaquest.api.controller.impl;
+
+import com.reliaquest.api.client.IEmployeeApiClient;
+import com.reliaquest.api.dto.EmployeeResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Searches go through the name index of the cached roster, which trims names and queries and lower-cases them
+// in Locale.ROOT
+@SpringBootTest(properties = "employee.cache.initial-delay=PT1H")
+@AutoConfigureMockMvc
+class EmployeeControllerNameSearchTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private IEmployeeApiClient apiClient;
+
+    @BeforeEach
+    void setUp() {
+        when(apiClient.fetchAllEmployees()).thenReturn(List.of(
+                employee("John Smith"), employee("Émile Zola"), employee("  Ingrid Bergman ")));
+    }
+
+    @Test
+    void testPaddedQueryMatchesExactName() throws Exception {
+        mockMvc.perform(get("/employees/search").param("name", "  john SMITH ").param("mode", "EXACT"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].employee_name").value("John Smith"));
+    }
+
+    @Test
+    void testPaddedNameMatchesTrimmedQuery() throws Exception {
+        mockMvc.perform(get("/employees/search").param("name", "ingrid bergman").param("mode", "EXACT"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].employee_name").value("  Ingrid Bergman "));
+    }
+
+    @Test
+    void testNonAsciiNamesIgnoreCase() throws Exception {
+        mockMvc.perform(get("/employees/search").param("name", "ÉMILE ZOLA").param("mode", "EXACT"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].employee_name").value("Émile Zola"));
+        mockMvc.perform(get("/employees/search").param("name", " émi").param("mode", "PREFIX"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].employee_name").value("Émile Zola"));
+    }
+
+    @Test
+    void testInnerWhitespaceIsKept() throws Exception {
+        mockMvc.perform(get("/employees/search").param("name", "John  Smith").param("mode", "EXACT"))
+                .andExpect(status().isNotFound());
+    }
+
+    private static EmployeeResponse employee(String name) {
+        EmployeeResponse employee = new EmployeeResponse();
+        employee.setId(UUID.randomUUID());
+        employee.setEmployee_name(name);
+        employee.setEmployee_salary(100000);
+        employee.setEmployee_age(30);
+        employee.setEmployee_title("SSE");
+        return employee;
+    }
+}
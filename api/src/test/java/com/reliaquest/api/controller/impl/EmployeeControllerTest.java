@@ -1,7 +1,11 @@
 package com.reliaquest.api.controller.impl;
 
+import com.reliaquest.api.cache.NameSearchMode;
+import com.reliaquest.api.dto.BatchResult;
 import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.EmployeePage;
 import com.reliaquest.api.dto.EmployeeResponse;
+import com.reliaquest.api.dto.SalaryHistogram;
 import com.reliaquest.api.service.IEmployeeService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -53,6 +57,25 @@ public class EmployeeControllerTest {
         assertEquals("Ajinkya", responseList.get(0).getEmployee_name());
     }
 
+    @Test
+    void testGetEmployeesPage() {
+        EmployeePage page = new EmployeePage(List.of(sampleEmployee), "1");
+        when(employeeService.getEmployeesPage(null, 1)).thenReturn(page);
+
+        ResponseEntity<EmployeePage> response = employeeController.getEmployeesPage(1, null);
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertSame(page, response.getBody());
+    }
+
+    @Test
+    void testGetEmployeesPage_InvalidLimitOrCursor() {
+        when(employeeService.getEmployeesPage("bad", 10)).thenThrow(IllegalArgumentException.class);
+
+        assertEquals(400, employeeController.getEmployeesPage(0, null).getStatusCodeValue());
+        assertEquals(400, employeeController.getEmployeesPage(10, "bad").getStatusCodeValue());
+    }
+
     @Test
     void testGetEmployeesByNameSearch_Found() {
         when(employeeService.getEmployeesByName("Ajinkya")).thenReturn(List.of(sampleEmployee));
@@ -74,6 +97,16 @@ public class EmployeeControllerTest {
         assertEquals("No employee found with name: Unknown", response.getBody().get(0));
     }
 
+    @Test
+    void testSearchEmployees_WithMode() {
+        when(employeeService.searchEmployees("ajin", NameSearchMode.PREFIX)).thenReturn(List.of(sampleEmployee));
+
+        ResponseEntity<List> response = employeeController.searchEmployees("ajin", NameSearchMode.PREFIX);
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertEquals(sampleEmployee, response.getBody().get(0));
+    }
+
     @Test
     void testGetEmployeeById_Found() {
         when(employeeService.getEmployeeById("b25df7a7-8246-4c48-b8b7-d132efed6dd4")).thenReturn(Optional.of(sampleEmployee));
@@ -93,6 +126,42 @@ public class EmployeeControllerTest {
         assertEquals("No employee found with id: XYZ", ((List) response.getBody()).get(0));
     }
 
+    @Test
+    void testGetSalaryPercentile() {
+        when(employeeService.getSalaryPercentile(90)).thenReturn(180000);
+
+        ResponseEntity<Integer> response = employeeController.getSalaryPercentile(90);
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertEquals(180000, response.getBody());
+    }
+
+    @Test
+    void testGetSalaryPercentile_OutOfRange() {
+        ResponseEntity<Integer> response = employeeController.getSalaryPercentile(120);
+
+        assertEquals(400, response.getStatusCodeValue());
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    void testGetSalaryHistogram() {
+        SalaryHistogram histogram = new SalaryHistogram(2, List.of(new SalaryHistogram.Bucket(100, 200, 2)));
+        when(employeeService.getSalaryHistogram(5)).thenReturn(histogram);
+
+        ResponseEntity<SalaryHistogram> response = employeeController.getSalaryHistogram(5);
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertEquals(histogram, response.getBody());
+    }
+
+    @Test
+    void testGetSalaryHistogram_BucketsOutOfRange() {
+        assertEquals(400, employeeController.getSalaryHistogram(0).getStatusCodeValue());
+        assertEquals(400, employeeController.getSalaryHistogram(1001).getStatusCodeValue());
+        verifyNoInteractions(employeeService);
+    }
+
     @Test
     void testCreateEmployee() {
         Employee employee = new Employee();
@@ -116,5 +185,16 @@ public class EmployeeControllerTest {
         assertEquals(200, response.getStatusCodeValue());
         assertEquals("Deleted Successfully", response.getBody());
     }
-}
 
+    @Test
+    void testCreateEmployees() {
+        List<Employee> inputs = List.of(new Employee());
+        List<BatchResult<EmployeeResponse>> results = List.of(new BatchResult<>(0, sampleEmployee, null));
+        when(employeeService.createEmployees(inputs)).thenReturn(results);
+
+        ResponseEntity<List<BatchResult<EmployeeResponse>>> response = employeeController.createEmployees(inputs);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(results, response.getBody());
+    }
+}
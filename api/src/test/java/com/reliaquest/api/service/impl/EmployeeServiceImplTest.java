@@ -1,17 +1,27 @@
 package com.reliaquest.api.service.impl;
 
+import com.reliaquest.api.aggregate.RosterAnalytics;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.cache.NameSearchMode;
 import com.reliaquest.api.client.IEmployeeApiClient;
+import com.reliaquest.api.dto.BatchResult;
 import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.EmployeePage;
 import com.reliaquest.api.dto.EmployeeResponse;
+import com.reliaquest.api.dto.SalaryHistogram;
+import com.reliaquest.api.dto.TitleStats;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 class EmployeeServiceImplTest {
@@ -28,6 +38,9 @@ class EmployeeServiceImplTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(employeeService, "snapshotCache", new EmployeeSnapshotCache(apiClient, true, 0));
+        ReflectionTestUtils.setField(employeeService, "rosterAnalytics",
+                new RosterAnalytics(RosterAnalytics.DEFAULT_PARALLEL_THRESHOLD));
 
         sampleEmployee = new EmployeeResponse();
         sampleEmployee.setId(UUID.randomUUID());
@@ -62,6 +75,28 @@ class EmployeeServiceImplTest {
         assertTrue(result.stream().anyMatch(emp -> emp.getEmployee_name().equals("Ajinkya")));
     }
 
+    @Test
+    void testGetEmployeesPage_FromSnapshot() {
+        when(apiClient.fetchAllEmployees()).thenReturn(sampleEmployeeList);
+
+        EmployeePage first = employeeService.getEmployeesPage(null, 1);
+        EmployeePage second = employeeService.getEmployeesPage(first.getNextCursor(), 1);
+
+        assertEquals("Ajinkya", first.getEmployees().get(0).getEmployee_name());
+        assertEquals("John", second.getEmployees().get(0).getEmployee_name());
+        assertNull(second.getNextCursor());
+        assertThrows(IllegalArgumentException.class, () -> employeeService.getEmployeesPage("abc", 1));
+    }
+
+    @Test
+    void testGetEmployeesPage_RelayedWhenCacheDisabled() {
+        ReflectionTestUtils.setField(employeeService, "snapshotCache", new EmployeeSnapshotCache(apiClient, false, 0));
+        EmployeePage page = new EmployeePage(List.of(sampleEmployee), "42");
+        when(apiClient.fetchEmployeesPage("7", 1)).thenReturn(Optional.of(page));
+
+        assertSame(page, employeeService.getEmployeesPage("7", 1));
+    }
+
     @Test
     void testGetEmployeesByName_Found() {
         when(apiClient.fetchAllEmployees()).thenReturn(sampleEmployeeList);
@@ -82,6 +117,16 @@ class EmployeeServiceImplTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    void testSearchEmployees_Contains() {
+        when(apiClient.fetchAllEmployees()).thenReturn(sampleEmployeeList);
+
+        List<EmployeeResponse> result = employeeService.searchEmployees("JIN", NameSearchMode.CONTAINS);
+
+        assertEquals(1, result.size());
+        assertEquals("Ajinkya", result.get(0).getEmployee_name());
+    }
+
     @Test
     void testGetEmployeeById_Found() {
         when(apiClient.fetchEmployeeById(anyString())).thenReturn(Optional.of(sampleEmployee));
@@ -121,6 +166,64 @@ class EmployeeServiceImplTest {
         assertTrue(topEarners.contains("Ajinkya - 200000"));
     }
 
+    @Test
+    void testGetSalaryPercentile() {
+        when(apiClient.fetchAllEmployees()).thenReturn(sampleEmployeeList);
+
+        assertEquals(150000, employeeService.getSalaryPercentile(50));
+        assertEquals(200000, employeeService.getSalaryPercentile(100));
+    }
+
+    @Test
+    void testCountEmployeesInSalaryRange() {
+        when(apiClient.fetchAllEmployees()).thenReturn(sampleEmployeeList);
+
+        assertEquals(2, employeeService.countEmployeesInSalaryRange(100000, 200000));
+        assertEquals(1, employeeService.countEmployeesInSalaryRange(160000, 250000));
+    }
+
+    @Test
+    void testGetSalaryHistogramAndTitleStats_FromSnapshot() {
+        when(apiClient.fetchAllEmployees()).thenReturn(sampleEmployeeList);
+
+        SalaryHistogram histogram = employeeService.getSalaryHistogram(2);
+        List<TitleStats> stats = employeeService.getTitleStats();
+
+        assertEquals(List.of(new SalaryHistogram.Bucket(150000, 175000, 1),
+                new SalaryHistogram.Bucket(175001, 200000, 1)), histogram.getBuckets());
+        assertEquals(List.of("Senior Software Engineer", "Software Engineer"),
+                stats.stream().map(TitleStats::getTitle).toList());
+        verify(apiClient, times(1)).fetchAllEmployees();
+    }
+
+    @Test
+    void testStreamingAggregates_WhenCacheDisabled() {
+        ReflectionTestUtils.setField(employeeService, "snapshotCache", new EmployeeSnapshotCache(apiClient, false, 0));
+        when(apiClient.streamAllEmployees(any())).thenAnswer(invocation -> {
+            Consumer<EmployeeResponse> consumer = invocation.getArgument(0);
+            sampleEmployeeList.forEach(consumer);
+            return true;
+        });
+
+        assertEquals(200000, employeeService.getHighestSalaryOfEmployees());
+        assertEquals(List.of("Ajinkya - 200000", "John - 150000"), employeeService.getTopTenHighestEarningEmployeeNames());
+        assertEquals(1, employeeService.getEmployeesByName("john").size());
+        verify(apiClient, never()).fetchAllEmployees();
+    }
+
+    @Test
+    void testStreamingAggregates_FailedStreamReturnsEmptyResults() {
+        ReflectionTestUtils.setField(employeeService, "snapshotCache", new EmployeeSnapshotCache(apiClient, false, 0));
+        when(apiClient.streamAllEmployees(any())).thenAnswer(invocation -> {
+            Consumer<EmployeeResponse> consumer = invocation.getArgument(0);
+            consumer.accept(sampleEmployee);
+            return false;
+        });
+
+        assertEquals(0, employeeService.getHighestSalaryOfEmployees());
+        assertTrue(employeeService.getEmployeesByName("Ajinkya").isEmpty());
+    }
+
     @Test
     void testCreateEmployee_Success() {
         Employee newEmployee = new Employee();
@@ -146,17 +249,18 @@ class EmployeeServiceImplTest {
 
     @Test
     void testDeleteEmployeeById_Success() {
-        when(apiClient.fetchEmployeeById(anyString())).thenReturn(Optional.of(sampleEmployee));
-        when(apiClient.deleteEmployee(anyString())).thenReturn(Optional.of("Employee deleted"));
+        when(apiClient.deleteEmployeeById(sampleEmployee.getId().toString())).thenReturn(Optional.of(sampleEmployee));
 
         String result = employeeService.deleteEmployeeById(sampleEmployee.getId().toString());
 
-        assertEquals("Employee deleted", result);
+        assertEquals("Employee with name Ajinkya deleted successfully.", result);
+        verify(apiClient, never()).fetchEmployeeById(anyString());
+        verify(apiClient, never()).deleteEmployee(anyString());
     }
 
     @Test
     void testDeleteEmployeeById_NotFound() {
-        when(apiClient.fetchEmployeeById(anyString())).thenReturn(Optional.empty());
+        when(apiClient.deleteEmployeeById(anyString())).thenReturn(Optional.empty());
 
         String result = employeeService.deleteEmployeeById("invalid-id");
 
@@ -165,11 +269,44 @@ class EmployeeServiceImplTest {
 
     @Test
     void testDeleteEmployeeById_Failure() {
-        when(apiClient.fetchEmployeeById("E002")).thenReturn(Optional.empty());
-        when(apiClient.deleteEmployee("E002")).thenReturn(Optional.empty());
+        when(apiClient.deleteEmployeeById("E002")).thenThrow(new RuntimeException("Employee with ID E002 could not be deleted"));
+
+        assertThrows(RuntimeException.class, () -> employeeService.deleteEmployeeById("E002"));
+    }
+
+    @Test
+    void testCreateEmployees_SendsChunksAndRebasesIndexes() {
+        ReflectionTestUtils.setField(employeeService, "batchChunkSize", 2);
+        when(apiClient.fetchAllEmployees()).thenReturn(sampleEmployeeList);
+        employeeService.getAllEmployees();
+        List<Employee> inputs = List.of(new Employee(), new Employee(), new Employee());
+        EmployeeResponse created = new EmployeeResponse();
+        created.setId(UUID.randomUUID());
+        created.setEmployee_name("Jane");
+        when(apiClient.postEmployees(any()))
+                .thenReturn(List.of(new BatchResult<>(0, created, null), BatchResult.failure(1, "invalid")))
+                .thenReturn(List.of(BatchResult.failure(0, "invalid")));
+
+        List<BatchResult<EmployeeResponse>> results = employeeService.createEmployees(inputs);
+
+        assertEquals(List.of(0, 1, 2), results.stream().map(BatchResult::getIndex).toList());
+        assertEquals("invalid", results.get(2).getError());
+        verify(apiClient).postEmployees(inputs.subList(0, 2));
+        verify(apiClient).postEmployees(inputs.subList(2, 3));
+        assertEquals(3, employeeService.getAllEmployees().size());
+    }
+
+    @Test
+    void testDeleteEmployeesByName_RemovesDeletedFromSnapshot() {
+        when(apiClient.fetchAllEmployees()).thenReturn(sampleEmployeeList);
+        employeeService.getAllEmployees();
+        when(apiClient.deleteEmployees(List.of("Ajinkya", "Nobody")))
+                .thenReturn(List.of(new BatchResult<>(0, sampleEmployee, null), BatchResult.failure(1, "No employee named Nobody")));
 
-        String result = employeeService.deleteEmployeeById("E002");
+        List<BatchResult<EmployeeResponse>> results = employeeService.deleteEmployeesByName(List.of("Ajinkya", "Nobody"));
 
-        assertEquals("Employee with ID E002 not found.", result);
+        assertEquals(2, results.size());
+        assertEquals(List.of("John"),
+                employeeService.getAllEmployees().stream().map(EmployeeResponse::getEmployee_name).toList());
     }
 }
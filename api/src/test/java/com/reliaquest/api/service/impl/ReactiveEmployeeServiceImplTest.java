@@ -0,0 +1,222 @@
+package com.reliaquest.api.service.impl;
+
+import com.reliaquest.api.aggregate.RosterAnalytics;
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.cache.NameSearchMode;
+import com.reliaquest.api.client.IReactiveEmployeeApiClient;
+import com.reliaquest.api.client.resilience.UpstreamThrottledException;
+import com.reliaquest.api.dto.BatchResult;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.EmployeePage;
+import com.reliaquest.api.dto.EmployeeResponse;
+import com.reliaquest.api.dto.SalaryHistogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ReactiveEmployeeServiceImplTest {
+
+    private IReactiveEmployeeApiClient apiClient;
+    private ReactiveEmployeeServiceImpl employeeService;
+
+    private EmployeeResponse ajinkya;
+    private EmployeeResponse john;
+
+    @BeforeEach
+    void setUp() {
+        apiClient = mock(IReactiveEmployeeApiClient.class);
+        employeeService = new ReactiveEmployeeServiceImpl(apiClient, true, Duration.ofMinutes(5),
+                NameSearchMode.EXACT, 2, new RosterAnalytics(RosterAnalytics.DEFAULT_PARALLEL_THRESHOLD));
+        ajinkya = employee("Ajinkya", 200000);
+        john = employee("John", 150000);
+    }
+
+    @Test
+    void testReads_ShareOneSnapshot() {
+        when(apiClient.fetchAllEmployees()).thenReturn(Flux.just(ajinkya, john));
+
+        StepVerifier.create(employeeService.getHighestSalaryOfEmployees()).expectNext(200000).verifyComplete();
+        StepVerifier.create(employeeService.getTopTenHighestEarningEmployeeNames())
+                .expectNext(List.of("Ajinkya - 200000", "John - 150000"))
+                .verifyComplete();
+        StepVerifier.create(employeeService.getEmployeesByName("john")).expectNext(john).verifyComplete();
+
+        verify(apiClient, times(1)).fetchAllEmployees();
+    }
+
+    @Test
+    void testSalaryHistogram_FromSnapshot() {
+        when(apiClient.fetchAllEmployees()).thenReturn(Flux.just(ajinkya, john));
+
+        StepVerifier.create(employeeService.getSalaryHistogram(1))
+                .expectNext(new SalaryHistogram(2, List.of(new SalaryHistogram.Bucket(150000, 200000, 2))))
+                .verifyComplete();
+    }
+
+    @Test
+    void testGetEmployeesPage_StaleCursorIsAnError() {
+        when(apiClient.fetchAllEmployees()).thenReturn(Flux.just(ajinkya, john));
+        EmployeePage first = employeeService.getEmployeesPage(null, 1).block();
+
+        StepVerifier.create(employeeService.getEmployeesPage(first.getNextCursor(), 1))
+                .expectNext(new EmployeePage(List.of(john), null))
+                .verifyComplete();
+        StepVerifier.create(employeeService.getEmployeesPage("0.1", 1))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    @Test
+    void testGetEmployeesPage_RelayedWhenCacheDisabled() {
+        employeeService = new ReactiveEmployeeServiceImpl(apiClient, false, Duration.ofMinutes(5),
+                NameSearchMode.EXACT, 2, new RosterAnalytics(RosterAnalytics.DEFAULT_PARALLEL_THRESHOLD));
+        EmployeePage page = new EmployeePage(List.of(john), "42");
+        when(apiClient.fetchEmployeesPage("7", 1)).thenReturn(Mono.just(page));
+
+        StepVerifier.create(employeeService.getEmployeesPage("7", 1)).expectNext(page).verifyComplete();
+    }
+
+    @Test
+    void testFirstRead_ThrottledUpstreamIsAnError() {
+        when(apiClient.fetchAllEmployees())
+                .thenReturn(Flux.error(new UpstreamThrottledException("throttled", Duration.ofSeconds(5))));
+
+        StepVerifier.create(employeeService.getAllEmployees()).expectError(UpstreamThrottledException.class).verify();
+    }
+
+    @Test
+    void testDeleteEmployeeById_UpdatesSnapshot() {
+        when(apiClient.fetchAllEmployees()).thenReturn(Flux.just(ajinkya, john));
+        when(apiClient.deleteEmployeeById(ajinkya.getId().toString())).thenReturn(Mono.just(ajinkya));
+        employeeService.getAllEmployees().blockLast();
+
+        StepVerifier.create(employeeService.deleteEmployeeById(ajinkya.getId().toString()))
+                .expectNext("Employee with name Ajinkya deleted successfully.")
+                .verifyComplete();
+        StepVerifier.create(employeeService.getAllEmployees()).expectNext(john).verifyComplete();
+    }
+
+    @Test
+    void testCreateEmployees_SendsChunksInOrderAndRebasesIndexes() {
+        when(apiClient.postEmployees(any()))
+                .thenReturn(Flux.just(BatchResult.failure(0, "a"), BatchResult.failure(1, "b")))
+                .thenReturn(Flux.just(BatchResult.failure(0, "c")));
+
+        StepVerifier.create(employeeService.createEmployees(List.of(new Employee(), new Employee(), new Employee()))
+                        .map(result -> result.getIndex() + result.getError()))
+                .expectNext("0a", "1b", "2c")
+                .verifyComplete();
+        verify(apiClient, times(2)).postEmployees(any());
+    }
+
+    @Test
+    void testReload_KeepsCreateMadeWhileReloadPending() {
+        EmployeeResponse mary = employee("Mary", 120000);
+        Sinks.Many<EmployeeResponse> pending = Sinks.many().replay().all();
+        when(apiClient.fetchAllEmployees()).thenReturn(Flux.just(ajinkya), pending.asFlux());
+        when(apiClient.postEmployee(any())).thenReturn(Mono.just(john));
+        Mono<EmployeeSnapshot> reload = startStaleReload();
+
+        StepVerifier.create(employeeService.createEmployee(new Employee())).expectNext(john).verifyComplete();
+        pending.tryEmitNext(ajinkya);
+        pending.tryEmitNext(mary);
+        pending.tryEmitComplete();
+
+        assertEquals(List.of(ajinkya, mary, john), reload.block(Duration.ofSeconds(5)).getEmployees());
+        assertEquals(List.of(ajinkya, mary, john), employeeService.getAllEmployees().collectList().block());
+    }
+
+    @Test
+    void testReload_ThrottledKeepsCreateMadeWhileReloadPending() {
+        Sinks.Many<EmployeeResponse> pending = Sinks.many().replay().all();
+        when(apiClient.fetchAllEmployees()).thenReturn(Flux.just(ajinkya), pending.asFlux());
+        when(apiClient.postEmployee(any())).thenReturn(Mono.just(john));
+        Mono<EmployeeSnapshot> reload = startStaleReload();
+
+        StepVerifier.create(employeeService.createEmployee(new Employee())).expectNext(john).verifyComplete();
+        pending.tryEmitError(new UpstreamThrottledException("throttled", Duration.ofSeconds(5)));
+
+        assertEquals(List.of(ajinkya, john), reload.block(Duration.ofSeconds(5)).getEmployees());
+        assertEquals(List.of(ajinkya, john), employeeService.getAllEmployees().collectList().block());
+    }
+
+    @Test
+    void testReload_FinishesBeforeItsSnapshotIsEmitted() throws Exception {
+        Sinks.Many<EmployeeResponse> pending = Sinks.many().replay().all();
+        when(apiClient.fetchAllEmployees()).thenReturn(Flux.just(ajinkya), pending.asFlux());
+        Mono<EmployeeSnapshot> reload = startStaleReload();
+        // Seen by a subscriber as the snapshot is emitted, when a read finding it stale would start the next reload
+        CompletableFuture<Boolean> finishedWhenEmitted = reload
+                .map(snapshot -> reloading().get() == null
+                        && ReflectionTestUtils.getField(employeeService, "localWrites") == null)
+                .toFuture();
+
+        pending.tryEmitNext(ajinkya);
+        pending.tryEmitNext(john);
+        pending.tryEmitComplete();
+
+        assertTrue(finishedWhenEmitted.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(ajinkya, john), currentSnapshot().getEmployees());
+    }
+
+    @Test
+    void testCreateEmployee_BuildsIndexesOfCachedSnapshot() {
+        when(apiClient.fetchAllEmployees()).thenReturn(Flux.just(ajinkya));
+        when(apiClient.postEmployee(any())).thenReturn(Mono.just(john));
+        employeeService.getAllEmployees().blockLast();
+
+        employeeService.createEmployee(new Employee()).block();
+
+        EmployeeSnapshot snapshot = currentSnapshot();
+        assertNotNull(ReflectionTestUtils.getField(snapshot, "salaryIndex"));
+        assertNotNull(ReflectionTestUtils.getField(snapshot, "nameIndex"));
+    }
+
+    /**
+     * Loads the first snapshot, lets it go stale and starts the background reload a read then triggers.
+     * @return the reload in flight
+     */
+    private Mono<EmployeeSnapshot> startStaleReload() {
+        assertEquals(List.of(ajinkya), employeeService.getAllEmployees().collectList().block());
+        ReflectionTestUtils.setField(currentSnapshot(), "fetchedAt", Instant.now().minus(Duration.ofMinutes(10)));
+
+        assertEquals(List.of(ajinkya), employeeService.getAllEmployees().collectList().block());
+        Mono<EmployeeSnapshot> reload = reloading().get();
+        assertNotNull(reload);
+        return reload;
+    }
+
+    @SuppressWarnings("unchecked")
+    private AtomicReference<Mono<EmployeeSnapshot>> reloading() {
+        return (AtomicReference<Mono<EmployeeSnapshot>>) ReflectionTestUtils.getField(employeeService, "reloading");
+    }
+
+    @SuppressWarnings("unchecked")
+    private EmployeeSnapshot currentSnapshot() {
+        return ((AtomicReference<EmployeeSnapshot>) ReflectionTestUtils.getField(employeeService, "current")).get();
+    }
+
+    private EmployeeResponse employee(String name, int salary) {
+        EmployeeResponse employee = new EmployeeResponse();
+        employee.setId(UUID.randomUUID());
+        employee.setEmployee_name(name);
+        employee.setEmployee_salary(salary);
+        return employee;
+    }
+}
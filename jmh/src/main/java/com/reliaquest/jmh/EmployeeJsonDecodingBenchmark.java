@@ -0,0 +1,74 @@
+package com.reliaquest.jmh;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.impl.EmployeeApiClientImpl;
+import com.reliaquest.api.dto.EmployeeResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * The two roster decoding paths in {@link EmployeeApiClientImpl}: binding the whole response to a list, and streaming
+ * the {@code data} array one employee at a time. The response body is served from memory, so only decoding and the
+ * RestTemplate plumbing are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(
+        value = 1,
+        jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class EmployeeJsonDecodingBenchmark {
+
+    @Param({"50", "1000", "10000", "100000"})
+    public int rosterSize;
+
+    private EmployeeApiClientImpl apiClient;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        final var objectMapper = new ObjectMapper();
+        final var body = objectMapper.writeValueAsBytes(
+                Map.of("data", SyntheticRoster.employees(rosterSize), "status", "Successfully processed request."));
+        final ClientHttpRequestFactory requestFactory = (uri, method) -> {
+            final var request = new MockClientHttpRequest(method, uri);
+            final var response = new MockClientHttpResponse(body, HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            request.setResponse(response);
+            return request;
+        };
+        final var restTemplate = new RestTemplate(requestFactory);
+        apiClient = new EmployeeApiClientImpl(restTemplate, objectMapper);
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> fetchAllEmployees() {
+        return apiClient.fetchAllEmployees();
+    }
+
+    @Benchmark
+    public boolean streamAllEmployees(Blackhole blackhole) {
+        return apiClient.streamAllEmployees(blackhole::consume);
+    }
+}
@@ -0,0 +1,82 @@
+package com.reliaquest.jmh;
+
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.cache.NameSearchMode;
+import com.reliaquest.api.client.IEmployeeApiClient;
+import com.reliaquest.api.dto.EmployeeResponse;
+import com.reliaquest.api.service.impl.EmployeeServiceImpl;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Name search, highest salary and top-10 earners in {@link EmployeeServiceImpl}. With the cache enabled the queries
+ * are answered from the snapshot indexes, which are built on first use, here in setup; with it disabled every call
+ * streams the whole roster through the aggregator, which is the path whose cost grows with the roster.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(
+        value = 1,
+        jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class EmployeeServiceBenchmark {
+
+    @Param({"50", "1000", "10000", "100000", "1000000"})
+    public int rosterSize;
+
+    @Param({"true", "false"})
+    public boolean cacheEnabled;
+
+    private EmployeeServiceImpl service;
+    private String exactName;
+    private String fragment;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final List<EmployeeResponse> roster = SyntheticRoster.employees(rosterSize);
+        final var apiClient = new RosterApiClient(roster);
+        final var snapshotCache = new EmployeeSnapshotCache(apiClient, cacheEnabled, 0);
+        service = new EmployeeServiceImpl();
+        Fields.set(service, "apiClient", apiClient, IEmployeeApiClient.class);
+        Fields.set(service, "snapshotCache", snapshotCache, EmployeeSnapshotCache.class);
+        exactName = roster.get(roster.size() / 2).getEmployee_name();
+        fragment = exactName.substring(exactName.indexOf(' ') + 1, exactName.indexOf(' ') + 4);
+        // Builds the snapshot, its salary and name indexes and the trigram postings outside the measurement
+        service.searchEmployees(fragment, NameSearchMode.CONTAINS);
+        service.getTopTenHighestEarningEmployeeNames();
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> searchExact() {
+        return service.searchEmployees(exactName, NameSearchMode.EXACT);
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> searchContains() {
+        return service.searchEmployees(fragment, NameSearchMode.CONTAINS);
+    }
+
+    @Benchmark
+    public Integer highestSalary() {
+        return service.getHighestSalaryOfEmployees();
+    }
+
+    @Benchmark
+    public List<String> topTenHighestEarners() {
+        return service.getTopTenHighestEarningEmployeeNames();
+    }
+}
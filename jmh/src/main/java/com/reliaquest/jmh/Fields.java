@@ -0,0 +1,25 @@
+package com.reliaquest.jmh;
+
+import java.lang.reflect.Field;
+
+/**
+ * Sets the field-injected collaborators of beans that are built by hand outside a Spring context.
+ */
+final class Fields {
+
+    private Fields() {}
+
+    static <T> void set(Object target, String name, T value, Class<T> type) {
+        try {
+            final Field field = target.getClass().getDeclaredField(name);
+            if (!field.getType().isAssignableFrom(type)) {
+                throw new IllegalArgumentException(name + " is not a " + type.getName());
+            }
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(
+                    "Cannot set " + name + " on " + target.getClass().getName(), e);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.reliaquest.jmh;
+
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmailPool;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.MockEmployeeStore;
+import jakarta.validation.Validation;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lookups and deletes in {@link MockEmployeeService}. Each delete puts the employee straight back, so the store keeps
+ * its size across iterations; the measured time therefore includes one {@link MockEmployeeStore#add}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(
+        value = 1,
+        jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class MockEmployeeServiceBenchmark {
+
+    @Param({"50", "1000", "10000", "100000", "1000000"})
+    public int rosterSize;
+
+    private MockEmployeeStore store;
+    private MockEmployeeService service;
+    private MockEmployee[] employees;
+    private int next;
+    private long misses;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var random = new SplittableRandom(SyntheticRoster.SEED);
+        final var roster = new ArrayList<MockEmployee>(rosterSize);
+        for (var i = 0; i < rosterSize; i++) {
+            roster.add(MockEmployee.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .name(SyntheticRoster.name(random) + " " + i)
+                    .salary(random.nextInt(30_000, 500_000))
+                    .age(random.nextInt(16, 76))
+                    .title("Engineer")
+                    .email("employee" + i + "@company.com")
+                    .build());
+        }
+        employees = roster.toArray(MockEmployee[]::new);
+        store = new MockEmployeeStore(roster);
+        service = new MockEmployeeService(
+                new MockEmailPool(new Faker(), MockEmailPool.DEFAULT_SIZE),
+                store,
+                Validation.buildDefaultValidatorFactory().getValidator());
+    }
+
+    private MockEmployee nextEmployee() {
+        final var employee = employees[next];
+        next = next + 1 == employees.length ? 0 : next + 1;
+        return employee;
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> findById() {
+        return service.findById(nextEmployee().getId());
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> findByIdMiss() {
+        return service.findById(new UUID(0L, misses++));
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> deleteById() {
+        final var employee = nextEmployee();
+        final var deleted = service.deleteById(employee.getId());
+        store.add(employee);
+        return deleted;
+    }
+
+    @Benchmark
+    public boolean deleteByName() {
+        final var employee = nextEmployee();
+        final var input = new DeleteMockEmployeeInput();
+        input.setName(employee.getName());
+        final var deleted = service.delete(input);
+        store.add(employee);
+        return deleted;
+    }
+}
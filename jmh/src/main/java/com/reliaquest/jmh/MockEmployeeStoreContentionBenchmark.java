@@ -0,0 +1,120 @@
+package com.reliaquest.jmh;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmailPool;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.MockEmployeeStore;
+import jakarta.validation.Validation;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Creates, deletes and lookups in {@link MockEmployeeService} from one thread per available processor, with the
+ * store's writes serialized on a single shard or spread over its default number. Every create is deleted again, so the
+ * roster keeps its size. Compare thread counts with {@code -t}, e.g.
+ * {@code -Pjmh.args='MockEmployeeStoreContentionBenchmark -t 1'}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(Threads.MAX)
+@Fork(
+        value = 1,
+        jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class MockEmployeeStoreContentionBenchmark {
+
+    /** Id shards and name stripes in the store; 0 picks the default. */
+    @Param({"1", "0"})
+    public int shards;
+
+    @Param({"10000"})
+    public int rosterSize;
+
+    private MockEmployeeService service;
+    private UUID[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var random = new SplittableRandom(SyntheticRoster.SEED);
+        final var roster = new ArrayList<MockEmployee>(rosterSize);
+        for (var i = 0; i < rosterSize; i++) {
+            roster.add(MockEmployee.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .name(SyntheticRoster.name(random) + " " + i)
+                    .salary(random.nextInt(30_000, 500_000))
+                    .age(random.nextInt(16, 76))
+                    .title("Engineer")
+                    .email("employee" + i + "@company.com")
+                    .build());
+        }
+        ids = roster.stream().map(MockEmployee::getId).toArray(UUID[]::new);
+        final var store = new MockEmployeeStore(
+                roster,
+                MockEmployeeStore.DEFAULT_CHANGE_LOG_CAPACITY,
+                shards > 0 ? shards : MockEmployeeStore.defaultShardCount());
+        service = new MockEmployeeService(
+                new MockEmailPool(new Faker(), MockEmailPool.DEFAULT_SIZE),
+                store,
+                Validation.buildDefaultValidatorFactory().getValidator());
+    }
+
+    /**
+     * Inputs of one benchmark thread, named after the thread so deletes by name only ever match its own employees.
+     */
+    @State(Scope.Thread)
+    public static class Writer {
+
+        private static final AtomicInteger THREADS = new AtomicInteger();
+
+        private final CreateMockEmployeeInput create = new CreateMockEmployeeInput();
+        private final DeleteMockEmployeeInput delete = new DeleteMockEmployeeInput();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            create.setName("Benchmark Writer " + THREADS.incrementAndGet());
+            create.setSalary(100_000);
+            create.setAge(30);
+            create.setTitle("Engineer");
+            delete.setName(create.getName());
+        }
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> createAndDeleteById(Writer writer) {
+        return service.deleteById(service.create(writer.create).getId());
+    }
+
+    @Benchmark
+    public boolean createAndDeleteByName(Writer writer) {
+        service.create(writer.create);
+        return service.delete(writer.delete);
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> findById() {
+        return service.findById(ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+    }
+}
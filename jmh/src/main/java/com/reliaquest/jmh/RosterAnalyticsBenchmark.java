@@ -0,0 +1,61 @@
+package com.reliaquest.jmh;
+
+import com.reliaquest.api.aggregate.RosterAnalytics;
+import com.reliaquest.api.cache.EmployeeColumns;
+import com.reliaquest.api.dto.SalaryHistogram;
+import com.reliaquest.api.dto.TitleStats;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Salary histogram and per-title statistics in {@link RosterAnalytics}, aggregated on the calling thread
+ * ({@code parallel=false}) or split over the common fork-join pool ({@code parallel=true}). The speedup of the parallel
+ * path is bounded by the cores of the machine; on a single core it only shows the cost of forking.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(
+        value = 1,
+        jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class RosterAnalyticsBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int rosterSize;
+
+    @Param({"true", "false"})
+    public boolean parallel;
+
+    private RosterAnalytics analytics;
+    private EmployeeColumns columns;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        analytics = new RosterAnalytics(parallel ? 0 : Integer.MAX_VALUE);
+        columns = EmployeeColumns.of(SyntheticRoster.employees(rosterSize));
+    }
+
+    @Benchmark
+    public SalaryHistogram salaryHistogram() {
+        return analytics.salaryHistogram(columns, 20);
+    }
+
+    @Benchmark
+    public List<TitleStats> statsByTitle() {
+        return analytics.statsByTitle(columns);
+    }
+}
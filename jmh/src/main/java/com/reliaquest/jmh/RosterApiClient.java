@@ -0,0 +1,78 @@
+package com.reliaquest.jmh;
+
+import com.reliaquest.api.client.IEmployeeApiClient;
+import com.reliaquest.api.dto.BatchResult;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.EmployeeChanges;
+import com.reliaquest.api.dto.EmployeePage;
+import com.reliaquest.api.dto.EmployeeResponse;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Serves a fixed in-memory roster, so service benchmarks measure the service rather than the network. Writes are not
+ * benchmarked through this client and are rejected.
+ */
+final class RosterApiClient implements IEmployeeApiClient {
+
+    private final List<EmployeeResponse> roster;
+
+    RosterApiClient(List<EmployeeResponse> roster) {
+        this.roster = List.copyOf(roster);
+    }
+
+    @Override
+    public List<EmployeeResponse> fetchAllEmployees() {
+        return roster;
+    }
+
+    @Override
+    public boolean streamAllEmployees(Consumer<EmployeeResponse> consumer) {
+        roster.forEach(consumer);
+        return true;
+    }
+
+    @Override
+    public Optional<EmployeePage> fetchEmployeesPage(String cursor, int limit) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void rememberRoster(List<EmployeeResponse> employees) {}
+
+    @Override
+    public Optional<EmployeeChanges> fetchChanges(Long since, int limit) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Optional<EmployeeResponse> fetchEmployeeById(String id) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Optional<EmployeeResponse> postEmployee(Employee employeeInput) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Optional<String> deleteEmployee(String employeeName) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Optional<EmployeeResponse> deleteEmployeeById(String id) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<BatchResult<EmployeeResponse>> postEmployees(List<Employee> employeeInputs) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<BatchResult<EmployeeResponse>> deleteEmployees(List<String> employeeNames) {
+        throw new UnsupportedOperationException();
+    }
+}
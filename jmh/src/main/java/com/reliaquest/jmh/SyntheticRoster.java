@@ -0,0 +1,46 @@
+package com.reliaquest.jmh;
+
+import com.reliaquest.api.dto.EmployeeResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Deterministic rosters for the benchmarks. Names are drawn from small pools so that name searches match a realistic
+ * share of the roster rather than a single row.
+ */
+final class SyntheticRoster {
+
+    static final long SEED = 42L;
+
+    private static final String[] FIRST_NAMES = {
+        "Ajinkya", "John", "Jane", "Maria", "Wei", "Fatima", "Liam", "Olivia", "Noah", "Amara", "Kenji", "Sofia"
+    };
+    private static final String[] LAST_NAMES = {
+        "Choudhary", "Smith", "Garcia", "Chen", "Khan", "Murphy", "Okafor", "Tanaka", "Rossi", "Novak"
+    };
+    private static final String[] TITLES = {"Engineer", "Manager", "Analyst", "Director", "Designer"};
+
+    private SyntheticRoster() {}
+
+    static List<EmployeeResponse> employees(int size) {
+        final var random = new SplittableRandom(SEED);
+        final var employees = new ArrayList<EmployeeResponse>(size);
+        for (var i = 0; i < size; i++) {
+            final var employee = new EmployeeResponse();
+            employee.setId(new UUID(random.nextLong(), random.nextLong()));
+            employee.setEmployee_name(name(random));
+            employee.setEmployee_salary(random.nextInt(30_000, 500_000));
+            employee.setEmployee_age(random.nextInt(16, 76));
+            employee.setEmployee_title(TITLES[random.nextInt(TITLES.length)]);
+            employee.setEmployee_email("employee" + i + "@company.com");
+            employees.add(employee);
+        }
+        return employees;
+    }
+
+    static String name(SplittableRandom random) {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    }
+}
@@ -0,0 +1,112 @@
+package com.reliaquest.loadtest;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A Spring Boot application started in this JVM from its own class loader. Each application sees only its own
+ * classpath, so the mock server and the api keep their own {@code application.yml} and dependency versions.
+ */
+final class EmbeddedApplication implements Closeable {
+
+    private final String name;
+    private final URLClassLoader classLoader;
+    private final Closeable context;
+    private final int port;
+
+    private EmbeddedApplication(String name, URLClassLoader classLoader, Closeable context, int port) {
+        this.name = name;
+        this.classLoader = classLoader;
+        this.context = context;
+        this.port = port;
+    }
+
+    /**
+     * Starts the application on a random free port and waits until it is serving.
+     *
+     * @param properties application properties, passed as command line arguments so they override application.yml
+     */
+    static EmbeddedApplication start(
+            String name, List<Path> classpath, String mainClass, Map<String, String> properties) throws Exception {
+        final var classLoader = new URLClassLoader(name, urls(classpath), ClassLoader.getPlatformClassLoader());
+        final var args = new ArrayList<String>();
+        args.add("--server.port=0");
+        properties.forEach((key, value) -> args.add("--" + key + "=" + value));
+
+        final var thread = Thread.currentThread();
+        final var previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            disableTomcatUrlHandlers(classLoader);
+            final var application = classLoader.loadClass("org.springframework.boot.SpringApplication");
+            final var context = application
+                    .getMethod("run", Class.class, String[].class)
+                    .invoke(null, classLoader.loadClass(mainClass), args.toArray(String[]::new));
+            final var environment = classLoader
+                    .loadClass("org.springframework.context.ConfigurableApplicationContext")
+                    .getMethod("getEnvironment")
+                    .invoke(context);
+            final var port = classLoader
+                    .loadClass("org.springframework.core.env.PropertyResolver")
+                    .getMethod("getProperty", String.class)
+                    .invoke(environment, "local.server.port");
+            return new EmbeddedApplication(name, classLoader, (Closeable) context, Integer.parseInt((String) port));
+        } catch (Exception e) {
+            classLoader.close();
+            throw e;
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    String name() {
+        return name;
+    }
+
+    int port() {
+        return port;
+    }
+
+    @Override
+    public void close() throws IOException {
+        final var thread = Thread.currentThread();
+        final var previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            context.close();
+        } finally {
+            thread.setContextClassLoader(previous);
+            classLoader.close();
+        }
+    }
+
+    /*
+     * Tomcat registers a JVM-wide URL stream handler factory, which only the first application to start could own.
+     * Neither application serves web resources from jars, so no class loader needs it.
+     */
+    private static void disableTomcatUrlHandlers(ClassLoader classLoader) throws ReflectiveOperationException {
+        try {
+            classLoader
+                    .loadClass("org.apache.catalina.webresources.TomcatURLStreamHandlerFactory")
+                    .getMethod("disable")
+                    .invoke(null);
+        } catch (ClassNotFoundException e) {
+            // Not a Tomcat application
+        }
+    }
+
+    private static URL[] urls(List<Path> classpath) throws MalformedURLException {
+        final var urls = new URL[classpath.size()];
+        for (var i = 0; i < urls.length; i++) {
+            urls[i] = classpath.get(i).toUri().toURL();
+        }
+        return urls;
+    }
+}
@@ -0,0 +1,96 @@
+package com.reliaquest.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load: requests are sent at fixed intervals regardless of how many are still outstanding, and each
+ * latency is measured from the time the request was scheduled to be sent. A slow api therefore cannot slow the load
+ * down and hide its own latency (coordinated omission).
+ */
+final class LoadGenerator {
+
+    private final HttpClient client;
+    private final Workload workload;
+    private final LoadTestConfig config;
+
+    LoadGenerator(HttpClient client, Workload workload, LoadTestConfig config) {
+        this.client = client;
+        this.workload = workload;
+        this.config = config;
+    }
+
+    /**
+     * Runs the warmup and the measured period, then waits for outstanding requests to complete or time out.
+     *
+     * @return stats of the requests scheduled during the measured period
+     */
+    Map<Route, RouteStats> run() throws InterruptedException {
+        final var stats = new EnumMap<Route, RouteStats>(Route.class);
+        for (final var route : Route.values()) {
+            stats.put(route, new RouteStats());
+        }
+        final var inFlight = new AtomicLong();
+        final var intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.rate();
+        final var start = System.nanoTime();
+        final var measureFrom = start + config.warmup().toNanos();
+        final var end = measureFrom + config.duration().toNanos();
+
+        for (long i = 0; ; i++) {
+            final var scheduledAt = start + (long) (i * intervalNanos);
+            if (scheduledAt - end >= 0) {
+                break;
+            }
+            parkUntil(scheduledAt);
+            final var route = workload.nextRoute();
+            final var routeStats = scheduledAt - measureFrom >= 0 ? stats.get(route) : null;
+            inFlight.incrementAndGet();
+            client.sendAsync(workload.request(route), HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, error) -> {
+                        try {
+                            if (response != null) {
+                                workload.onResponse(route, response);
+                            }
+                            if (routeStats != null) {
+                                record(routeStats, scheduledAt, response, error);
+                            }
+                        } finally {
+                            inFlight.decrementAndGet();
+                        }
+                    });
+        }
+
+        final var drainBy = System.nanoTime() + config.timeout().toNanos() + TimeUnit.SECONDS.toNanos(1);
+        while (inFlight.get() > 0 && System.nanoTime() - drainBy < 0) {
+            Thread.sleep(10);
+        }
+        return stats;
+    }
+
+    private static void record(RouteStats stats, long scheduledAt, HttpResponse<?> response, Throwable error) {
+        if (response != null) {
+            stats.recordResponse(response.statusCode(), System.nanoTime() - scheduledAt);
+        } else if (unwrap(error) instanceof HttpTimeoutException) {
+            stats.recordTimeout();
+        } else {
+            stats.recordFailure();
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static void parkUntil(long deadline) {
+        for (var remaining = deadline - System.nanoTime(); remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
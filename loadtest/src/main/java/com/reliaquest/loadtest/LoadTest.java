@@ -0,0 +1,125 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Boots the mock server and the api in-process on random ports, drives the api's {@code /employees} routes at a fixed
+ * arrival rate and writes throughput, latency percentiles and error counts per route to a JSON report.
+ *
+ * <p>Run with {@code ./gradlew loadtest:loadTest}; options are described in {@code loadtest.properties}.
+ */
+public final class LoadTest {
+
+    private static final String SERVER_MAIN_CLASS = "com.reliaquest.server.ServerApplication";
+    private static final String API_MAIN_CLASS = "com.reliaquest.api.ApiApplication";
+
+    private LoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        final var config = LoadTestConfig.load();
+        final var objectMapper = new ObjectMapper();
+        final var startedAt = Instant.now();
+
+        try (final var server = EmbeddedApplication.start(
+                "server", config.serverClasspath(), SERVER_MAIN_CLASS, config.serverProperties())) {
+            final var apiProperties = new LinkedHashMap<>(config.apiProperties());
+            apiProperties.put("employee.client.base-url", "http://localhost:" + server.port() + "/api/v1/employee");
+            try (final var api =
+                    EmbeddedApplication.start("api", config.apiClasspath(), API_MAIN_CLASS, apiProperties)) {
+                log("Mock server on port %d, api on port %d", server.port(), api.port());
+                final var client =
+                        HttpClient.newBuilder().connectTimeout(config.timeout()).build();
+                final var workload =
+                        Workload.load(client, objectMapper, URI.create("http://localhost:" + api.port() + "/"), config);
+                log(
+                        "Roster of %d employees; warming up for %s, then measuring for %s at %.1f requests/s",
+                        workload.rosterSize(), config.warmup(), config.duration(), config.rate());
+
+                final var stats = new LoadGenerator(client, workload, config).run();
+                final var report = report(config, startedAt, workload.rosterSize(), stats);
+                Files.createDirectories(config.report().toAbsolutePath().getParent());
+                objectMapper
+                        .writerWithDefaultPrettyPrinter()
+                        .writeValue(config.report().toFile(), report);
+                printSummary(config, stats);
+                log("Report written to %s", config.report().toAbsolutePath());
+            }
+        }
+        // Pooled connection threads of the embedded applications and the client are not all daemons
+        System.exit(0);
+    }
+
+    private static Map<String, Object> report(
+            LoadTestConfig config, Instant startedAt, int rosterSize, Map<Route, RouteStats> stats) {
+        final var seconds = config.duration().toMillis() / 1000.0;
+        final var total = new RouteStats();
+        final var routes = new LinkedHashMap<String, Object>();
+        stats.forEach((route, routeStats) -> {
+            routeStats.addTo(total);
+            if (routeStats.requests() > 0) {
+                routes.put(route.key(), routeStats.toReport(seconds));
+            }
+        });
+
+        final var settings = new LinkedHashMap<String, Object>();
+        settings.put("rate", config.rate());
+        settings.put("warmup", config.warmup().toString());
+        settings.put("duration", config.duration().toString());
+        settings.put("timeout", config.timeout().toString());
+        settings.put("seed", config.seed());
+        final var mix = new LinkedHashMap<String, Integer>();
+        config.mix().forEach((route, weight) -> mix.put(route.key(), weight));
+        settings.put("mix", mix);
+        settings.put("serverProperties", config.serverProperties());
+        settings.put("apiProperties", config.apiProperties());
+
+        final var report = new LinkedHashMap<String, Object>();
+        report.put("startedAt", startedAt.toString());
+        report.put("javaVersion", Runtime.version().toString());
+        report.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        report.put("rosterSize", rosterSize);
+        report.put("config", settings);
+        report.put("total", total.toReport(seconds));
+        report.put("routes", routes);
+        return report;
+    }
+
+    private static void printSummary(LoadTestConfig config, Map<Route, RouteStats> stats) {
+        final var seconds = config.duration().toMillis() / 1000.0;
+        final var total = new RouteStats();
+        System.out.printf(
+                "%n%-14s %9s %9s %9s %9s %9s %9s %7s %7s%n",
+                "route", "requests", "req/s", "p50 ms", "p95 ms", "p99 ms", "p999 ms", "errors", "429");
+        stats.forEach((route, routeStats) -> {
+            routeStats.addTo(total);
+            if (routeStats.requests() > 0) {
+                printRow(route.key(), routeStats, seconds);
+            }
+        });
+        printRow("total", total, seconds);
+    }
+
+    private static void printRow(String name, RouteStats stats, double seconds) {
+        System.out.printf(
+                "%-14s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %7d %7d%n",
+                name,
+                stats.requests(),
+                stats.responses() / seconds,
+                stats.percentileMillis(50),
+                stats.percentileMillis(95),
+                stats.percentileMillis(99),
+                stats.percentileMillis(99.9),
+                stats.errors(),
+                stats.status(429));
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.printf("[loadtest] " + format + "%n", args);
+    }
+}
@@ -0,0 +1,116 @@
+package com.reliaquest.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Load test options, read from {@code loadtest.properties} and overridden by {@code loadtest.*} system properties.
+ *
+ * @param rate requests per second across all routes
+ * @param warmup time the load runs before latencies are recorded
+ * @param duration time latencies are recorded for
+ * @param timeout time after which an unanswered request counts as failed
+ * @param mix relative weight of each route
+ * @param serverProperties application properties of the mock server
+ * @param apiProperties application properties of the api
+ */
+record LoadTestConfig(
+        double rate,
+        Duration warmup,
+        Duration duration,
+        Duration timeout,
+        long seed,
+        Map<Route, Integer> mix,
+        List<Path> serverClasspath,
+        List<Path> apiClasspath,
+        Path report,
+        Map<String, String> serverProperties,
+        Map<String, String> apiProperties) {
+
+    private static final String SYSTEM_PREFIX = "loadtest.";
+
+    LoadTestConfig {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("rate must be positive: " + rate);
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("mix must give at least one route a positive weight");
+        }
+    }
+
+    static LoadTestConfig load() {
+        final var options = new Properties();
+        try (final var defaults = LoadTestConfig.class.getResourceAsStream("/loadtest.properties")) {
+            if (defaults != null) {
+                options.load(defaults);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith(SYSTEM_PREFIX))
+                .forEach(name -> options.setProperty(name.substring(SYSTEM_PREFIX.length()), System.getProperty(name)));
+
+        return new LoadTestConfig(
+                Double.parseDouble(options.getProperty("rate", "100")),
+                Duration.parse(options.getProperty("warmup", "PT10S")),
+                Duration.parse(options.getProperty("duration", "PT30S")),
+                Duration.parse(options.getProperty("timeout", "PT10S")),
+                Long.parseLong(options.getProperty("seed", "42")),
+                parseMix(options.getProperty("mix", "")),
+                classpath(options, "classpath.server"),
+                classpath(options, "classpath.api"),
+                Path.of(options.getProperty("report", "build/reports/loadtest/report.json")),
+                withPrefix(options, "server."),
+                withPrefix(options, "api."));
+    }
+
+    /**
+     * @param mix comma separated {@code route:weight} pairs, e.g. {@code getAll:1,search:4}
+     */
+    static Map<Route, Integer> parseMix(String mix) {
+        final var weights = new EnumMap<Route, Integer>(Route.class);
+        for (final var entry : mix.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            final var parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected route:weight in mix, got " + entry);
+            }
+            final var weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight in mix: " + entry);
+            }
+            weights.put(Route.of(parts[0].trim()), weight);
+        }
+        return weights;
+    }
+
+    private static List<Path> classpath(Properties options, String name) {
+        final var classpath = options.getProperty(name);
+        if (classpath == null || classpath.isBlank()) {
+            throw new IllegalStateException(
+                    SYSTEM_PREFIX + name + " is not set; run the load test with gradle loadTest");
+        }
+        return Arrays.stream(classpath.split(File.pathSeparator)).map(Path::of).toList();
+    }
+
+    private static Map<String, String> withPrefix(Properties options, String prefix) {
+        final var properties = new LinkedHashMap<String, String>();
+        options.stringPropertyNames().stream()
+                .filter(name -> name.startsWith(prefix))
+                .sorted()
+                .forEach(name -> properties.put(name.substring(prefix.length()), options.getProperty(name)));
+        return properties;
+    }
+}
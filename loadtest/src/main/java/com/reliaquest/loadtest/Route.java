@@ -0,0 +1,34 @@
+package com.reliaquest.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * The seven {@code /employees} routes of the api that the load test drives.
+ */
+enum Route {
+    GET_ALL("getAll"),
+    SEARCH("search"),
+    GET_BY_ID("getById"),
+    HIGHEST_SALARY("highestSalary"),
+    TOP_TEN("topTen"),
+    CREATE("create"),
+    DELETE("delete");
+
+    private final String key;
+
+    Route(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static Route of(String key) {
+        return Arrays.stream(values())
+                .filter(route -> route.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown route " + key + ", expected one of "
+                        + Arrays.stream(values()).map(Route::key).toList()));
+    }
+}
@@ -0,0 +1,101 @@
+package com.reliaquest.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Outcomes and latencies of the requests recorded for one route. Latencies are kept in microseconds with three
+ * significant digits.
+ */
+final class RouteStats {
+
+    private static final double[] PERCENTILES = {50, 95, 99, 99.9};
+    private static final String[] PERCENTILE_NAMES = {"p50", "p95", "p99", "p999"};
+
+    private final Histogram latencies = new ConcurrentHistogram(3);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentSkipListMap<>();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    void recordResponse(int status, long latencyNanos) {
+        latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        statuses.computeIfAbsent(status, ignored -> new LongAdder()).increment();
+    }
+
+    void recordTimeout() {
+        timeouts.increment();
+    }
+
+    void recordFailure() {
+        failures.increment();
+    }
+
+    void addTo(RouteStats total) {
+        total.latencies.add(latencies);
+        statuses.forEach((status, count) -> total.statuses
+                .computeIfAbsent(status, ignored -> new LongAdder())
+                .add(count.sum()));
+        total.timeouts.add(timeouts.sum());
+        total.failures.add(failures.sum());
+    }
+
+    long responses() {
+        return latencies.getTotalCount();
+    }
+
+    long requests() {
+        return responses() + timeouts.sum() + failures.sum();
+    }
+
+    long status(int status) {
+        final var count = statuses.get(status);
+        return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * @return requests answered with a 4xx or 5xx status, timed out or failed without a response
+     */
+    long errors() {
+        final var errorResponses = statuses.entrySet().stream()
+                .filter(entry -> entry.getKey() >= 400)
+                .mapToLong(entry -> entry.getValue().sum())
+                .sum();
+        return errorResponses + timeouts.sum() + failures.sum();
+    }
+
+    double percentileMillis(double percentile) {
+        return latencies.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    Map<String, Object> toReport(double seconds) {
+        final var report = new LinkedHashMap<String, Object>();
+        report.put("requests", requests());
+        report.put("throughputPerSecond", round(responses() / seconds));
+        report.put("errors", errors());
+        report.put("throttled", status(429));
+        report.put("timeouts", timeouts.sum());
+        report.put("failures", failures.sum());
+        final var statusCounts = new LinkedHashMap<String, Long>();
+        statuses.forEach((status, count) -> statusCounts.put(Integer.toString(status), count.sum()));
+        report.put("statuses", statusCounts);
+        final var latency = new LinkedHashMap<String, Object>();
+        if (responses() > 0) {
+            for (var i = 0; i < PERCENTILES.length; i++) {
+                latency.put(PERCENTILE_NAMES[i], percentileMillis(PERCENTILES[i]));
+            }
+            latency.put("max", latencies.getMaxValue() / 1000.0);
+            latency.put("mean", round(latencies.getMean() / 1000.0));
+        }
+        report.put("latencyMillis", latency);
+        return report;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
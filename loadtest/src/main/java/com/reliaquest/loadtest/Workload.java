@@ -0,0 +1,163 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Picks routes by weight and builds their requests. Reads target employees of the initial roster; deletes remove
+ * employees created during the run, so the roster stays about the same size when creates outweigh deletes.
+ *
+ * <p>Routes and requests are chosen on the single scheduling thread; only {@link #onResponse} runs concurrently.
+ */
+final class Workload {
+
+    private static final String[] TITLES = {"Engineer", "Manager", "Analyst", "Director", "Designer"};
+
+    private final ObjectMapper objectMapper;
+    private final URI employees;
+    private final Duration timeout;
+    private final SplittableRandom random;
+    private final Route[] routes;
+    private final int[] cumulativeWeights;
+    private final List<String> ids;
+    private final List<String> names;
+    private final Queue<String> created = new ConcurrentLinkedQueue<>();
+    private long sequence;
+
+    private Workload(
+            ObjectMapper objectMapper, URI employees, LoadTestConfig config, List<String> ids, List<String> names) {
+        this.objectMapper = objectMapper;
+        this.employees = employees;
+        this.timeout = config.timeout();
+        this.random = new SplittableRandom(config.seed());
+        this.routes = config.mix().entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .map(Map.Entry::getKey)
+                .toArray(Route[]::new);
+        this.cumulativeWeights = new int[routes.length];
+        var total = 0;
+        for (var i = 0; i < routes.length; i++) {
+            total += config.mix().get(routes[i]);
+            cumulativeWeights[i] = total;
+        }
+        this.ids = ids;
+        this.names = names;
+    }
+
+    /**
+     * Reads the initial roster through the api, retrying while the api is still loading it from the mock server.
+     */
+    static Workload load(HttpClient client, ObjectMapper objectMapper, URI employees, LoadTestConfig config)
+            throws IOException, InterruptedException {
+        final var request = HttpRequest.newBuilder(employees.resolve("employees/getAllEmployees"))
+                .timeout(config.timeout())
+                .build();
+        for (var attempt = 1; ; attempt++) {
+            final var response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() == 200) {
+                final var ids = new ArrayList<String>();
+                final var names = new ArrayList<String>();
+                for (final JsonNode employee : objectMapper.readTree(response.body())) {
+                    ids.add(employee.path("id").asText());
+                    names.add(employee.path("employee_name").asText());
+                }
+                if (!ids.isEmpty()) {
+                    return new Workload(objectMapper, employees, config, ids, names);
+                }
+            }
+            if (attempt == 30) {
+                throw new IllegalStateException("api did not return the roster, last status " + response.statusCode());
+            }
+            Thread.sleep(1000);
+        }
+    }
+
+    int rosterSize() {
+        return ids.size();
+    }
+
+    Route nextRoute() {
+        final var pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (var i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return routes[i];
+            }
+        }
+        throw new IllegalStateException("Weight " + pick + " is out of range");
+    }
+
+    HttpRequest request(Route route) {
+        final var builder =
+                switch (route) {
+                    case GET_ALL -> get("employees/getAllEmployees");
+                    case SEARCH -> get("employees/search/" + pathSegment(names.get(random.nextInt(names.size()))));
+                    case GET_BY_ID -> get("employees/employeeById/" + ids.get(random.nextInt(ids.size())));
+                    case HIGHEST_SALARY -> get("employees/highestSalary");
+                    case TOP_TEN -> get("employees/topTenHighestEarningEmployeeNames");
+                    case CREATE -> HttpRequest.newBuilder(employees.resolve("employees/postEmployee"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(newEmployee()));
+                    case DELETE -> {
+                        final var id = created.poll();
+                        yield HttpRequest.newBuilder(
+                                        employees.resolve("employees/delete/" + (id != null ? id : UUID.randomUUID())))
+                                .DELETE();
+                    }
+                };
+        return builder.timeout(timeout).build();
+    }
+
+    void onResponse(Route route, HttpResponse<String> response) {
+        if (route != Route.CREATE || response.statusCode() != 200) {
+            return;
+        }
+        try {
+            final var id = objectMapper.readTree(response.body()).path("id").asText(null);
+            if (id != null) {
+                created.add(id);
+            }
+        } catch (IOException e) {
+            // Counted by status; an unreadable body only means this employee is never deleted
+        }
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(employees.resolve(path)).GET();
+    }
+
+    private String newEmployee() {
+        final var employee = Map.of(
+                "name",
+                "Load Test " + ++sequence,
+                "salary",
+                random.nextInt(30_000, 500_000),
+                "age",
+                random.nextInt(16, 76),
+                "title",
+                TITLES[random.nextInt(TITLES.length)]);
+        try {
+            return objectMapper.writeValueAsString(employee);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String pathSegment(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+}
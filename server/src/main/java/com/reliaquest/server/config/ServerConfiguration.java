@@ -1,19 +1,22 @@
 package com.reliaquest.server.config;
 
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmailPool;
+import com.reliaquest.server.service.MockEmployeePersistence;
+import com.reliaquest.server.service.MockEmployeeSeeder;
+import com.reliaquest.server.store.MockEmployeeSnapshotFile;
+import com.reliaquest.server.store.MockEmployeeStore;
 import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
-import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -25,35 +28,97 @@ public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    // Larger rosters are only summarized, since logging every employee would dominate startup
+    private static final int LOGGED_EMPLOYEES_LIMIT = 1000;
+
+    @Value("${mock.requests.limit.enabled:true}")
+    private boolean requestLimitEnabled;
+
+    @Value("${mock.requests.limit.max:0}")
+    private int requestLimit;
+
+    @Value("${mock.requests.limit.backoff:#{null}}")
+    private Duration requestBackoff;
+
+    /*
+     * Built in the seeder's locale rather than the JVM default, so created employees get the same kind of email
+     * addresses on every machine.
+     */
     @Bean
     public Faker faker() {
-        return new Faker(Locale.getDefault());
+        return new Faker(MockEmployeeSeeder.DEFAULT_LOCALE);
+    }
+
+    @Bean
+    public MockEmailPool mockEmailPool(
+            Faker faker, @Value("${mock.employees.email-pool.size:" + MockEmailPool.DEFAULT_SIZE + "}") int size) {
+        return new MockEmailPool(faker, size);
+    }
+
+    /*
+     * Keeps the roster across restarts when enabled; closed on shutdown, which compacts the journal.
+     */
+    @Bean
+    @ConditionalOnProperty("mock.employees.persistence.enabled")
+    public MockEmployeePersistence mockEmployeePersistence(
+            @Value("${mock.employees.persistence.directory:mock-employees}") Path directory) throws IOException {
+        return new MockEmployeePersistence(directory);
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * The store is modifiable by design for CRUD operations. A non-positive shard count picks the default.
+     * Without a seed a random one is drawn and logged, so the roster of any run can be generated again. A persisted
+     * roster takes the place of the seeded one, and the seed it was generated from is kept with it.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+    public MockEmployeeStore mockEmployeeStore(
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.seed:#{null}}") Long seed,
+            @Value("${mock.employees.changes.capacity:10000}") int changeLogCapacity,
+            @Value("${mock.employees.store.shards:0}") int shardCount,
+            Optional<MockEmployeePersistence> persistence)
+            throws IOException {
+        final var started = System.nanoTime();
+        final var persisted = persistence.isPresent()
+                ? persistence.get().load()
+                : Optional.<MockEmployeeSnapshotFile.Contents>empty();
+        final long rosterSeed;
+        final List<MockEmployee> employees;
+        if (persisted.isPresent()) {
+            rosterSeed = persisted.get().seed();
+            employees = persisted.get().employees();
+        } else {
+            final var seeder = new MockEmployeeSeeder(
+                    seed != null ? seed : ThreadLocalRandom.current().nextLong());
+            rosterSeed = seeder.seed();
+            employees = seeder.generate(maxEmployees);
+        }
+        if (employees.size() <= LOGGED_EMPLOYEES_LIMIT) {
+            employees.forEach(mockEmployee -> log.debug("Created employee: {}", mockEmployee));
+        }
+        final var store = new MockEmployeeStore(
+                employees, changeLogCapacity, shardCount > 0 ? shardCount : MockEmployeeStore.defaultShardCount());
+        log.info(
+                "{} {} mock employees with seed {} in {} ms",
+                persisted.isPresent() ? "Restored" : "Seeded",
+                store.size(),
+                rosterSeed,
+                Duration.ofNanos(System.nanoTime() - started).toMillis());
+        if (persistence.isPresent()) {
+            persistence.get().start(store, rosterSeed);
+        }
+        return store;
     }
 
+    /*
+     * Rate limiting is on by default with a random limit and backoff; load tests pin or disable it.
+     */
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        if (!requestLimitEnabled) {
+            log.info("Request rate limiting is disabled");
+            return;
+        }
+        registry.addInterceptor(new RandomRequestLimitInterceptor(requestLimit, requestBackoff));
     }
 }
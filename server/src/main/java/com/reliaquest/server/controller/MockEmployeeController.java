@@ -1,15 +1,22 @@
 package com.reliaquest.server.controller;
 
+import com.reliaquest.server.model.BatchItemResult;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.model.MockEmployeePage;
 import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.MockEmployeeChangeStream;
 import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.Versioned;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,7 +24,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/v1/employee")
@@ -26,9 +35,56 @@ public class MockEmployeeController {
 
     private final MockEmployeeService mockEmployeeService;
 
+    private final MockEmployeeChangeStream mockEmployeeChangeStream;
+
+    @Value("${mock.employees.page.max-limit:1000}")
+    private int maxPageLimit;
+
+    @Value("${mock.employees.batch.max-size:1000}")
+    private int maxBatchSize;
+
+    /**
+     * Answers with the roster version as a weak {@code ETag} and with {@code Last-Modified}; a request whose
+     * {@code If-None-Match} or {@code If-Modified-Since} still matches gets a 304 without the roster being serialized.
+     * The tag is weak so that response compression stays on.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<Response<List<MockEmployee>>> getEmployees() {
+        return conditional(mockEmployeeService.getMockEmployees());
+    }
+
+    @GetMapping(params = "limit")
+    public ResponseEntity<Response<MockEmployeePage>> getEmployeesPage(
+            @RequestParam("limit") int limit, @RequestParam(value = "cursor", required = false) String cursor) {
+        if (limit < 1 || limit > maxPageLimit) {
+            return ResponseEntity.badRequest()
+                    .body(Response.error("limit must be between 1 and %d".formatted(maxPageLimit)));
+        }
+        try {
+            return conditional(mockEmployeeService.getMockEmployees(cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Response.error(e.getMessage()));
+        }
+    }
+
+    /**
+     * Roster changes after {@code since}, oldest first; without {@code since} only the latest sequence is reported.
+     * A reply marked {@code truncated} means the changes are no longer retained and the roster has to be re-read.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<Response<MockEmployeeChanges>> getChanges(
+            @RequestParam(value = "since", required = false) Long since,
+            @RequestParam(value = "limit", defaultValue = "1000") int limit) {
+        if (limit < 1 || limit > maxPageLimit) {
+            return ResponseEntity.badRequest()
+                    .body(Response.error("limit must be between 1 and %d".formatted(maxPageLimit)));
+        }
+        return ResponseEntity.ok(Response.handledWith(mockEmployeeService.getChanges(since, limit)));
+    }
+
+    @GetMapping(path = "/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestParam(value = "since", required = false) Long since) {
+        return mockEmployeeChangeStream.subscribe(since);
     }
 
     @GetMapping("/{id}")
@@ -48,4 +104,41 @@ public class MockEmployeeController {
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Response<MockEmployee>> deleteEmployee(@PathVariable("id") UUID uuid) {
+        return mockEmployeeService
+                .deleteById(uuid)
+                .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<Response<List<BatchItemResult<MockEmployee>>>> createEmployees(
+            @RequestBody List<CreateMockEmployeeInput> inputs) {
+        if (inputs.size() > maxBatchSize) {
+            return ResponseEntity.badRequest().body(Response.error(batchTooLarge()));
+        }
+        return ResponseEntity.ok(Response.handledWith(mockEmployeeService.createAll(inputs)));
+    }
+
+    @DeleteMapping("/batch")
+    public ResponseEntity<Response<List<BatchItemResult<MockEmployee>>>> deleteEmployees(
+            @RequestBody List<DeleteMockEmployeeInput> inputs) {
+        if (inputs.size() > maxBatchSize) {
+            return ResponseEntity.badRequest().body(Response.error(batchTooLarge()));
+        }
+        return ResponseEntity.ok(Response.handledWith(mockEmployeeService.deleteAll(inputs)));
+    }
+
+    private static <T> ResponseEntity<Response<T>> conditional(Versioned<T> versioned) {
+        return ResponseEntity.ok()
+                .eTag("W/\"" + versioned.tag() + "\"")
+                .lastModified(versioned.modifiedAt())
+                .body(Response.handledWith(versioned.value()));
+    }
+
+    private String batchTooLarge() {
+        return "batch must not contain more than %d items".formatted(maxBatchSize);
+    }
 }
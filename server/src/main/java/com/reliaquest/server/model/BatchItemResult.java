@@ -0,0 +1,19 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of one item of a batch request. {@code index} is the item's position in the request body; exactly one of
+ * {@code data} and {@code error} is present.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchItemResult<T>(int index, T data, String error) {
+
+    public static <T> BatchItemResult<T> success(int index, T data) {
+        return new BatchItemResult<>(index, data, null);
+    }
+
+    public static <T> BatchItemResult<T> failure(int index, String error) {
+        return new BatchItemResult<>(index, null, error);
+    }
+}
@@ -3,6 +3,8 @@ package com.reliaquest.server.model;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -16,14 +18,15 @@ public class MockEmployee {
 
     private UUID id;
     private String name;
-    private Integer salary;
-    private Integer age;
+    // Primitive, so a large roster does not carry a boxed salary per employee
+    private int salary;
+    private int age;
     private String title;
     private String email;
 
     public static MockEmployee from(@NonNull String email, @NonNull CreateMockEmployeeInput input) {
         return MockEmployee.builder()
-                .id(UUID.randomUUID())
+                .id(randomId())
                 .email(email)
                 .name(input.getName())
                 .salary(input.getSalary())
@@ -32,6 +35,23 @@ public class MockEmployee {
                 .build();
     }
 
+    /**
+     * @return a random (version 4) UUID drawn from the calling thread's random source, so concurrent creates do not
+     *     contend on the shared {@link java.security.SecureRandom} behind {@link UUID#randomUUID()}
+     */
+    public static UUID randomId() {
+        return randomId(ThreadLocalRandom.current());
+    }
+
+    /**
+     * @return a random (version 4) UUID drawn from the given source, so a seeded source yields the same ids every time
+     */
+    public static UUID randomId(@NonNull RandomGenerator random) {
+        final var mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        final var leastSigBits = (random.nextLong() & ~(0xC000L << 48)) | (0x8000L << 48);
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
     static class PrefixNamingStrategy extends PropertyNamingStrategies.NamingBase {
 
         @Override
@@ -0,0 +1,25 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.UUID;
+
+/**
+ * One entry of the roster change log. {@code sequence} is the roster version the change produced; {@code employee}
+ * is only present on {@code CREATED}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MockEmployeeChange(long sequence, Type type, UUID id, MockEmployee employee) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+
+    public static MockEmployeeChange created(long sequence, MockEmployee employee) {
+        return new MockEmployeeChange(sequence, Type.CREATED, employee.getId(), employee);
+    }
+
+    public static MockEmployeeChange deleted(long sequence, MockEmployee employee) {
+        return new MockEmployeeChange(sequence, Type.DELETED, employee.getId(), null);
+    }
+}
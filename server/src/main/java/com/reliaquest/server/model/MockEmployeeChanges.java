@@ -0,0 +1,13 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * A slice of the roster change log. Pass {@code sequence} as {@code since} to read on from here; more changes are
+ * waiting while it is below {@code latestSequence}. {@code truncated} means the changes after {@code since} are no
+ * longer retained, or were never made by this log, and the reader has to start over from the full roster.
+ *
+ * @param log identifies the change log; it differs after a server restart, when sequences start over
+ */
+public record MockEmployeeChanges(
+        String log, long sequence, long latestSequence, boolean truncated, List<MockEmployeeChange> changes) {}
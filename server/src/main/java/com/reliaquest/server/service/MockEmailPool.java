@@ -0,0 +1,38 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.config.ServerConfiguration;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+import lombok.NonNull;
+import net.datafaker.Faker;
+
+/**
+ * Fixed pool of fake email addresses, generated once with {@link Faker} and then handed out at random.
+ *
+ * <p>A shared Faker resolves every value through expression parsing and a single random source, so calling it from
+ * each create would serialize concurrent requests on it. Drawing from the pool costs one thread-local random number.
+ */
+public class MockEmailPool {
+
+    public static final int DEFAULT_SIZE = 4096;
+
+    private final String[] emails;
+
+    /**
+     * @param size number of addresses generated up front; addresses repeat once more employees than this are created
+     */
+    public MockEmailPool(@NonNull Faker faker, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be positive: " + size);
+        }
+        this.emails = IntStream.range(0, size)
+                .mapToObj(ignored -> ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                        faker.twitter().userName().toLowerCase(Locale.ROOT)))
+                .toArray(String[]::new);
+    }
+
+    public String next() {
+        return emails[ThreadLocalRandom.current().nextInt(emails.length)];
+    }
+}
@@ -0,0 +1,160 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.store.MockEmployeeChangeLog;
+import com.reliaquest.server.store.MockEmployeeStore;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes roster changes to Server-Sent Events subscribers. Every subscriber has its own virtual sender thread that
+ * waits on the change log and forwards the changes after its own cursor, so a slow client only holds up its own
+ * stream. The retained change log is each subscriber's bounded backlog: one that falls behind it gets a
+ * {@code truncated} event and is completed, and should resync from the full roster. Events are named after the change
+ * type and carry its sequence as their id.
+ */
+@Slf4j
+@Service
+public class MockEmployeeChangeStream {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final MockEmployeeChangeLog changeLog;
+    private final Duration heartbeatInterval;
+    private final Duration streamTimeout;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    public MockEmployeeChangeStream(
+            MockEmployeeStore mockEmployeeStore,
+            @Value("${mock.employees.changes.heartbeat-interval:PT15S}") Duration heartbeatInterval,
+            @Value("${mock.employees.changes.stream-timeout:PT30M}") Duration streamTimeout) {
+        this.changeLog = mockEmployeeStore.changeLog();
+        this.heartbeatInterval = heartbeatInterval;
+        this.streamTimeout = streamTimeout;
+    }
+
+    /**
+     * @param since sequence of the last change already applied, or null to receive only changes made from now on
+     */
+    public SseEmitter subscribe(Long since) {
+        final var emitter = new SseEmitter(streamTimeout.toMillis());
+        final var subscriber = new Subscriber(emitter, since != null ? since : changeLog.latestSequence());
+        emitter.onCompletion(subscriber::stop);
+        emitter.onTimeout(subscriber::stop);
+        emitter.onError(e -> subscriber.stop());
+        subscribers.add(subscriber);
+        subscriber.start();
+        return emitter;
+    }
+
+    @PreDestroy
+    void stop() {
+        for (final var subscriber : subscribers) {
+            subscriber.stop();
+            subscriber.emitter().complete();
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        // Only read and written by the sender thread
+        private long cursor;
+        private volatile Thread sender;
+        private volatile boolean stopped;
+
+        private Subscriber(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+
+        void start() {
+            sender = Thread.ofVirtual().name("employee-change-stream").start(this::run);
+        }
+
+        void stop() {
+            stopped = true;
+            subscribers.remove(this);
+            final var thread = sender;
+            if (thread != null && thread != Thread.currentThread()) {
+                thread.interrupt();
+            }
+        }
+
+        private void run() {
+            var idleSince = System.nanoTime();
+            while (!stopped) {
+                try {
+                    changeLog.await(cursor, heartbeatInterval);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (forward()) {
+                    idleSince = System.nanoTime();
+                } else if (!stopped && System.nanoTime() - idleSince >= heartbeatInterval.toNanos()) {
+                    heartbeat();
+                    idleSince = System.nanoTime();
+                }
+            }
+        }
+
+        /**
+         * @return whether any event was sent
+         */
+        private boolean forward() {
+            try {
+                var sent = false;
+                while (!stopped) {
+                    final var changes = changeLog.since(cursor, BATCH_SIZE);
+                    if (changes.truncated()) {
+                        emitter.send(SseEmitter.event().name("truncated").data(changes, MediaType.APPLICATION_JSON));
+                        stop();
+                        emitter.complete();
+                        return true;
+                    }
+                    if (changes.changes().isEmpty()) {
+                        return sent;
+                    }
+                    for (final MockEmployeeChange change : changes.changes()) {
+                        emitter.send(SseEmitter.event()
+                                .id(Long.toString(change.sequence()))
+                                .name(change.type().name())
+                                .data(change, MediaType.APPLICATION_JSON));
+                    }
+                    cursor = changes.sequence();
+                    sent = true;
+                }
+                return sent;
+            } catch (IOException | IllegalStateException e) {
+                drop(e);
+                return true;
+            }
+        }
+
+        private void heartbeat() {
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                drop(e);
+            }
+        }
+
+        private void drop(Exception e) {
+            log.debug("Dropping change stream subscriber: {}", e.toString());
+            stop();
+            emitter.completeWithError(e);
+        }
+    }
+}
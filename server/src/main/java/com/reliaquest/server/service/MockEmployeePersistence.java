@@ -0,0 +1,211 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.MockEmployeeJournal;
+import com.reliaquest.server.store.MockEmployeeSnapshotFile;
+import com.reliaquest.server.store.MockEmployeeStore;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the roster across restarts, as a {@link MockEmployeeSnapshotFile} and a {@link MockEmployeeJournal} of the
+ * changes made since, both in one directory.
+ *
+ * <p>At startup {@link #load()} restores the roster from the snapshot and the journal, and once the store is built
+ * {@link #start} compacts a non-empty journal into a new snapshot. While the server runs, one daemon thread follows the
+ * store's change log and appends each batch of changes to the journal, so writes never wait on the disk. A writer that
+ * falls behind the retained change log compacts instead, and {@link #close()} compacts a last time on shutdown.
+ */
+@Slf4j
+public class MockEmployeePersistence implements Closeable {
+
+    private static final String SNAPSHOT_FILE = "roster.snapshot";
+    private static final String JOURNAL_FILE = "roster.journal";
+    private static final int BATCH_SIZE = 1000;
+    private static final Duration IDLE_WAIT = Duration.ofSeconds(1);
+
+    private final Path snapshotFile;
+    private final Path journalFile;
+    // A lock rather than a monitor, so a virtual thread waiting on the disk while holding it does not pin its carrier
+    private final ReentrantLock lock = new ReentrantLock();
+    private MockEmployeeStore store;
+    private long seed;
+    private MockEmployeeSnapshotFile.Contents loaded;
+    private boolean journalReplayed;
+    private MockEmployeeJournal journal;
+    private long journaled;
+    private volatile boolean running;
+    private Thread writer;
+
+    public MockEmployeePersistence(@NonNull Path directory) throws IOException {
+        Files.createDirectories(directory);
+        this.snapshotFile = directory.resolve(SNAPSHOT_FILE);
+        this.journalFile = directory.resolve(JOURNAL_FILE);
+    }
+
+    /**
+     * @return the persisted roster, with the seed it was originally generated from, or empty if none was written yet
+     */
+    public Optional<MockEmployeeSnapshotFile.Contents> load() throws IOException {
+        lock.lock();
+        try {
+            return loadLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Optional<MockEmployeeSnapshotFile.Contents> loadLocked() throws IOException {
+        if (!Files.isRegularFile(snapshotFile)) {
+            return Optional.empty();
+        }
+        final var snapshot = MockEmployeeSnapshotFile.read(snapshotFile);
+        loaded = snapshot;
+        journalReplayed = false;
+        // Re-keying a large roster is not free, so it is only done when there is a journal to replay onto it
+        if (MockEmployeeJournal.hasRecords(journalFile)) {
+            final var roster = new LinkedHashMap<UUID, MockEmployee>();
+            snapshot.employees().forEach(employee -> roster.put(employee.getId(), employee));
+            final var replayed = MockEmployeeJournal.replay(journalFile, snapshot.generation(), roster);
+            if (replayed > 0) {
+                log.info(
+                        "Replayed {} journaled roster changes onto {} snapshotted employees",
+                        replayed,
+                        snapshot.employees().size());
+                loaded = new MockEmployeeSnapshotFile.Contents(
+                        snapshot.generation(), snapshot.seed(), new ArrayList<>(roster.values()));
+                journalReplayed = true;
+            }
+        }
+        return Optional.of(loaded);
+    }
+
+    /**
+     * Starts journaling the changes made to the store, whose employees came from {@link #load()} or were seeded.
+     *
+     * @param seed seed the roster was generated from, recorded in every snapshot
+     */
+    public void start(@NonNull MockEmployeeStore store, long seed) throws IOException {
+        lock.lock();
+        try {
+            this.store = store;
+            this.seed = seed;
+            if (loaded != null && !journalReplayed) {
+                journal = MockEmployeeJournal.create(journalFile, loaded.generation());
+                journaled = store.version();
+            } else {
+                compact();
+            }
+            loaded = null;
+            running = true;
+            writer = Thread.ofPlatform().name("employee-journal").daemon().start(this::follow);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        final Thread stopping;
+        lock.lock();
+        try {
+            if (!running) {
+                return;
+            }
+            running = false;
+            stopping = writer;
+        } finally {
+            lock.unlock();
+        }
+        store.changeLog().wakeUp();
+        try {
+            stopping.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        lock.lock();
+        try {
+            compact();
+            journal.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void follow() {
+        final var changeLog = store.changeLog();
+        while (running) {
+            try {
+                changeLog.await(journaled, IDLE_WAIT);
+                drain();
+            } catch (InterruptedException e) {
+                return;
+            } catch (IOException e) {
+                log.warn("Could not journal roster changes: {}", e.toString());
+                try {
+                    Thread.sleep(IDLE_WAIT);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void drain() throws IOException {
+        lock.lock();
+        try {
+            drainLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void drainLocked() throws IOException {
+        while (running) {
+            final var changes = store.changeLog().since(journaled, BATCH_SIZE);
+            if (changes.truncated()) {
+                log.info("Roster journal fell behind the change log; compacting it into a new snapshot");
+                compact();
+                continue;
+            }
+            if (changes.changes().isEmpty()) {
+                return;
+            }
+            journal.append(changes.changes());
+            journaled = changes.sequence();
+        }
+    }
+
+    /**
+     * Writes the roster to a new snapshot and starts an empty journal after it. The version is read first, so any
+     * write racing with the snapshot is at worst replayed onto a roster that already reflects it, which is harmless.
+     */
+    private void compact() throws IOException {
+        final var started = System.nanoTime();
+        final var version = store.version();
+        final var employees = store.snapshot();
+        final var generation = ThreadLocalRandom.current().nextLong();
+        if (journal != null) {
+            journal.close();
+        }
+        MockEmployeeSnapshotFile.write(snapshotFile, generation, seed, employees);
+        journal = MockEmployeeJournal.create(journalFile, generation);
+        journaled = version;
+        log.info(
+                "Wrote snapshot of {} mock employees to {} in {} ms",
+                employees.size(),
+                snapshotFile,
+                Duration.ofNanos(System.nanoTime() - started).toMillis());
+    }
+}
@@ -0,0 +1,96 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import lombok.NonNull;
+import net.datafaker.Faker;
+
+/**
+ * Generates the startup roster from a seed, fast enough for rosters of millions of employees.
+ *
+ * <p>{@link Faker} is only called up front, to fill small pools of first names, last names, titles and email addresses
+ * from a Faker seeded with the roster seed. Employees are then assembled from the pools without reflection, in
+ * fixed-size chunks generated in parallel, each with its own {@link SplittableRandom} derived from the seed and the
+ * chunk index. Every chunk fills its own range of the roster, so for a given locale the same seed always yields the
+ * same employees in the same order, however many threads generate them. The roster is generated in
+ * {@link #DEFAULT_LOCALE} unless another locale is asked for, so a seed reproduces it whatever the default locale of
+ * the machine.
+ */
+public class MockEmployeeSeeder {
+
+    public static final Locale DEFAULT_LOCALE = Locale.ENGLISH;
+
+    static final int CHUNK_SIZE = 4096;
+    private static final int NAME_POOL_SIZE = 1024;
+    private static final int TITLE_POOL_SIZE = 256;
+
+    private final long seed;
+    private final String[] firstNames;
+    private final String[] lastNames;
+    private final String[] titles;
+    private final String[] emails;
+
+    public MockEmployeeSeeder(long seed) {
+        this(seed, DEFAULT_LOCALE);
+    }
+
+    public MockEmployeeSeeder(long seed, @NonNull Locale locale) {
+        this.seed = seed;
+        final var faker = new Faker(locale, new Random(seed));
+        this.firstNames = pool(NAME_POOL_SIZE, () -> faker.name().firstName());
+        this.lastNames = pool(NAME_POOL_SIZE, () -> faker.name().lastName());
+        this.titles = pool(TITLE_POOL_SIZE, () -> faker.job().title());
+        this.emails = pool(
+                MockEmailPool.DEFAULT_SIZE,
+                () -> ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                        faker.twitter().userName().toLowerCase(Locale.ROOT)));
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    /**
+     * @return {@code count} employees, generated on the common fork-join pool
+     */
+    public List<MockEmployee> generate(int count) {
+        final var employees = new MockEmployee[count];
+        final var chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        // Seeds a fixed stride apart would give overlapping streams, since SplittableRandom advances by a fixed stride
+        final var chunkSeeds = new SplittableRandom(seed).longs(chunks).toArray();
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            final var random = new SplittableRandom(chunkSeeds[chunk]);
+            final var to = Math.min(count, (chunk + 1) * CHUNK_SIZE);
+            for (var i = chunk * CHUNK_SIZE; i < to; i++) {
+                employees[i] = employee(random);
+            }
+        });
+        return Arrays.asList(employees);
+    }
+
+    private MockEmployee employee(SplittableRandom random) {
+        return MockEmployee.builder()
+                .id(MockEmployee.randomId(random))
+                .name(pick(firstNames, random) + " " + pick(lastNames, random))
+                .salary(random.nextInt(30000, 500000))
+                .age(random.nextInt(16, 70))
+                .title(pick(titles, random))
+                .email(pick(emails, random))
+                .build();
+    }
+
+    private static String pick(String[] pool, SplittableRandom random) {
+        return pool[random.nextInt(pool.length)];
+    }
+
+    private static String[] pool(int size, Supplier<String> value) {
+        return IntStream.range(0, size).mapToObj(ignored -> value.get()).toArray(String[]::new);
+    }
+}
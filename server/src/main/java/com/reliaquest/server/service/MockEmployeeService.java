@@ -1,18 +1,22 @@
 package com.reliaquest.server.service;
 
-import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.model.BatchItemResult;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.model.MockEmployeePage;
+import com.reliaquest.server.store.MockEmployeeStore;
+import com.reliaquest.server.store.Versioned;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.datafaker.Faker;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -20,39 +24,106 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class MockEmployeeService {
 
-    private final Faker faker;
+    private final MockEmailPool emailPool;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final MockEmployeeStore mockEmployeeStore;
+
+    private final Validator validator;
+
+    public Versioned<List<MockEmployee>> getMockEmployees() {
+        return mockEmployeeStore.versionedSnapshot();
+    }
+
+    /**
+     * @param cursor opaque cursor from the previous page's {@code nextCursor}, or null for the first page
+     * @throws IllegalArgumentException if the cursor was not issued by this server
+     */
+    public Versioned<MockEmployeePage> getMockEmployees(String cursor, int limit) {
+        final long afterSequence;
+        try {
+            afterSequence = cursor == null || cursor.isBlank() ? 0L : Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+        return mockEmployeeStore.versionedPage(afterSequence, limit);
+    }
+
+    /**
+     * @param since sequence of the last change already applied, or null to learn the latest sequence only
+     * @return up to {@code limit} roster changes made after {@code since}
+     */
+    public MockEmployeeChanges getChanges(Long since, int limit) {
+        return mockEmployeeStore.changeLog().since(since, limit);
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return mockEmployeeStore.findById(uuid);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
-        final var mockEmployee = MockEmployee.from(
-                ServerConfiguration.EMAIL_TEMPLATE.formatted(
-                        faker.twitter().userName().toLowerCase()),
-                input);
-        mockEmployees.add(mockEmployee);
+        final var mockEmployee = MockEmployee.from(emailPool.next(), input);
+        mockEmployeeStore.add(mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
-        if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
-            return true;
+        final var mockEmployee = mockEmployeeStore.removeFirstByName(input.getName());
+        mockEmployee.ifPresent(employee -> log.debug("Removed employee: {}", employee));
+        return mockEmployee.isPresent();
+    }
+
+    public Optional<MockEmployee> deleteById(@NonNull UUID uuid) {
+        final var mockEmployee = mockEmployeeStore.remove(uuid);
+        mockEmployee.ifPresent(employee -> log.debug("Removed employee: {}", employee));
+        return mockEmployee;
+    }
+
+    /**
+     * Creates every valid input; invalid inputs are reported in their result without failing the rest of the batch.
+     */
+    public List<BatchItemResult<MockEmployee>> createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        final var results = new ArrayList<BatchItemResult<MockEmployee>>(inputs.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            final var input = inputs.get(i);
+            final var violations = input == null ? "must not be null" : violations(input);
+            results.add(
+                    violations == null
+                            ? BatchItemResult.success(i, create(input))
+                            : BatchItemResult.failure(i, violations));
         }
+        return results;
+    }
 
-        return false;
+    /**
+     * Deletes the first employee matching each name, ignoring case, and reports the deleted employee per item.
+     */
+    public List<BatchItemResult<MockEmployee>> deleteAll(@NonNull List<DeleteMockEmployeeInput> inputs) {
+        final var results = new ArrayList<BatchItemResult<MockEmployee>>(inputs.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            final var input = inputs.get(i);
+            final var violations = input == null ? "must not be null" : violations(input);
+            if (violations != null) {
+                results.add(BatchItemResult.failure(i, violations));
+                continue;
+            }
+            final var index = i;
+            final var deleted = mockEmployeeStore.removeFirstByName(input.getName());
+            deleted.ifPresent(employee -> log.debug("Removed employee: {}", employee));
+            results.add(deleted.map(employee -> BatchItemResult.success(index, employee))
+                    .orElseGet(() -> BatchItemResult.failure(index, "No employee named " + input.getName())));
+        }
+        return results;
+    }
+
+    private <T> String violations(T input) {
+        final var violations = validator.validate(input);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
     }
 }
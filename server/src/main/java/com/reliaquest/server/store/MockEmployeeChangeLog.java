@@ -0,0 +1,152 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongFunction;
+
+/**
+ * Bounded log of roster changes, numbered by the roster version each change produced. Sequences are contiguous, so
+ * the log is a ring buffer indexed by sequence; once it is full, every append drops the oldest change.
+ *
+ * <p>Appends take no lock. A writer claims the next sequence from a counter, stores its change in that sequence's
+ * slot and then moves the published sequence past every filled slot, its own and those of writers that finished out
+ * of order, so readers only ever see a contiguous run of changes. The lock is only taken to wake up threads waiting
+ * in {@link #await}, and only while there are any.
+ */
+public class MockEmployeeChangeLog {
+
+    private final String id;
+    private final AtomicReferenceArray<MockEmployeeChange> ring;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicInteger waiters = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+
+    MockEmployeeChangeLog(String id, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.id = id;
+        this.ring = new AtomicReferenceArray<>(capacity);
+    }
+
+    public String id() {
+        return id;
+    }
+
+    /**
+     * @return the sequence of the last change readers can see; every change up to it has been appended
+     */
+    public long latestSequence() {
+        return published.get();
+    }
+
+    /**
+     * Numbers a change with the next sequence and appends it.
+     *
+     * @param change builds the change from its sequence
+     * @return the sequence of the change
+     */
+    long append(LongFunction<MockEmployeeChange> change) {
+        final var sequence = claimed.incrementAndGet();
+        // The slot is reused from the change a ring length earlier, which must be stored before it is overwritten
+        while (published.get() < sequence - ring.length()) {
+            Thread.onSpinWait();
+        }
+        ring.set(slot(sequence), change.apply(sequence));
+        publish();
+        if (waiters.get() > 0) {
+            wakeUp();
+        }
+        return sequence;
+    }
+
+    private void publish() {
+        var latest = published.get();
+        while (true) {
+            final var next = ring.get(slot(latest + 1));
+            if (next == null || next.sequence() != latest + 1) {
+                return;
+            }
+            if (published.compareAndSet(latest, latest + 1)) {
+                latest++;
+            } else {
+                latest = published.get();
+            }
+        }
+    }
+
+    /**
+     * @param since sequence of the last change already seen, or null for none; without it the reply holds no changes
+     *     and only reports the latest sequence
+     * @return up to {@code limit} changes made after {@code since}, oldest first
+     */
+    public MockEmployeeChanges since(Long since, int limit) {
+        final var latest = published.get();
+        if (since == null) {
+            return new MockEmployeeChanges(id, latest, latest, false, List.of());
+        }
+        if (since < latest - ring.length() || since > latest) {
+            return new MockEmployeeChanges(id, since, latest, true, List.of());
+        }
+        final var to = Math.min(latest, since + limit);
+        final var changes = new ArrayList<MockEmployeeChange>((int) (to - since));
+        for (var sequence = since + 1; sequence <= to; sequence++) {
+            final var change = ring.get(slot(sequence));
+            // Overwritten by a later append while this read was running
+            if (change.sequence() != sequence) {
+                return new MockEmployeeChanges(id, since, published.get(), true, List.of());
+            }
+            changes.add(change);
+        }
+        return new MockEmployeeChanges(id, to, latest, false, changes);
+    }
+
+    /**
+     * Waits until a change after {@code since} is appended, {@link #wakeUp()} is called or the timeout passes.
+     *
+     * @return whether there are changes after {@code since}
+     */
+    public boolean await(long since, Duration timeout) throws InterruptedException {
+        if (published.get() > since) {
+            return true;
+        }
+        // Counted before the check under the lock, so an append that publishes after the check sees the waiter
+        waiters.incrementAndGet();
+        lock.lock();
+        try {
+            if (published.get() <= since) {
+                appended.awaitNanos(timeout.toNanos());
+            }
+            return published.get() > since;
+        } finally {
+            lock.unlock();
+            waiters.decrementAndGet();
+        }
+    }
+
+    /**
+     * Wakes up every thread waiting in {@link #await}, e.g. to let it pick up new readers.
+     */
+    public void wakeUp() {
+        lock.lock();
+        try {
+            appended.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int slot(long sequence) {
+        return (int) Math.floorMod(sequence, (long) ring.length());
+    }
+}
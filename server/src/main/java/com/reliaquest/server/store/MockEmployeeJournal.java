@@ -0,0 +1,216 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32;
+import lombok.NonNull;
+
+/**
+ * Append-only journal of the creates and deletes made since a {@link MockEmployeeSnapshotFile} was written. A create
+ * record carries the whole employee and a delete record only the id, so replaying the journal in order onto the
+ * snapshot restores the roster. Replay is idempotent: ids are never reused, so repeating a create or a delete the
+ * snapshot already reflects changes nothing.
+ *
+ * <p>The header repeats the generation of the snapshot the journal follows, and a journal of any other generation is
+ * not replayed, so a journal left over from an older snapshot cannot be applied to a newer one. Records are appended
+ * in batches, each synced to the device before the next. Every record is framed by its length and a CRC-32 of its
+ * body, so a record cut short or garbled by a crash ends the replay, keeping every record before it.
+ */
+public final class MockEmployeeJournal implements Closeable {
+
+    private static final int MAGIC = 0x4D454D4A; // "MEMJ"
+    private static final int FORMAT_VERSION = 2;
+    // magic, format version, generation
+    private static final int HEADER_SIZE = 16;
+    // body length, CRC-32 of the body
+    private static final int FRAME_SIZE = 8;
+    // type, id
+    private static final int MIN_BODY_SIZE = 17;
+    private static final byte CREATED = 1;
+    private static final byte DELETED = 2;
+    private static final int NULL_STRING = -1;
+
+    private final FileChannel channel;
+    private final ByteArrayOutputStream batch = new ByteArrayOutputStream(64 * 1024);
+    private final DataOutputStream out = new DataOutputStream(batch);
+    private final List<Integer> frames = new ArrayList<>();
+    private final CRC32 crc = new CRC32();
+
+    private MockEmployeeJournal(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Starts an empty journal following the snapshot of the given generation, replacing any journal in the file. The
+     * header is synced, along with the directory entry of a new file, before this returns.
+     */
+    public static MockEmployeeJournal create(@NonNull Path file, long generation) throws IOException {
+        final var channel = FileChannel.open(
+                file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        try {
+            final var header = ByteBuffer.allocate(HEADER_SIZE)
+                    .putInt(MAGIC)
+                    .putInt(FORMAT_VERSION)
+                    .putLong(generation)
+                    .flip();
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            channel.force(false);
+            MockEmployeeSnapshotFile.forceDirectory(file);
+            return new MockEmployeeJournal(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return whether the file holds a journal with at least one record, of whatever generation
+     */
+    public static boolean hasRecords(@NonNull Path file) throws IOException {
+        return Files.isRegularFile(file) && Files.size(file) > HEADER_SIZE;
+    }
+
+    /**
+     * Applies the journal in the file to a roster restored from the snapshot of the given generation.
+     *
+     * @param roster employees by id, in roster order; created employees are appended to it
+     * @return number of records applied, or -1 if there is no journal of that generation
+     */
+    public static long replay(@NonNull Path file, long generation, @NonNull Map<UUID, MockEmployee> roster)
+            throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return -1;
+        }
+        final ByteBuffer buffer;
+        try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.remaining() < HEADER_SIZE
+                || buffer.getInt() != MAGIC
+                || buffer.getInt() != FORMAT_VERSION
+                || buffer.getLong() != generation) {
+            return -1;
+        }
+        var applied = 0L;
+        final var crc = new CRC32();
+        try {
+            while (buffer.remaining() >= FRAME_SIZE) {
+                final var length = buffer.getInt();
+                final var checksum = buffer.getInt();
+                if (length < MIN_BODY_SIZE || length > buffer.remaining()) {
+                    break;
+                }
+                final var body = buffer.slice(buffer.position(), length);
+                buffer.position(buffer.position() + length);
+                crc.reset();
+                crc.update(body);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                body.rewind();
+                final var type = body.get();
+                final var id = new UUID(body.getLong(), body.getLong());
+                if (type == CREATED) {
+                    final var salary = body.getInt();
+                    final var age = body.getInt();
+                    final var employee = new MockEmployee(id, string(body), salary, age, string(body), string(body));
+                    roster.remove(id);
+                    roster.put(id, employee);
+                } else if (type == DELETED) {
+                    roster.remove(id);
+                } else {
+                    break;
+                }
+                applied++;
+            }
+        } catch (BufferUnderflowException e) {
+            // A record whose checksum matched but whose body is malformed; treated like a torn one
+        }
+        return applied;
+    }
+
+    /**
+     * Appends the changes in one write, synced to the device before this returns.
+     */
+    public void append(@NonNull List<MockEmployeeChange> changes) throws IOException {
+        batch.reset();
+        frames.clear();
+        for (final var change : changes) {
+            // The frame is filled in once the body is written
+            frames.add(batch.size());
+            out.writeLong(0);
+            final var id = change.id();
+            if (change.type() == MockEmployeeChange.Type.CREATED) {
+                final var employee = change.employee();
+                out.writeByte(CREATED);
+                out.writeLong(id.getMostSignificantBits());
+                out.writeLong(id.getLeastSignificantBits());
+                out.writeInt(employee.getSalary());
+                out.writeInt(employee.getAge());
+                writeString(employee.getName());
+                writeString(employee.getTitle());
+                writeString(employee.getEmail());
+            } else {
+                out.writeByte(DELETED);
+                out.writeLong(id.getMostSignificantBits());
+                out.writeLong(id.getLeastSignificantBits());
+            }
+        }
+        out.flush();
+        final var bytes = ByteBuffer.wrap(batch.toByteArray());
+        for (var i = 0; i < frames.size(); i++) {
+            final int frame = frames.get(i);
+            final var body = frame + FRAME_SIZE;
+            final var length = (i + 1 < frames.size() ? frames.get(i + 1) : bytes.limit()) - body;
+            crc.reset();
+            crc.update(bytes.array(), body, length);
+            bytes.putInt(frame, length).putInt(frame + Integer.BYTES, (int) crc.getValue());
+        }
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        channel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void writeString(String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_STRING);
+            return;
+        }
+        final var bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String string(ByteBuffer buffer) {
+        final var length = buffer.getInt();
+        if (length == NULL_STRING) {
+            return null;
+        }
+        final var bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,239 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import lombok.NonNull;
+
+/**
+ * Compact binary image of a roster, read back through a memory mapping.
+ *
+ * <p>After a fixed header the file holds one fixed-width column per field: both halves of every id, the salaries and
+ * the ages, then for names, titles and emails an index into a table of distinct strings. The table is a column of
+ * offsets into a heap of UTF-8 bytes, so a string shared by many employees is stored and decoded once. Reading maps
+ * the file and decodes the table, then the employees, in parallel straight from the columns; there is nothing to
+ * parse. A missing string is stored as index -1.
+ *
+ * <p>A snapshot is written to a temporary file that then atomically replaces the previous one, so a crash mid-write
+ * leaves the previous snapshot intact. The file is synced before the move and its directory after it, so once
+ * {@link #write} returns the new snapshot survives a crash. Each snapshot carries a random generation, which the {@link MockEmployeeJournal}
+ * following it repeats.
+ */
+public final class MockEmployeeSnapshotFile {
+
+    private static final int MAGIC = 0x4D454D53; // "MEMS"
+    private static final int FORMAT_VERSION = 1;
+    // magic, format version, generation, seed, employee count, string count, heap length
+    private static final int HEADER_SIZE = 40;
+    // id halves, salary, age, name, title, email
+    private static final int ROW_SIZE = 2 * Long.BYTES + 5 * Integer.BYTES;
+    private static final int NULL_STRING = -1;
+
+    /**
+     * @param generation random number identifying this snapshot
+     * @param seed seed the roster was originally generated from
+     */
+    public record Contents(long generation, long seed, List<MockEmployee> employees) {}
+
+    private MockEmployeeSnapshotFile() {}
+
+    public static void write(@NonNull Path file, long generation, long seed, @NonNull List<MockEmployee> employees)
+            throws IOException {
+        final var count = employees.size();
+        final var strings = new StringTable();
+        final var names = new int[count];
+        final var titles = new int[count];
+        final var emails = new int[count];
+        for (var i = 0; i < count; i++) {
+            final var employee = employees.get(i);
+            names[i] = strings.indexOf(employee.getName());
+            titles[i] = strings.indexOf(employee.getTitle());
+            emails[i] = strings.indexOf(employee.getEmail());
+        }
+        final var layout = new Layout(count, strings.values.size(), strings.heapLength);
+        if (layout.size() > Integer.MAX_VALUE) {
+            throw new IOException("Roster of " + count + " employees is too large for a snapshot file");
+        }
+
+        final var temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (final var channel = FileChannel.open(
+                temporary,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            final var buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, layout.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(0, MAGIC)
+                    .putInt(4, FORMAT_VERSION)
+                    .putLong(8, generation)
+                    .putLong(16, seed)
+                    .putInt(24, count)
+                    .putInt(28, strings.values.size())
+                    .putLong(32, strings.heapLength);
+            for (var i = 0; i < count; i++) {
+                final var employee = employees.get(i);
+                buffer.putLong(layout.idHigh(i), employee.getId().getMostSignificantBits());
+                buffer.putLong(layout.idLow(i), employee.getId().getLeastSignificantBits());
+                buffer.putInt(layout.salary(i), employee.getSalary());
+                buffer.putInt(layout.age(i), employee.getAge());
+                buffer.putInt(layout.name(i), names[i]);
+                buffer.putInt(layout.title(i), titles[i]);
+                buffer.putInt(layout.email(i), emails[i]);
+            }
+            var heapOffset = 0;
+            for (var s = 0; s < strings.values.size(); s++) {
+                final var bytes = strings.values.get(s);
+                buffer.putInt(layout.stringOffset(s), heapOffset);
+                buffer.put(layout.heap() + heapOffset, bytes);
+                heapOffset += bytes.length;
+            }
+            buffer.putInt(layout.stringOffset(strings.values.size()), heapOffset);
+            buffer.force();
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        forceDirectory(file);
+    }
+
+    /**
+     * Syncs the directory holding a file, so that creating, renaming or replacing the file survives a crash. Platforms
+     * that cannot open a directory, such as Windows, make the change as durable as they allow without it.
+     */
+    static void forceDirectory(Path file) {
+        final var directory = file.toAbsolutePath().getParent();
+        try (final var channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Not supported on this platform
+        }
+    }
+
+    public static Contents read(@NonNull Path file) throws IOException {
+        final MappedByteBuffer buffer;
+        try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE || channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Not a roster snapshot: " + file);
+            }
+            // The mapping stays valid once the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION) {
+            throw new IOException("Not a roster snapshot: " + file);
+        }
+        final var count = buffer.getInt(24);
+        final var layout = new Layout(count, buffer.getInt(28), buffer.getLong(32));
+        if (count < 0 || layout.stringCount() < 0 || layout.size() != buffer.capacity()) {
+            throw new IOException("Truncated roster snapshot: " + file);
+        }
+
+        final var strings = new String[layout.stringCount()];
+        IntStream.range(0, strings.length).parallel().forEach(s -> {
+            final var from = buffer.getInt(layout.stringOffset(s));
+            final var bytes = new byte[buffer.getInt(layout.stringOffset(s + 1)) - from];
+            buffer.get(layout.heap() + from, bytes);
+            strings[s] = new String(bytes, StandardCharsets.UTF_8);
+        });
+        final var employees = new MockEmployee[count];
+        IntStream.range(0, count).parallel().forEach(i -> {
+            employees[i] = new MockEmployee(
+                    new UUID(buffer.getLong(layout.idHigh(i)), buffer.getLong(layout.idLow(i))),
+                    string(strings, buffer.getInt(layout.name(i))),
+                    buffer.getInt(layout.salary(i)),
+                    buffer.getInt(layout.age(i)),
+                    string(strings, buffer.getInt(layout.title(i))),
+                    string(strings, buffer.getInt(layout.email(i))));
+        });
+        return new Contents(buffer.getLong(8), buffer.getLong(16), Arrays.asList(employees));
+    }
+
+    private static String string(String[] strings, int index) {
+        return index != NULL_STRING ? strings[index] : null;
+    }
+
+    /**
+     * Offsets of every column. Columns follow each other in field order, the long columns first so they stay aligned.
+     */
+    private record Layout(int count, int stringCount, long heapLength) {
+
+        int idHigh(int i) {
+            return HEADER_SIZE + i * Long.BYTES;
+        }
+
+        int idLow(int i) {
+            return HEADER_SIZE + (count + i) * Long.BYTES;
+        }
+
+        int salary(int i) {
+            return intColumn(0, i);
+        }
+
+        int age(int i) {
+            return intColumn(1, i);
+        }
+
+        int name(int i) {
+            return intColumn(2, i);
+        }
+
+        int title(int i) {
+            return intColumn(3, i);
+        }
+
+        int email(int i) {
+            return intColumn(4, i);
+        }
+
+        /**
+         * @return offset of the start of string {@code s} in the heap; string {@code stringCount} marks its end
+         */
+        int stringOffset(int s) {
+            return intColumn(5, s);
+        }
+
+        int heap() {
+            return stringOffset(stringCount + 1);
+        }
+
+        long size() {
+            return HEADER_SIZE + (long) count * ROW_SIZE + (stringCount + 1L) * Integer.BYTES + heapLength;
+        }
+
+        private int intColumn(int column, int i) {
+            return HEADER_SIZE + 2 * count * Long.BYTES + (column * count + i) * Integer.BYTES;
+        }
+    }
+
+    private static final class StringTable {
+
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final List<byte[]> values = new ArrayList<>();
+        private long heapLength;
+
+        int indexOf(String value) {
+            if (value == null) {
+                return NULL_STRING;
+            }
+            return indexes.computeIfAbsent(value, ignored -> {
+                final var bytes = value.getBytes(StandardCharsets.UTF_8);
+                values.add(bytes);
+                heapLength += bytes.length;
+                return values.size() - 1;
+            });
+        }
+    }
+}
@@ -0,0 +1,413 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.model.MockEmployeePage;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongFunction;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import lombok.NonNull;
+
+/**
+ * Thread-safe, indexed employee store.
+ *
+ * <p>Employees are split over shards by id hash, each a {@link ConcurrentHashMap} with its own write lock, so lookups
+ * by id are lock-free and writes to different shards run in parallel. The lower-cased name index used for deletes is
+ * striped the same way by name hash. A write holds its employee's shard lock, then at most one name stripe, always in
+ * that order, and is numbered without any further lock. Listing returns an immutable copy-on-write snapshot in
+ * insertion order that is only rebuilt after the roster has changed.
+ *
+ * <p>The employees the store is created with are loaded in bulk as roster version 0: their snapshot is built up front
+ * and none of them is recorded as a change. Every add and remove is appended to a bounded {@link MockEmployeeChangeLog},
+ * and the roster version is the log's latest sequence, which {@link #versionedSnapshot()} and {@link #versionedPage}
+ * hand out as a validator so callers can tell an unchanged roster apart without comparing employees. The log numbers
+ * changes from an atomic counter, so change sequences always match roster versions; the shard lock held meanwhile
+ * keeps the changes to any one employee in the order they were made.
+ */
+public class MockEmployeeStore {
+
+    public static final int DEFAULT_CHANGE_LOG_CAPACITY = 10_000;
+
+    private final Shard[] shards;
+    private final NameStripe[] nameStripes;
+    private final AtomicLong sequence = new AtomicLong();
+    private final long epoch = System.currentTimeMillis();
+    private final Instant loadedAt = Instant.now();
+    private final AtomicReference<Snapshot> snapshot =
+            new AtomicReference<>(new Snapshot(-1, loadedAt, List.of(), new long[0]));
+    private final MockEmployeeChangeLog changeLog;
+
+    public MockEmployeeStore(@NonNull Collection<MockEmployee> employees) {
+        this(employees, DEFAULT_CHANGE_LOG_CAPACITY);
+    }
+
+    /**
+     * @param changeLogCapacity most changes the change log retains
+     */
+    public MockEmployeeStore(@NonNull Collection<MockEmployee> employees, int changeLogCapacity) {
+        this(employees, changeLogCapacity, defaultShardCount());
+    }
+
+    /**
+     * @param changeLogCapacity most changes the change log retains
+     * @param shardCount number of id shards and name stripes; 1 serializes all writes
+     */
+    public MockEmployeeStore(@NonNull Collection<MockEmployee> employees, int changeLogCapacity, int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("shardCount must be positive: " + shardCount);
+        }
+        this.shards = new Shard[shardCount];
+        this.nameStripes = new NameStripe[shardCount];
+        for (var i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(employees.size() / shardCount + 1);
+            nameStripes[i] = new NameStripe(employees.size() / shardCount + 1);
+        }
+        this.changeLog = new MockEmployeeChangeLog(Long.toHexString(epoch), changeLogCapacity);
+        load(employees);
+    }
+
+    /**
+     * Loads the initial roster before the store is published, so without locks: employees are numbered in order and
+     * bucketed by shard and by name stripe, then each shard and each stripe is filled by its own task. A repeated id
+     * keeps its last employee, as with {@link #add}.
+     */
+    private void load(Collection<MockEmployee> employees) {
+        final var entries = new Entry[employees.size()];
+        var next = 0;
+        for (final var employee : employees) {
+            Objects.requireNonNull(employee.getId(), "id");
+            entries[next] = new Entry(next + 1L, employee);
+            next++;
+        }
+        sequence.set(entries.length);
+
+        final var byShard = bucket(
+                entries.length,
+                shards.length,
+                i -> index(entries[i].employee().getId().hashCode(), shards.length));
+        IntStream.range(0, shards.length).parallel().forEach(shard -> {
+            for (final var i : byShard[shard]) {
+                shards[shard].byId.put(entries[i].employee().getId(), entries[i]);
+            }
+        });
+
+        final var keys = new String[entries.length];
+        IntStream.range(0, entries.length).parallel().forEach(i -> {
+            final var employee = entries[i].employee();
+            // Only the employee kept for each id is indexed
+            if (employee.getName() != null && shardOf(employee.getId()).byId.get(employee.getId()) == entries[i]) {
+                keys[i] = nameKey(employee.getName());
+            }
+        });
+        final var byStripe = bucket(
+                entries.length,
+                nameStripes.length,
+                i -> keys[i] == null ? -1 : index(keys[i].hashCode(), nameStripes.length));
+        IntStream.range(0, nameStripes.length).parallel().forEach(stripe -> {
+            for (final var i : byStripe[stripe]) {
+                nameStripes[stripe]
+                        .byName
+                        .computeIfAbsent(keys[i], ignored -> new TreeMap<>())
+                        .put(entries[i].sequence(), entries[i].employee().getId());
+            }
+        });
+
+        // Employees were numbered in order, so unless an id repeated the snapshot is the input itself
+        if (size() == entries.length) {
+            snapshot.set(new Snapshot(
+                    0,
+                    loadedAt,
+                    List.copyOf(employees),
+                    LongStream.rangeClosed(1, entries.length).toArray()));
+        }
+    }
+
+    /**
+     * @param bucketOf bucket of each index, or -1 to leave it out
+     * @return the indexes in each bucket, in ascending order
+     */
+    private static int[][] bucket(int count, int buckets, IntUnaryOperator bucketOf) {
+        final var assigned = new int[count];
+        final var sizes = new int[buckets];
+        for (var i = 0; i < count; i++) {
+            assigned[i] = bucketOf.applyAsInt(i);
+            if (assigned[i] >= 0) {
+                sizes[assigned[i]]++;
+            }
+        }
+        final var result = new int[buckets][];
+        for (var bucket = 0; bucket < buckets; bucket++) {
+            result[bucket] = new int[sizes[bucket]];
+            sizes[bucket] = 0;
+        }
+        for (var i = 0; i < count; i++) {
+            if (assigned[i] >= 0) {
+                result[assigned[i]][sizes[assigned[i]]++] = i;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return four shards per available processor, enough that writers rarely meet on the same shard
+     */
+    public static int defaultShardCount() {
+        return 4 * Runtime.getRuntime().availableProcessors();
+    }
+
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        return Optional.ofNullable(shardOf(id).byId.get(id)).map(Entry::employee);
+    }
+
+    public void add(@NonNull MockEmployee employee) {
+        Objects.requireNonNull(employee.getId(), "id");
+        final var shard = shardOf(employee.getId());
+        shard.lock.lock();
+        try {
+            final var entry = new Entry(sequence.incrementAndGet(), employee);
+            final var previous = shard.byId.put(employee.getId(), entry);
+            if (previous != null) {
+                unindexName(previous);
+            }
+            indexName(entry);
+            changed(next -> MockEmployeeChange.created(next, employee));
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the earliest added employee with the given name, ignoring case.
+     */
+    public Optional<MockEmployee> removeFirstByName(@NonNull String name) {
+        final var key = nameKey(name);
+        final var stripe = stripeOf(key);
+        while (true) {
+            final UUID id;
+            stripe.lock.lock();
+            try {
+                final var ids = stripe.byName.get(key);
+                if (ids == null || ids.isEmpty()) {
+                    return Optional.empty();
+                }
+                id = ids.firstEntry().getValue();
+            } finally {
+                stripe.lock.unlock();
+            }
+            // Shard locks are never taken while holding a stripe lock. An employee removed in between has already
+            // left the index once its shard lock is released, so the next pass finds the following one.
+            final var removed = remove(id);
+            if (removed.isPresent()) {
+                return removed;
+            }
+        }
+    }
+
+    public Optional<MockEmployee> remove(@NonNull UUID id) {
+        final var shard = shardOf(id);
+        shard.lock.lock();
+        try {
+            final var entry = shard.byId.remove(id);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            unindexName(entry);
+            changed(next -> MockEmployeeChange.deleted(next, entry.employee()));
+            return Optional.of(entry.employee());
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * @return an immutable view of all employees in insertion order
+     */
+    public List<MockEmployee> snapshot() {
+        return currentSnapshot().employees();
+    }
+
+    /**
+     * @return {@link #snapshot()} together with the roster version it was taken at
+     */
+    public Versioned<List<MockEmployee>> versionedSnapshot() {
+        final var current = currentSnapshot();
+        return new Versioned<>(current.employees(), tag(current), current.modifiedAt());
+    }
+
+    /**
+     * Returns up to {@code limit} employees added after the given cursor, in insertion order. Cursors are insertion
+     * sequence numbers, so paging stays consistent while employees are added or removed between pages.
+     *
+     * @param afterSequence cursor returned with the previous page, or 0 for the first page
+     */
+    public MockEmployeePage page(long afterSequence, int limit) {
+        return page(currentSnapshot(), afterSequence, limit);
+    }
+
+    /**
+     * @return {@link #page(long, int)} together with the roster version it was taken at
+     */
+    public Versioned<MockEmployeePage> versionedPage(long afterSequence, int limit) {
+        final var current = currentSnapshot();
+        return new Versioned<>(page(current, afterSequence, limit), tag(current), current.modifiedAt());
+    }
+
+    private static MockEmployeePage page(Snapshot current, long afterSequence, int limit) {
+        final var sequences = current.sequences();
+        var from = Arrays.binarySearch(sequences, afterSequence);
+        from = from >= 0 ? from + 1 : -from - 1;
+        final var to = (int) Math.min((long) from + limit, sequences.length);
+        final var employees = current.employees().subList(from, to);
+        final var hasMore = to < sequences.length && to > from;
+        return new MockEmployeePage(employees, hasMore ? Long.toString(sequences[to - 1]) : null);
+    }
+
+    private Snapshot currentSnapshot() {
+        final var current = snapshot.get();
+        final var currentVersion = version();
+        if (current.version() == currentVersion) {
+            return current;
+        }
+        // A write racing with the rebuild bumps the version again, so the next read rebuilds once more. Writes are
+        // not timestamped, so the rebuild stamps the roster with the time it first saw this version.
+        final var entries = Arrays.stream(shards)
+                .flatMap(shard -> shard.byId.values().stream())
+                .sorted(Comparator.comparingLong(Entry::sequence))
+                .toList();
+        final var rebuilt = new Snapshot(
+                currentVersion,
+                currentVersion == 0 ? loadedAt : Instant.now(),
+                entries.stream().map(Entry::employee).toList(),
+                entries.stream().mapToLong(Entry::sequence).toArray());
+        snapshot.compareAndSet(current, rebuilt);
+        return rebuilt;
+    }
+
+    /**
+     * @return a counter bumped by every add and remove
+     */
+    public long version() {
+        return changeLog.latestSequence();
+    }
+
+    public MockEmployeeChangeLog changeLog() {
+        return changeLog;
+    }
+
+    public int size() {
+        var size = 0;
+        for (final var shard : shards) {
+            size += shard.byId.size();
+        }
+        return size;
+    }
+
+    /**
+     * Numbers a change with the next roster version and records it; called while holding the changed employee's
+     * shard lock, after the change is visible in the shards.
+     */
+    private void changed(LongFunction<MockEmployeeChange> change) {
+        changeLog.append(change);
+    }
+
+    private String tag(Snapshot current) {
+        return Long.toHexString(epoch) + "-" + Long.toHexString(current.version());
+    }
+
+    private void indexName(Entry entry) {
+        if (entry.employee().getName() == null) {
+            return;
+        }
+        final var key = nameKey(entry.employee().getName());
+        final var stripe = stripeOf(key);
+        stripe.lock.lock();
+        try {
+            stripe.byName
+                    .computeIfAbsent(key, ignored -> new TreeMap<>())
+                    .put(entry.sequence(), entry.employee().getId());
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private void unindexName(Entry entry) {
+        if (entry.employee().getName() == null) {
+            return;
+        }
+        final var key = nameKey(entry.employee().getName());
+        final var stripe = stripeOf(key);
+        stripe.lock.lock();
+        try {
+            final var ids = stripe.byName.get(key);
+            if (ids != null) {
+                ids.remove(entry.sequence());
+                if (ids.isEmpty()) {
+                    stripe.byName.remove(key);
+                }
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private Shard shardOf(UUID id) {
+        return shards[index(id.hashCode(), shards.length)];
+    }
+
+    private NameStripe stripeOf(String key) {
+        return nameStripes[index(key.hashCode(), nameStripes.length)];
+    }
+
+    /**
+     * Picks a shard from the high bits of a multiplicative hash. The low bits pick the bucket inside each shard's hash
+     * map, so choosing shards by them would leave most buckets of every shard unused.
+     */
+    private static int index(int hash, int length) {
+        return (int) ((((hash * 0x9E3779B9L) & 0xFFFFFFFFL) * length) >>> 32);
+    }
+
+    private static String nameKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(long sequence, MockEmployee employee) {}
+
+    private static final class Shard {
+        private final Map<UUID, Entry> byId;
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private Shard(int expectedSize) {
+            this.byId = new ConcurrentHashMap<>(expectedSize);
+        }
+    }
+
+    private static final class NameStripe {
+        // Guarded by lock
+        private final Map<String, NavigableMap<Long, UUID>> byName;
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private NameStripe(int expectedSize) {
+            this.byName = HashMap.newHashMap(expectedSize);
+        }
+    }
+
+    private record Snapshot(long version, Instant modifiedAt, List<MockEmployee> employees, long[] sequences) {}
+}
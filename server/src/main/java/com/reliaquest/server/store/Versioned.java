@@ -0,0 +1,11 @@
+package com.reliaquest.server.store;
+
+import java.time.Instant;
+
+/**
+ * A value read from the {@link MockEmployeeStore} together with the roster version it was read at.
+ *
+ * @param tag opaque validator that changes with every add and remove, and differs between store instances
+ * @param modifiedAt when the roster last changed, as of this read
+ */
+public record Versioned<T>(T value, String tag, Instant modifiedAt) {}
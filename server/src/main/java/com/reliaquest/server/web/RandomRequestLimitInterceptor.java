@@ -14,32 +14,45 @@ public class RandomRequestLimitInterceptor implements HandlerInterceptor {
 
     private static final Random RANDOM = new Random();
 
-    private static final int REQUEST_LIMIT = RANDOM.nextInt(5, 10); // 5 to 9 inclusive
-    private static final Duration REQUEST_BACKOFF_DURATION =
-            Duration.ofSeconds(RANDOM.nextInt(30, 90)); // 30 to 89 seconds
+    private final int requestLimit;
+    private final Duration requestBackoffDuration;
 
-    private final AtomicReference<RequestLimit> requestLimit = new AtomicReference<>(RequestLimit.init());
+    private final AtomicReference<RequestLimit> currentLimit = new AtomicReference<>(RequestLimit.init());
+
+    public RandomRequestLimitInterceptor() {
+        this(0, null);
+    }
+
+    /**
+     * @param requestLimit requests allowed before rate limiting starts, or 0 for a random limit of 5 to 9
+     * @param requestBackoffDuration how long requests are rejected once the limit is reached, or null for a random
+     *     30 to 89 seconds
+     */
+    public RandomRequestLimitInterceptor(int requestLimit, Duration requestBackoffDuration) {
+        this.requestLimit = requestLimit > 0 ? requestLimit : RANDOM.nextInt(5, 10);
+        this.requestBackoffDuration =
+                requestBackoffDuration != null ? requestBackoffDuration : Duration.ofSeconds(RANDOM.nextInt(30, 90));
+    }
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        RequestLimit current = requestLimit.get();
-        if (current.count() >= REQUEST_LIMIT) {
-            Instant threshold = Instant.now().minus(REQUEST_BACKOFF_DURATION);
+        RequestLimit current = currentLimit.get();
+        if (current.count() >= requestLimit) {
+            Instant threshold = Instant.now().minus(requestBackoffDuration);
             if (threshold.isBefore(current.lastRequested())) {
                 response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
                 return false;
             } else {
-                requestLimit.set(RequestLimit.init());
+                currentLimit.set(RequestLimit.init());
             }
         } else {
-            requestLimit.getAndUpdate(
+            currentLimit.getAndUpdate(
                     currentRequestLimit -> new RequestLimit(currentRequestLimit.count() + 1, Instant.now()));
         }
 
         return true;
     }
 
-
     private record RequestLimit(@Getter int count, @Getter Instant lastRequested) {
         public static RequestLimit init() {
             return new RequestLimit(0, Instant.now());
@@ -0,0 +1,223 @@
+package com.reliaquest.server.controller;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.service.MockEmployeeChangeStream;
+import com.reliaquest.server.service.MockEmployeeService;
+import java.util.ArrayList;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+@WebMvcTest(
+        controllers = MockEmployeeController.class,
+        properties = {
+            "mock.requests.limit.enabled=false",
+            "mock.employees.seed=42",
+            "mock.employees.max=5",
+            "mock.employees.batch.max-size=3"
+        })
+@Import({MockEmployeeService.class, MockEmployeeChangeStream.class})
+class MockEmployeeControllerTest {
+
+    private static final String PATH = "/api/v1/employee";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testCreatedEmployeeIsFoundByIdUntilDeleted() throws Exception {
+        final var id = create("Stored Employee");
+
+        mockMvc.perform(get(PATH + "/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.employee_name").value("Stored Employee"));
+        mockMvc.perform(delete(PATH + "/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(id));
+        mockMvc.perform(get(PATH + "/{id}", id)).andExpect(status().isNotFound());
+        mockMvc.perform(get(PATH)).andExpect(jsonPath("$.data[*].id", not(hasItem(id))));
+    }
+
+    @Test
+    void testPagingReachesEveryEmployeeAndStopsPastTheEnd() throws Exception {
+        final var roster = read(mockMvc.perform(get(PATH))).get("data");
+        final var paged = new ArrayList<String>();
+        String cursor = null;
+        String lastCursor = null;
+        do {
+            final var request = get(PATH).param("limit", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+                lastCursor = cursor;
+            }
+            final var page =
+                    read(mockMvc.perform(request).andExpect(status().isOk())).get("data");
+            page.get("employees")
+                    .forEach(employee -> paged.add(employee.get("id").asText()));
+            cursor = page.hasNonNull("nextCursor") ? page.get("nextCursor").asText() : null;
+        } while (cursor != null);
+
+        final var expected = new ArrayList<String>();
+        roster.forEach(employee -> expected.add(employee.get("id").asText()));
+        assertEquals(expected, paged);
+
+        final var pastTheEnd = Long.toString(Long.parseLong(lastCursor) + 1_000_000);
+        mockMvc.perform(get(PATH).param("limit", "2").param("cursor", pastTheEnd))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.employees").isEmpty())
+                .andExpect(jsonPath("$.data.nextCursor").doesNotExist());
+        mockMvc.perform(get(PATH).param("limit", "2").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get(PATH).param("limit", "1001")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testCreateBatchReportsInvalidItemsAndCreatesTheRest() throws Exception {
+        final var body = "[" + input("Batch Employee") + ", {\"name\": \" \", \"salary\": -1, \"age\": 80}, null]";
+
+        mockMvc.perform(post(PATH + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(3))
+                .andExpect(jsonPath("$.data[0].data.employee_name").value("Batch Employee"))
+                .andExpect(jsonPath("$.data[0].error").doesNotExist())
+                .andExpect(jsonPath("$.data[1].data").doesNotExist())
+                .andExpect(jsonPath(
+                        "$.data[1].error",
+                        allOf(
+                                containsString("age must be less than or equal to 75"),
+                                containsString("name must not be blank"),
+                                containsString("salary must be greater than 0"),
+                                containsString("title must not be blank"))))
+                .andExpect(jsonPath("$.data[2].error").value("must not be null"));
+
+        mockMvc.perform(get(PATH)).andExpect(jsonPath("$.data[*].employee_name", hasItem("Batch Employee")));
+    }
+
+    @Test
+    void testBatchesOverTheMaximumSizeAreRejected() throws Exception {
+        final var body = "[" + input("A") + ", " + input("B") + ", " + input("C") + ", " + input("D") + "]";
+
+        mockMvc.perform(post(PATH + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("batch must not contain more than 3 items"));
+        mockMvc.perform(get(PATH)).andExpect(jsonPath("$.data[*].employee_name", not(hasItem("A"))));
+    }
+
+    @Test
+    void testDeleteBatchReportsInvalidAndUnknownNames() throws Exception {
+        create("Deleted In Batch");
+
+        mockMvc.perform(delete(PATH + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"name\": \"deleted in batch\"}, {\"name\": \"\"}, {\"name\": \"Nobody\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].data.employee_name").value("Deleted In Batch"))
+                .andExpect(jsonPath("$.data[1].error").value("name must not be blank"))
+                .andExpect(jsonPath("$.data[2].error").value("No employee named Nobody"));
+    }
+
+    @Test
+    void testDeleteUnknownIdIsNotFound() throws Exception {
+        mockMvc.perform(delete(PATH + "/{id}", UUID.randomUUID()))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.data").doesNotExist());
+    }
+
+    @Test
+    void testGetEmployeesAnswersNotModifiedWhileTagMatches() throws Exception {
+        final var etag = mockMvc.perform(get(PATH))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, startsWith("W/\"")))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(PATH).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        create("Conditional Employee");
+
+        mockMvc.perform(get(PATH).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                .andExpect(jsonPath("$.data[*].employee_name", hasItem("Conditional Employee")));
+    }
+
+    @Test
+    void testChangesSinceSequence() throws Exception {
+        final var latest = read(mockMvc.perform(get(PATH + "/changes")))
+                .get("data")
+                .get("latestSequence")
+                .asLong();
+
+        final var id = create("Changed Employee");
+
+        mockMvc.perform(get(PATH + "/changes").param("since", Long.toString(latest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.truncated").value(false))
+                .andExpect(jsonPath("$.data.sequence").value(latest + 1))
+                .andExpect(jsonPath("$.data.changes.length()").value(1))
+                .andExpect(jsonPath("$.data.changes[0].type").value("CREATED"))
+                .andExpect(jsonPath("$.data.changes[0].id").value(id))
+                .andExpect(jsonPath("$.data.changes[0].employee.employee_name").value("Changed Employee"));
+        mockMvc.perform(get(PATH + "/changes").param("limit", "0")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testChangeStreamSubscriberReceivesCreate() throws Exception {
+        final var stream = mockMvc.perform(get(PATH + "/changes/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var id = create("Streamed Employee");
+
+        final var deadline = System.nanoTime() + 5_000_000_000L;
+        var events = stream.getResponse().getContentAsString();
+        while (!events.contains(id) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            events = stream.getResponse().getContentAsString();
+        }
+        assertTrue(events.contains("event:CREATED"), events);
+        assertTrue(events.contains("\"employee_name\":\"Streamed Employee\""), events);
+        assertTrue(events.contains("\"id\":\"" + id + "\""), events);
+    }
+
+    private String create(String name) throws Exception {
+        return read(mockMvc.perform(post(PATH)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(input(name)))
+                        .andExpect(status().isOk()))
+                .get("data")
+                .get("id")
+                .asText();
+    }
+
+    private JsonNode read(ResultActions result) throws Exception {
+        return objectMapper.readTree(result.andReturn().getResponse().getContentAsString());
+    }
+
+    private static String input(String name) {
+        return "{\"name\": \"%s\", \"salary\": 50000, \"age\": 30, \"title\": \"Engineer\"}".formatted(name);
+    }
+}
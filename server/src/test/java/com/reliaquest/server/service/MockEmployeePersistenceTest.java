@@ -0,0 +1,130 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.MockEmployeeJournal;
+import com.reliaquest.server.store.MockEmployeeSnapshotFile;
+import com.reliaquest.server.store.MockEmployeeStore;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MockEmployeePersistenceTest {
+
+    private static final long SEED = 42;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRosterIsRestoredFromSnapshotAndJournal() throws Exception {
+        final var persistence = new MockEmployeePersistence(directory);
+        assertTrue(persistence.load().isEmpty());
+        final var store = new MockEmployeeStore(new MockEmployeeSeeder(SEED).generate(100));
+        persistence.start(store, SEED);
+
+        final var created = store.snapshot().get(0).toBuilder()
+                .id(MockEmployee.randomId())
+                .name("Journaled Employee")
+                .build();
+        store.add(created);
+        assertTrue(store.remove(store.snapshot().get(1).getId()).isPresent());
+        final var expected = store.snapshot();
+
+        // Read back while the first instance still runs, as after a crash: the journal holds both changes
+        final var restored = awaitRoster(expected);
+        assertEquals(SEED, restored.seed());
+        assertTrue(MockEmployeeJournal.hasRecords(directory.resolve("roster.journal")));
+
+        persistence.close();
+        final var compacted = new MockEmployeePersistence(directory).load().orElseThrow();
+        assertEquals(expected, compacted.employees());
+        assertFalse(MockEmployeeJournal.hasRecords(directory.resolve("roster.journal")));
+    }
+
+    @Test
+    void testCrashWithATornLastRecordRestoresTheChangesBeforeIt() throws Exception {
+        crashWithCorruptLastRecord(file -> {
+            try (final var channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(channel.size() - 3);
+            }
+        });
+    }
+
+    @Test
+    void testCrashWithAGarbledLastRecordRestoresTheChangesBeforeIt() throws Exception {
+        crashWithCorruptLastRecord(file -> {
+            // The last byte of a delete record is part of its id, so this only fails the record's checksum
+            try (final var channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                final var position = channel.size() - 1;
+                final var bytes = ByteBuffer.allocate(1);
+                channel.read(bytes, position);
+                channel.write(bytes.put(0, (byte) ~bytes.get(0)).rewind(), position);
+            }
+        });
+    }
+
+    private void crashWithCorruptLastRecord(JournalDamage damage) throws Exception {
+        final var persistence = new MockEmployeePersistence(directory);
+        final var store = new MockEmployeeStore(new MockEmployeeSeeder(SEED).generate(10));
+        persistence.start(store, SEED);
+        store.add(store.snapshot().get(0).toBuilder()
+                .id(MockEmployee.randomId())
+                .name("Journaled Employee")
+                .build());
+        final var beforeLastChange = awaitRoster(store.snapshot());
+        assertTrue(store.remove(store.snapshot().get(1).getId()).isPresent());
+        awaitRoster(store.snapshot());
+
+        // The first instance is never closed, as in a crash, and the write of its last record is damaged
+        damage.apply(journal());
+        final var restored = load().orElseThrow();
+        assertEquals(beforeLastChange.employees(), restored.employees());
+        assertEquals(SEED, restored.seed());
+
+        // The restarted server journals past the damaged record, so its own changes survive the next crash too
+        final var restarted = new MockEmployeePersistence(directory);
+        final var restartedStore =
+                new MockEmployeeStore(restarted.load().orElseThrow().employees());
+        restarted.start(restartedStore, SEED);
+        restartedStore.add(restartedStore.snapshot().get(0).toBuilder()
+                .id(MockEmployee.randomId())
+                .name("Journaled After Restart")
+                .build());
+        awaitRoster(restartedStore.snapshot());
+        restarted.close();
+    }
+
+    private MockEmployeeSnapshotFile.Contents awaitRoster(List<MockEmployee> expected) throws Exception {
+        final var deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (true) {
+            final Optional<MockEmployeeSnapshotFile.Contents> contents = load();
+            if (contents.isPresent() && contents.get().employees().equals(expected)) {
+                return contents.get();
+            }
+            assertTrue(System.nanoTime() < deadline, "journal did not catch up with the store");
+            Thread.sleep(20);
+        }
+    }
+
+    private Optional<MockEmployeeSnapshotFile.Contents> load() throws IOException {
+        return new MockEmployeePersistence(directory).load();
+    }
+
+    private Path journal() {
+        return directory.resolve("roster.journal");
+    }
+
+    @FunctionalInterface
+    private interface JournalDamage {
+        void apply(Path journal) throws IOException;
+    }
+}
@@ -0,0 +1,49 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeSeederTest {
+
+    // More than two chunks, so chunks generated on different threads are compared too
+    private static final int COUNT = 2 * MockEmployeeSeeder.CHUNK_SIZE + 100;
+
+    @Test
+    void testSameSeedYieldsIdenticalRoster() {
+        final var first = new MockEmployeeSeeder(42).generate(COUNT);
+        final var second = new MockEmployeeSeeder(42).generate(COUNT);
+
+        assertEquals(COUNT, first.size());
+        assertEquals(first, second);
+    }
+
+    @Test
+    void testSameSeedYieldsIdenticalRosterWhateverTheDefaultLocale() {
+        final var english = new MockEmployeeSeeder(42).generate(COUNT);
+        final var defaultLocale = Locale.getDefault();
+        final List<MockEmployee> turkish;
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+            turkish = new MockEmployeeSeeder(42).generate(COUNT);
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+
+        assertEquals(english, turkish);
+    }
+
+    @Test
+    void testDifferentSeedYieldsDifferentRoster() {
+        final var first = new MockEmployeeSeeder(42).generate(COUNT);
+        final var second = new MockEmployeeSeeder(43).generate(COUNT);
+
+        assertNotEquals(first, second);
+        assertNotEquals(
+                first.stream().map(MockEmployee::getId).toList(),
+                second.stream().map(MockEmployee::getId).toList());
+    }
+}
@@ -0,0 +1,108 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MockEmployeeJournalTest {
+
+    private static final long GENERATION = 7;
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+    private final MockEmployee snapshotted = employee("Ada Lovelace");
+    private final MockEmployee first = employee("Grace Hopper");
+    private final MockEmployee second = employee("Alan Turing");
+    private final MockEmployee third = employee("Edsger Dijkstra");
+
+    @BeforeEach
+    void setUp() {
+        file = directory.resolve("roster.journal");
+    }
+
+    @Test
+    void testReplayAppliesCreatesAndDeletesInOrder() throws IOException {
+        try (final var journal = MockEmployeeJournal.create(file, GENERATION)) {
+            journal.append(List.of(MockEmployeeChange.created(1, first), MockEmployeeChange.created(2, second)));
+            journal.append(List.of(MockEmployeeChange.deleted(3, snapshotted)));
+        }
+
+        final var roster = roster();
+        assertEquals(3, MockEmployeeJournal.replay(file, GENERATION, roster));
+        assertEquals(List.of(first, second), List.copyOf(roster.values()));
+    }
+
+    @Test
+    void testReplayKeepsRecordsBeforeATornTail() throws IOException {
+        try (final var journal = MockEmployeeJournal.create(file, GENERATION)) {
+            journal.append(List.of(MockEmployeeChange.created(1, first), MockEmployeeChange.created(2, second)));
+        }
+        try (final var channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 5);
+        }
+
+        final var roster = roster();
+        assertEquals(1, MockEmployeeJournal.replay(file, GENERATION, roster));
+        assertEquals(List.of(snapshotted, first), List.copyOf(roster.values()));
+    }
+
+    @Test
+    void testReplayStopsAtTheFirstRecordFailingItsChecksum() throws IOException {
+        final long firstEnd;
+        try (final var journal = MockEmployeeJournal.create(file, GENERATION)) {
+            journal.append(List.of(MockEmployeeChange.created(1, first)));
+            firstEnd = Files.size(file);
+            journal.append(List.of(MockEmployeeChange.created(2, second)));
+            journal.append(List.of(MockEmployeeChange.created(3, third)));
+        }
+        // Flips a byte of the second record's id, leaving its length and the third record intact
+        try (final var channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final var position = firstEnd + 8 + 3;
+            final var bytes = ByteBuffer.allocate(1);
+            channel.read(bytes, position);
+            channel.write(bytes.put(0, (byte) (bytes.get(0) ^ 0x40)).rewind(), position);
+        }
+
+        final var roster = roster();
+        assertEquals(1, MockEmployeeJournal.replay(file, GENERATION, roster));
+        assertEquals(List.of(snapshotted, first), List.copyOf(roster.values()));
+    }
+
+    @Test
+    void testJournalOfAnotherGenerationIsNotReplayed() throws IOException {
+        try (final var journal = MockEmployeeJournal.create(file, GENERATION)) {
+            journal.append(List.of(MockEmployeeChange.created(1, first)));
+        }
+
+        final var roster = roster();
+        assertTrue(MockEmployeeJournal.hasRecords(file));
+        assertEquals(-1, MockEmployeeJournal.replay(file, GENERATION + 1, roster));
+        assertEquals(List.of(snapshotted), List.copyOf(roster.values()));
+    }
+
+    private Map<UUID, MockEmployee> roster() {
+        final var roster = new LinkedHashMap<UUID, MockEmployee>();
+        roster.put(snapshotted.getId(), snapshotted);
+        return roster;
+    }
+
+    private static MockEmployee employee(String name) {
+        return new MockEmployee(MockEmployee.randomId(), name, 90_000, 40, null, "someone@company.com");
+    }
+}
@@ -0,0 +1,149 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeStoreTest {
+
+    private static final int WRITERS = 8;
+    private static final int ADDS_PER_WRITER = 2_000;
+
+    @Test
+    void testConcurrentWritesAreNumberedContiguouslyAndInOrderPerEmployee() throws Exception {
+        final var store = new MockEmployeeStore(List.of(employee("Seeded")), 100_000, 4);
+        final var kept = ConcurrentHashMap.<UUID>newKeySet();
+
+        runConcurrently(writer -> {
+            for (var i = 0; i < ADDS_PER_WRITER; i++) {
+                final var employee = employee("Writer " + writer + " #" + i);
+                store.add(employee);
+                if (i % 2 == 0) {
+                    assertTrue(store.remove(employee.getId()).isPresent());
+                } else {
+                    kept.add(employee.getId());
+                }
+            }
+        });
+
+        final var expectedChanges = WRITERS * ADDS_PER_WRITER * 3 / 2;
+        assertEquals(expectedChanges, store.version());
+        assertEquals(1 + kept.size(), store.size());
+        assertEquals(1 + kept.size(), store.snapshot().size());
+        assertTrue(store.snapshot().stream().skip(1).allMatch(employee -> kept.contains(employee.getId())));
+
+        final var changes = store.changeLog().since(0L, expectedChanges).changes();
+        assertEquals(expectedChanges, changes.size());
+        final var created = new HashSet<UUID>();
+        for (var i = 0; i < changes.size(); i++) {
+            final var change = changes.get(i);
+            assertEquals(i + 1, change.sequence());
+            if (change.type() == MockEmployeeChange.Type.CREATED) {
+                assertTrue(created.add(change.id()));
+            } else {
+                assertTrue(created.remove(change.id()), "deleted before it was created: " + change.id());
+            }
+        }
+        assertEquals(kept, created);
+    }
+
+    @Test
+    void testReadersSeeContiguousChangesWhileTheLogWrapsAround() throws Exception {
+        final var store = new MockEmployeeStore(List.of(), 64, 4);
+
+        final var reader = Executors.newSingleThreadExecutor();
+        final Future<Integer> read = reader.submit(() -> {
+            var seen = 0L;
+            var batches = 0;
+            while (seen < WRITERS * ADDS_PER_WRITER) {
+                final var changes = store.changeLog().since(seen, 32);
+                if (changes.truncated()) {
+                    seen = store.changeLog().latestSequence();
+                    continue;
+                }
+                for (final var change : changes.changes()) {
+                    assertEquals(++seen, change.sequence());
+                }
+                batches++;
+            }
+            return batches;
+        });
+        runConcurrently(writer -> {
+            for (var i = 0; i < ADDS_PER_WRITER; i++) {
+                store.add(employee("Writer " + writer + " #" + i));
+            }
+        });
+
+        assertTrue(read.get() > 0);
+        reader.shutdown();
+        assertEquals(WRITERS * ADDS_PER_WRITER, store.version());
+        assertEquals(
+                64, store.changeLog().since(store.version() - 64, 100).changes().size());
+        assertTrue(store.changeLog().since(store.version() - 65, 100).truncated());
+    }
+
+    @Test
+    void testVersionedSnapshotIsRebuiltOnlyAfterAChange() {
+        final var store = new MockEmployeeStore(List.of(employee("Ada"), employee("Grace")), 10, 2);
+
+        final var loaded = store.versionedSnapshot();
+        assertSame(loaded.value(), store.versionedSnapshot().value());
+        assertEquals(loaded.tag(), store.versionedSnapshot().tag());
+
+        assertTrue(store.removeFirstByName("ada").isPresent());
+        final var changed = store.versionedSnapshot();
+        assertNotEquals(loaded.tag(), changed.tag());
+        assertEquals(
+                List.of("Grace"),
+                changed.value().stream().map(MockEmployee::getName).toList());
+        assertFalse(changed.modifiedAt().isBefore(loaded.modifiedAt()));
+    }
+
+    private static void runConcurrently(WriterTask task) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        try {
+            final var start = new CountDownLatch(1);
+            final var futures = new ArrayList<Future<?>>();
+            IntStream.range(0, WRITERS)
+                    .forEach(writer -> futures.add(executor.submit(() -> {
+                        start.await();
+                        task.run(writer);
+                        return null;
+                    })));
+            start.countDown();
+            for (final var future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(MockEmployee.randomId())
+                .name(name)
+                .salary(50_000)
+                .age(30)
+                .title("Engineer")
+                .email(name.replace(' ', '.') + "@company.com")
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface WriterTask {
+        void run(int writer);
+    }
+}